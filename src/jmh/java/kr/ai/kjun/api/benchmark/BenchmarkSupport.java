@@ -0,0 +1,105 @@
+package kr.ai.kjun.api.benchmark;
+
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ai.kjun.api.metrics.StageMetrics;
+import kr.ai.kjun.api.services.oauthservice.jwt.JwtProperties;
+import kr.ai.kjun.api.services.oauthservice.jwt.JwtTokenCodec;
+import kr.ai.kjun.api.services.oauthservice.jwt.TokenGenerationService;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 벤치마크 공용 구성
+ * Spring 컨텍스트 없이 운영 코드와 같은 객체를 직접 생성 (RedisConfig, GatewayJwtConfig와 동일한 설정)
+ */
+final class BenchmarkSupport {
+
+    // HS512 키 (64바이트 이상)
+    static final String SECRET = "benchmark-secret-key-benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private BenchmarkSupport() {
+    }
+
+    static JwtProperties jwtProperties() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setExpiration(86_400_000L);
+        properties.setRefreshExpiration(604_800_000L);
+        return properties;
+    }
+
+    static JwtTokenCodec jwtTokenCodec() {
+        return new JwtTokenCodec(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), stageMetrics());
+    }
+
+    static TokenGenerationService tokenGenerationService(EmbeddedRedis redis, JwtProperties jwtProperties) {
+        return new TokenGenerationService(redis.redisTemplate, redis.listenerContainer, jwtProperties, stageMetrics());
+    }
+
+    // 운영과 같이 단계별 타이머 기록 비용을 포함하여 측정
+    static StageMetrics stageMetrics() {
+        return new StageMetrics(new SimpleMeterRegistry());
+    }
+
+    /**
+     * 내장 Redis 서버와 연결 객체 묶음
+     * Upstash 대신 로컬 프로세스를 사용하므로 네트워크 지연은 제외하고 클라이언트/직렬화 비용만 측정
+     */
+    static final class EmbeddedRedis implements AutoCloseable {
+
+        final RedisServer server;
+        final LettuceConnectionFactory connectionFactory;
+        final RedisTemplate<String, String> redisTemplate;
+        final RedisMessageListenerContainer listenerContainer;
+
+        EmbeddedRedis() throws IOException {
+            int port = freePort();
+            this.server = new RedisServer(port);
+            server.start();
+
+            this.connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+            connectionFactory.afterPropertiesSet();
+            connectionFactory.start();
+
+            this.redisTemplate = new RedisTemplate<>();
+            redisTemplate.setConnectionFactory(connectionFactory);
+            redisTemplate.setKeySerializer(new StringRedisSerializer());
+            redisTemplate.setValueSerializer(new StringRedisSerializer());
+            redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+            redisTemplate.setHashValueSerializer(new StringRedisSerializer());
+            redisTemplate.afterPropertiesSet();
+
+            this.listenerContainer = new RedisMessageListenerContainer();
+            listenerContainer.setConnectionFactory(connectionFactory);
+            listenerContainer.afterPropertiesSet();
+            listenerContainer.start();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                listenerContainer.stop();
+                listenerContainer.destroy();
+            } catch (Exception e) {
+                // 종료 중 오류는 무시
+            }
+            connectionFactory.destroy();
+            server.stop();
+        }
+
+        private static int freePort() throws IOException {
+            try (ServerSocket socket = new ServerSocket(0)) {
+                return socket.getLocalPort();
+            }
+        }
+    }
+}
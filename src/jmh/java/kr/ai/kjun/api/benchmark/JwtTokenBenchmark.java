@@ -0,0 +1,65 @@
+package kr.ai.kjun.api.benchmark;
+
+import io.jsonwebtoken.Claims;
+import kr.ai.kjun.api.services.oauthservice.jwt.JwtProperties;
+import kr.ai.kjun.api.services.oauthservice.jwt.JwtTokenProvider;
+import kr.ai.kjun.api.services.oauthservice.jwt.TokenGenerationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+
+/**
+ * JWT 발급/검증 벤치마크
+ * JwtTokenProvider의 generateToken, validateToken, getAllClaims (서명 + 파싱 비용)
+ * 및 필터의 토큰 세대 비교 (로컬 캐시 적중 경로)
+ */
+@State(Scope.Benchmark)
+public class JwtTokenBenchmark {
+
+    private BenchmarkSupport.EmbeddedRedis redis;
+    private JwtTokenProvider jwtTokenProvider;
+    private TokenGenerationService tokenGenerationService;
+    private String token;
+    private Claims claims;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        redis = new BenchmarkSupport.EmbeddedRedis();
+
+        JwtProperties jwtProperties = BenchmarkSupport.jwtProperties();
+        tokenGenerationService = BenchmarkSupport.tokenGenerationService(redis, jwtProperties);
+        jwtTokenProvider = new JwtTokenProvider(jwtProperties, BenchmarkSupport.jwtTokenCodec(), tokenGenerationService);
+        token = jwtTokenProvider.generateToken(1L, "bench@example.com", "bench");
+        claims = jwtTokenProvider.getAllClaims(token);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        redis.close();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtTokenProvider.generateToken(1L, "bench@example.com", "bench");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Claims getAllClaims() {
+        return jwtTokenProvider.getAllClaims(token);
+    }
+
+    @Benchmark
+    public boolean isCurrentGeneration() {
+        return tokenGenerationService.isCurrent(claims);
+    }
+}
@@ -0,0 +1,71 @@
+package kr.ai.kjun.api.benchmark;
+
+import kr.ai.kjun.api.services.oauthservice.jwt.RefreshTokenService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Refresh Token 벤치마크 (내장 Redis)
+ * 기기별 패밀리 교체(rotateRefreshToken, Lua 스크립트 1회 왕복), 교체 없는 검증(HGET),
+ * 로그인 시 패밀리 발급(만료 정리 + 기기 수 제한 포함)을 측정
+ */
+@State(Scope.Benchmark)
+public class RefreshTokenBenchmark {
+
+    private BenchmarkSupport.EmbeddedRedis redis;
+    private RefreshTokenService refreshTokenService;
+    private final AtomicLong userIds = new AtomicLong();
+
+    /**
+     * 스레드마다 다른 사용자의 현재 Refresh Token을 유지
+     */
+    @State(Scope.Thread)
+    public static class UserSession {
+
+        Long userId;
+        String refreshToken;
+
+        @Setup(Level.Trial)
+        public void setUp(RefreshTokenBenchmark benchmark) {
+            userId = benchmark.userIds.incrementAndGet();
+            refreshToken = benchmark.refreshTokenService.generateAndSaveRefreshToken(userId);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        redis = new BenchmarkSupport.EmbeddedRedis();
+        refreshTokenService = new RefreshTokenService(
+                redis.redisTemplate, BenchmarkSupport.jwtProperties(), BenchmarkSupport.stageMetrics());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        redis.close();
+    }
+
+    @Benchmark
+    public String rotate(UserSession session) {
+        String rotated = refreshTokenService.rotateRefreshToken(session.userId, session.refreshToken);
+        session.refreshToken = rotated;
+        return rotated;
+    }
+
+    @Benchmark
+    public boolean validate(UserSession session) {
+        return refreshTokenService.validateRefreshToken(session.userId, session.refreshToken);
+    }
+
+    // 반복 로그인이므로 기기 수 제한에 걸려 매번 가장 오래된 기기 하나를 제거하는 경로까지 포함
+    @Benchmark
+    public String issue(UserSession session) {
+        return refreshTokenService.generateAndSaveRefreshToken(session.userId);
+    }
+}
@@ -0,0 +1,107 @@
+package kr.ai.kjun.api.benchmark;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ai.kjun.api.metrics.StageMetrics;
+import kr.ai.kjun.api.services.oauthservice.jwt.BlacklistNearCache;
+import kr.ai.kjun.api.services.oauthservice.jwt.JwtProperties;
+import kr.ai.kjun.api.services.oauthservice.jwt.JwtTokenCodec;
+import kr.ai.kjun.api.services.oauthservice.jwt.JwtTokenProvider;
+import kr.ai.kjun.api.services.oauthservice.jwt.RevokedTokenBloomFilter;
+import kr.ai.kjun.api.services.oauthservice.jwt.TokenBlacklistService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+
+/**
+ * 블랙리스트 확인 벤치마크 (내장 Redis)
+ *
+ * mode 파라미터로 조회 경로 비교
+ * - redis: 로컬 캐시/Bloom 필터 없이 매번 Redis GET
+ * - near-cache: 정확한 로컬 jti 집합만 사용
+ * - bloom: Bloom 필터 사전 검사 + 로컬 jti 집합 (기본 설정)
+ *
+ * 블랙리스트에 없는 토큰(대부분의 요청)과 있는 토큰을 각각 측정
+ */
+@State(Scope.Benchmark)
+public class TokenBlacklistBenchmark {
+
+    // 사전 적재할 블랙리스트 항목 수
+    private static final int PRELOADED = 10_000;
+
+    @Param({"redis", "near-cache", "bloom"})
+    public String mode;
+
+    private BenchmarkSupport.EmbeddedRedis redis;
+    private TokenBlacklistService tokenBlacklistService;
+    private JwtTokenCodec jwtTokenCodec;
+    private String activeToken;
+    private String revokedToken;
+    private Claims activeClaims;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        redis = new BenchmarkSupport.EmbeddedRedis();
+
+        JwtProperties jwtProperties = BenchmarkSupport.jwtProperties();
+        jwtProperties.getBlacklist().setNearCacheEnabled(!"redis".equals(mode));
+        jwtProperties.getBlacklist().setBloomFilterEnabled("bloom".equals(mode));
+
+        jwtTokenCodec = BenchmarkSupport.jwtTokenCodec();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BlacklistNearCache nearCache = new BlacklistNearCache(
+                redis.redisTemplate,
+                redis.listenerContainer,
+                jwtProperties,
+                new RevokedTokenBloomFilter(jwtProperties, meterRegistry));
+        tokenBlacklistService = new TokenBlacklistService(
+                redis.redisTemplate, jwtProperties, jwtTokenCodec, nearCache,
+                new StageMetrics(meterRegistry), meterRegistry);
+
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(
+                jwtProperties, jwtTokenCodec, BenchmarkSupport.tokenGenerationService(redis, jwtProperties));
+        for (int i = 0; i < PRELOADED; i++) {
+            tokenBlacklistService.addToBlacklist(jwtTokenProvider.generateToken((long) i, "revoked@example.com", "revoked"));
+        }
+        revokedToken = jwtTokenProvider.generateToken(-1L, "revoked@example.com", "revoked");
+        tokenBlacklistService.addToBlacklist(revokedToken);
+
+        activeToken = jwtTokenProvider.generateToken(1L, "bench@example.com", "bench");
+        activeClaims = jwtTokenCodec.parse(activeToken);
+
+        // 운영에서는 ApplicationReadyEvent에서 실행됨
+        nearCache.warmUp();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        redis.close();
+    }
+
+    /**
+     * 필터 경로: 이미 검증된 Claims로 확인 (서명 검증 제외)
+     */
+    @Benchmark
+    public boolean notBlacklistedClaims() {
+        return tokenBlacklistService.isBlacklisted(activeClaims);
+    }
+
+    /**
+     * 토큰 문자열로 확인 (서명 검증 포함)
+     */
+    @Benchmark
+    public boolean notBlacklistedToken() {
+        return tokenBlacklistService.isBlacklisted(activeToken);
+    }
+
+    @Benchmark
+    public boolean blacklistedToken() {
+        return tokenBlacklistService.isBlacklisted(revokedToken);
+    }
+}
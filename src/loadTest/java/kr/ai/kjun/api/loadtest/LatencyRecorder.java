@@ -0,0 +1,54 @@
+package kr.ai.kjun.api.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 단계(stage)별 지연 시간과 오류 수 기록
+ * 측정 구간(step)마다 새로 만들어 사용
+ */
+public class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int size = 0;
+    private final LongAdder errors = new LongAdder();
+
+    public synchronized void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    public void error() {
+        errors.increment();
+    }
+
+    public synchronized int count() {
+        return size;
+    }
+
+    public long errors() {
+        return errors.sum();
+    }
+
+    public double errorRate() {
+        long total = count() + errors();
+        return total == 0 ? 0 : (double) errors() / total;
+    }
+
+    /**
+     * 백분위수 지연 시간 (ms)
+     *
+     * @param percentile 0 ~ 100
+     */
+    public synchronized double percentileMillis(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+        return sorted[Math.max(0, Math.min(index, size - 1))] / 1_000_000.0;
+    }
+}
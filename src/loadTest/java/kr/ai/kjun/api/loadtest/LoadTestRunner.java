@@ -0,0 +1,295 @@
+package kr.ai.kjun.api.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.ai.kjun.api.ApiApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 로그인 전체 흐름 부하 테스트
+ * /oauth/{provider}/callback -> 사용자 upsert -> JWT 발급 -> /oauth/refresh -> /oauth/logout
+ *
+ * 구성
+ * - PostgreSQL, Redis: Testcontainers (Docker 필요)
+ * - OAuth 제공자: MockOAuthProviders (지연 주입 가능)
+ * - 애플리케이션: 같은 JVM에서 임의 포트로 실행
+ *
+ * 부하 모델: 목표 RPS를 단계적으로 올리는 open model (응답을 기다리지 않고 일정 간격으로 요청 시작)
+ * 지연 시간은 "예정된 시작 시각" 기준으로 측정하여 서버가 밀릴 때의 대기 시간도 포함
+ *
+ * 실행: ./gradlew loadTest -Dloadtest.provider-latency-ms=100 -Dloadtest.max-rps=800
+ *
+ * 설정 (시스템 프로퍼티, 괄호 안은 기본값)
+ * - loadtest.provider-latency-ms (50), loadtest.provider-jitter-ms (20): 제공자 응답 지연
+ * - loadtest.start-rps (20), loadtest.step-rps (20), loadtest.max-rps (400), loadtest.step-seconds (20)
+ * - loadtest.slo-p99-ms (500), loadtest.max-error-rate (0.01): 지속 가능 판정 기준
+ * - loadtest.providers (kakao,naver,google), loadtest.user-pool (10000)
+ * - loadtest.virtual-threads (false): spring.threads.virtual.enabled 값
+ */
+public class LoadTestRunner {
+
+    private static final List<String> STAGES = List.of("callback", "refresh", "logout", "flow");
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final String appUrl;
+    private final List<String> providers;
+    private final long userPool;
+
+    LoadTestRunner(String appUrl, List<String> providers, long userPool) {
+        this.appUrl = appUrl;
+        this.providers = providers;
+        this.userPool = userPool;
+    }
+
+    public static void main(String[] args) throws Exception {
+        long providerLatency = Long.getLong("loadtest.provider-latency-ms", 50);
+        long providerJitter = Long.getLong("loadtest.provider-jitter-ms", 20);
+        int startRps = Integer.getInteger("loadtest.start-rps", 20);
+        int stepRps = Integer.getInteger("loadtest.step-rps", 20);
+        int maxRps = Integer.getInteger("loadtest.max-rps", 400);
+        int stepSeconds = Integer.getInteger("loadtest.step-seconds", 20);
+        double sloP99 = Double.parseDouble(System.getProperty("loadtest.slo-p99-ms", "500"));
+        double maxErrorRate = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01"));
+        List<String> providers = List.of(System.getProperty("loadtest.providers", "kakao,naver,google").split(","));
+        long userPool = Long.getLong("loadtest.user-pool", 10_000);
+        boolean virtualThreads = Boolean.getBoolean("loadtest.virtual-threads");
+
+        try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:16-alpine"));
+                GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+                        .withExposedPorts(6379);
+                MockOAuthProviders mockProviders = new MockOAuthProviders(providerLatency, providerJitter)) {
+
+            postgres.start();
+            redis.start();
+            mockProviders.start();
+
+            try (ConfigurableApplicationContext context = startApplication(
+                    postgres, redis, mockProviders.baseUrl(), virtualThreads)) {
+                String appUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+                LoadTestRunner runner = new LoadTestRunner(appUrl, providers, userPool);
+
+                System.out.printf("🚀 [Load Test] app=%s, provider latency=%dms(+%dms), virtual threads=%s%n",
+                        appUrl, providerLatency, providerJitter, virtualThreads);
+
+                // 워밍업 (JIT, 커넥션 풀)
+                runner.runStep(startRps, Math.min(stepSeconds, 10));
+
+                int sustainable = 0;
+                for (int rps = startRps; rps <= maxRps; rps += stepRps) {
+                    StepResult result = runner.runStep(rps, stepSeconds);
+                    result.print();
+
+                    LatencyRecorder flow = result.recorders().get("flow");
+                    boolean ok = flow.percentileMillis(99) <= sloP99
+                            && flow.errorRate() <= maxErrorRate
+                            && result.achievedRps() >= rps * 0.95;
+                    if (!ok) {
+                        System.out.printf("⛔ [Load Test] %d RPS에서 기준 초과 (p99 <= %.0fms, 오류율 <= %.2f%%)%n",
+                                rps, sloP99, maxErrorRate * 100);
+                        break;
+                    }
+                    sustainable = rps;
+                }
+
+                System.out.printf("✅ [Load Test] 최대 지속 가능 처리량: %d flows/s (flow = 로그인 + 갱신 + 로그아웃, 요청 3건)%n",
+                        sustainable);
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(
+            PostgreSQLContainer<?> postgres,
+            GenericContainer<?> redis,
+            String mockBaseUrl,
+            boolean virtualThreads) {
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.threads.virtual.enabled", virtualThreads);
+        properties.put("spring.datasource.url", postgres.getJdbcUrl());
+        properties.put("spring.datasource.username", postgres.getUsername());
+        properties.put("spring.datasource.password", postgres.getPassword());
+        properties.put("spring.jpa.show-sql", false);
+        properties.put("spring.data.redis.host", redis.getHost());
+        properties.put("spring.data.redis.port", redis.getMappedPort(6379));
+        properties.put("spring.data.redis.password", "");
+        properties.put("spring.data.redis.ssl.enabled", false);
+        // 모든 요청이 같은 IP에서 오므로 Rate Limit을 끄고 처리량 자체를 측정
+        properties.put("rate-limit.enabled", false);
+        properties.put("jwt.secret", UUID.randomUUID() + "-" + UUID.randomUUID() + "-" + UUID.randomUUID());
+        properties.put("FRONT_LOGIN_CALLBACK_URL", "http://frontend.local");
+
+        for (String provider : List.of("kakao", "naver", "google")) {
+            properties.put(provider + ".redirect-uri", "http://frontend.local/" + provider);
+            properties.put(provider + ".authorize-url", mockBaseUrl + "/" + provider + "/authorize");
+            properties.put(provider + ".token-url", mockBaseUrl + "/" + provider + "/token");
+            properties.put(provider + ".user-info-url", mockBaseUrl + "/" + provider + "/user");
+        }
+        properties.put("kakao.rest-api-key", "loadtest");
+        properties.put("naver.client-id", "loadtest");
+        properties.put("naver.client-secret", "loadtest");
+        properties.put("google.client-id", "loadtest");
+        properties.put("google.client-secret", "loadtest");
+
+        return new SpringApplicationBuilder(ApiApplication.class)
+                .properties(properties)
+                .run();
+    }
+
+    /**
+     * 목표 RPS로 일정 시간 동안 흐름 시작
+     */
+    StepResult runStep(int targetRps, int seconds) throws InterruptedException {
+        Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+        STAGES.forEach(stage -> recorders.put(stage, new LatencyRecorder()));
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / targetRps;
+        long total = (long) targetRps * seconds;
+        long start = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < total; i++) {
+                long scheduledAt = start + i * intervalNanos;
+                long wait = scheduledAt - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                executor.submit(() -> runFlow(scheduledAt, recorders));
+            }
+        } // 모든 흐름이 끝날 때까지 대기
+
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        double achievedRps = recorders.get("flow").count() / elapsedSeconds;
+        return new StepResult(targetRps, achievedRps, recorders);
+    }
+
+    // 로그인 콜백 -> 토큰 갱신 -> 로그아웃
+    private void runFlow(long scheduledAt, Map<String, LatencyRecorder> recorders) {
+        long n = sequence.incrementAndGet();
+        String provider = providers.get((int) (n % providers.size()));
+        long userNumber = n % userPool + 1;
+
+        try {
+            // 1. OAuth 콜백 (제공자 토큰 교환 + 사용자 조회 + upsert + JWT 발급)
+            // 인가 코드는 일회용이므로 요청마다 다르게 생성 (같은 코드는 앞선 로그인 결과를 공유받음)
+            long stageStart = scheduledAt;
+            HttpResponse<String> callback = send(HttpRequest.newBuilder(URI.create(
+                    appUrl + "/oauth/" + provider + "/callback?code=u" + userNumber + "-" + n
+                            + "&state=loadtest")).GET());
+            Map<String, String> issued = parseQuery(callback.headers().firstValue("Location").orElse(""));
+            if (callback.statusCode() != 302 || !issued.containsKey("token")) {
+                recorders.get("callback").error();
+                recorders.get("flow").error();
+                return;
+            }
+            stageStart = recordSince(recorders.get("callback"), stageStart);
+
+            // 2. Refresh Token으로 Access Token 갱신
+            HttpResponse<String> refresh = send(jsonPost("/oauth/refresh", Map.of(
+                    "userId", issued.get("id"),
+                    "refreshToken", issued.get("refreshToken"))));
+            if (refresh.statusCode() != 200) {
+                recorders.get("refresh").error();
+                recorders.get("flow").error();
+                return;
+            }
+            JsonNode refreshed = objectMapper.readTree(refresh.body());
+            stageStart = recordSince(recorders.get("refresh"), stageStart);
+
+            // 3. 로그아웃 (해당 기기 Refresh Token 삭제 + Access Token 블랙리스트)
+            // 보호 경로(jwt.protected-paths)이므로 갱신받은 Access Token으로 인증
+            String accessToken = refreshed.path("token").asText();
+            HttpResponse<String> logout = send(jsonPost("/oauth/logout", Map.of(
+                    "userId", issued.get("id"),
+                    "accessToken", accessToken,
+                    "refreshToken", refreshed.path("refreshToken").asText()))
+                    .header("Authorization", "Bearer " + accessToken));
+            if (logout.statusCode() != 200) {
+                recorders.get("logout").error();
+                recorders.get("flow").error();
+                return;
+            }
+            recordSince(recorders.get("logout"), stageStart);
+            recordSince(recorders.get("flow"), scheduledAt);
+        } catch (Exception e) {
+            recorders.get("flow").error();
+        }
+    }
+
+    private HttpRequest.Builder jsonPost(String path, Map<String, String> body) throws Exception {
+        return HttpRequest.newBuilder(URI.create(appUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+        return httpClient.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static long recordSince(LatencyRecorder recorder, long since) {
+        long now = System.nanoTime();
+        recorder.record(now - since);
+        return now;
+    }
+
+    private static Map<String, String> parseQuery(String location) {
+        Map<String, String> params = new HashMap<>();
+        int queryStart = location.indexOf('?');
+        if (queryStart < 0) {
+            return params;
+        }
+        for (String pair : location.substring(queryStart + 1).split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(pair.substring(0, eq), URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    /**
+     * 측정 구간 결과
+     */
+    record StepResult(int targetRps, double achievedRps, Map<String, LatencyRecorder> recorders) {
+
+        void print() {
+            System.out.printf("📊 [Load Test] target=%d/s achieved=%.1f/s%n", targetRps, achievedRps);
+            recorders.forEach((stage, recorder) -> System.out.printf(
+                    "    %-8s n=%-7d p50=%8.1fms p99=%8.1fms errors=%d (%.2f%%)%n",
+                    stage,
+                    recorder.count(),
+                    recorder.percentileMillis(50),
+                    recorder.percentileMillis(99),
+                    recorder.errors(),
+                    recorder.errorRate() * 100));
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package kr.ai.kjun.api.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 카카오/네이버/구글 OAuth API 목 서버 (JDK HttpServer)
+ * 실제 제공자 대신 토큰 교환과 사용자 정보 조회에 응답하며, 응답 전에 지정한 지연을 주입
+ *
+ * 인가 코드 형식: u{번호} -> 제공자 Access Token: mock-u{번호} -> 사용자 ID: {번호}
+ *
+ * 경로
+ * - /kakao/token (POST), /kakao/user (GET)
+ * - /naver/token (GET), /naver/user (GET)
+ * - /google/token (POST), /google/user (GET)
+ */
+public class MockOAuthProviders implements AutoCloseable {
+
+    private static final String TOKEN_PREFIX = "mock-";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyMillis;
+    private final long jitterMillis;
+
+    public MockOAuthProviders(long latencyMillis, long jitterMillis) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.jitterMillis = jitterMillis;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        // 지연 주입 중에도 동시 요청을 막지 않도록 요청마다 가상 스레드 사용
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+
+        server.createContext("/kakao/token", exchange -> respond(exchange, tokenJson(code(exchange))));
+        server.createContext("/kakao/user", exchange -> {
+            String id = userId(exchange);
+            respond(exchange, """
+                    {"id":%s,"kakao_account":{"email":"kakao%s@example.com",\
+                    "profile":{"nickname":"kakao%s","profile_image_url":"https://example.com/%s.png"}}}"""
+                    .formatted(id, id, id, id));
+        });
+        server.createContext("/naver/token", exchange -> respond(exchange, tokenJson(code(exchange))));
+        server.createContext("/naver/user", exchange -> {
+            String id = userId(exchange);
+            respond(exchange, """
+                    {"resultcode":"00","message":"success","response":{"id":"%s","nickname":"naver%s",\
+                    "email":"naver%s@example.com","profile_image":"https://example.com/%s.png"}}"""
+                    .formatted(id, id, id, id));
+        });
+        server.createContext("/google/token", exchange -> respond(exchange, tokenJson(code(exchange))));
+        server.createContext("/google/user", exchange -> {
+            String id = userId(exchange);
+            respond(exchange, """
+                    {"id":"%s","email":"google%s@example.com","verified_email":true,"name":"google%s",\
+                    "picture":"https://example.com/%s.png"}"""
+                    .formatted(id, id, id, id));
+        });
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private static String tokenJson(String code) {
+        return """
+                {"access_token":"%s%s","token_type":"bearer","expires_in":21599}"""
+                .formatted(TOKEN_PREFIX, code);
+    }
+
+    // 쿼리 문자열 또는 form 본문에서 code 추출
+    private static String code(HttpExchange exchange) throws IOException {
+        String query = exchange.getRequestURI().getRawQuery();
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        for (String source : new String[] { query, body }) {
+            if (source == null) {
+                continue;
+            }
+            for (String pair : source.split("&")) {
+                if (pair.startsWith("code=")) {
+                    return URLDecoder.decode(pair.substring(5), StandardCharsets.UTF_8);
+                }
+            }
+        }
+        return "u0";
+    }
+
+    // Authorization: Bearer mock-u{번호} -> {번호}
+    private static String userId(HttpExchange exchange) {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null) {
+            return "0";
+        }
+        String token = authorization.substring(authorization.indexOf(' ') + 1);
+        if (!token.startsWith(TOKEN_PREFIX + "u")) {
+            return "0";
+        }
+        // code 형식: u{사용자 번호}-{요청 번호} (요청 번호는 인가 코드를 요청마다 다르게 만들기 위한 값)
+        String id = token.substring(TOKEN_PREFIX.length() + 1);
+        int separator = id.indexOf('-');
+        return separator > 0 ? id.substring(0, separator) : id;
+    }
+
+    private void respond(HttpExchange exchange, String json) throws IOException {
+        try {
+            long delay = latencyMillis + (jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(jitterMillis + 1) : 0);
+            if (delay > 0) {
+                Thread.sleep(delay);
+            }
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+}
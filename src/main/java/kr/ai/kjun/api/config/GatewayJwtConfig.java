@@ -20,6 +20,7 @@ public class GatewayJwtConfig {
 
     /**
      * JWT Secret Key 생성
+     * JwtTokenCodec에 주입되어 토큰 발급/검증 전체에서 공유됨
      */
     @Bean
     public SecretKey jwtSecretKey() {
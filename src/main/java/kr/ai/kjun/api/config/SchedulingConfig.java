@@ -0,0 +1,13 @@
+package kr.ai.kjun.api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * 블랙리스트 로컬 캐시 재동기화 등 주기 작업 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
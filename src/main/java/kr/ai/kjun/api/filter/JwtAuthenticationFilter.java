@@ -0,0 +1,135 @@
+package kr.ai.kjun.api.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.ai.kjun.api.services.oauthservice.jwt.JwtProperties;
+import kr.ai.kjun.api.services.oauthservice.jwt.TokenBlacklistService;
+import kr.ai.kjun.api.services.oauthservice.jwt.TokenGenerationService;
+import kr.ai.kjun.api.services.oauthservice.jwt.VerifiedTokenCache;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Gateway JWT 인증 필터
+ * 요청마다 Bearer 토큰을 한 번만 검증하고, 검증된 Claims를 요청 속성에 저장
+ *
+ * - 검증 결과는 VerifiedTokenCache에 캐시되어 같은 토큰의 재검증을 생략
+ * - 토큰의 gen 클레임이 사용자의 현재 세대보다 낮으면(전체 로그아웃 등) 무효로 처리
+ * - jwt.protected-paths에 해당하는 경로는 유효한 토큰이 없거나 userId 클레임이 없으면 401 반환
+ * - 그 외 경로는 토큰을 읽지 않고 그대로 통과 (서명 검증, 세대/블랙리스트 조회 없음)
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 10) // RateLimitFilter가 사용자 ID를 쓸 수 있도록 먼저 실행
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    // 컨트롤러에서 request.getAttribute(...)로 꺼내 쓰는 속성 이름
+    public static final String CLAIMS_ATTRIBUTE = "jwt.claims";
+    public static final String USER_ID_ATTRIBUTE = "jwt.userId";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenBlacklistService tokenBlacklistService;
+    private final TokenGenerationService tokenGenerationService;
+    private final JwtProperties jwtProperties;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public JwtAuthenticationFilter(
+            VerifiedTokenCache verifiedTokenCache,
+            TokenBlacklistService tokenBlacklistService,
+            TokenGenerationService tokenGenerationService,
+            JwtProperties jwtProperties,
+            ObjectMapper objectMapper) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenBlacklistService = tokenBlacklistService;
+        this.tokenGenerationService = tokenGenerationService;
+        this.jwtProperties = jwtProperties;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // CORS preflight 요청은 Authorization 헤더 없이 들어오므로 제외
+        // 보호 경로가 아니면 토큰 관련 작업을 전혀 하지 않음
+        return HttpMethod.OPTIONS.matches(request.getMethod()) || !isProtectedPath(request);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        String token = resolveToken(request);
+        if (token == null) {
+            writeUnauthorized(response, "인증 토큰이 필요합니다");
+            return;
+        }
+
+        // 서명 검증 (캐시 적중 시 생략) -> 세대 비교 (로컬 캐시) -> 개별 블랙리스트
+        Claims claims = verifiedTokenCache.getOrVerify(token);
+        if (claims == null
+                || !tokenGenerationService.isCurrent(claims)
+                || tokenBlacklistService.isBlacklisted(claims)) {
+            writeUnauthorized(response, "유효하지 않은 토큰입니다");
+            return;
+        }
+
+        // 보호 경로의 컨트롤러는 사용자 ID로 권한을 확인하므로 userId 클레임이 없는 토큰은 거절
+        Long userId = claims.get("userId", Long.class);
+        if (userId == null) {
+            writeUnauthorized(response, "유효하지 않은 토큰입니다");
+            return;
+        }
+
+        request.setAttribute(CLAIMS_ATTRIBUTE, claims);
+        request.setAttribute(USER_ID_ATTRIBUTE, userId);
+        filterChain.doFilter(request, response);
+    }
+
+    private String resolveToken(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+        String token = header.substring(BEARER_PREFIX.length()).trim();
+        return token.isEmpty() ? null : token;
+    }
+
+    private boolean isProtectedPath(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        for (String pattern : jwtProperties.getProtectedPaths()) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeUnauthorized(HttpServletResponse response, String message) throws IOException {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("success", false);
+        errorResponse.put("message", message);
+
+        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(), errorResponse);
+    }
+}
@@ -0,0 +1,89 @@
+package kr.ai.kjun.api.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.ai.kjun.api.ratelimit.RateLimiter;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Rate Limit 필터
+ * rate-limit.routes에 해당하는 경로에 클라이언트 IP 기준, 사용자 기준 한도를 차례로 적용
+ *
+ * - 사용자 ID는 JwtAuthenticationFilter가 설정한 요청 속성을 사용하므로 그 뒤에 실행
+ *   (jwt.protected-paths 경로에만 설정되므로 그 외 경로는 IP 기준 한도만 적용)
+ * - 클라이언트 IP는 request.getRemoteAddr() (프록시 뒤에서는 server.forward-headers-strategy로 설정)
+ * - 한도를 넘으면 429와 Retry-After 헤더 반환
+ * - X-Internal-Token 헤더가 rate-limit.internal-token과 일치하는 내부 서비스 호출은 한도 미적용
+ *   (remote 모드에서는 모든 사용자의 OAuth Service -> User Service 호출이 같은 IP에서 오므로
+ *    IP 기준 한도가 시스템 전체 로그인 처리량의 상한이 됨)
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public static final String INTERNAL_TOKEN_HEADER = "X-Internal-Token";
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimiter rateLimiter, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !rateLimiter.isEnabled() || HttpMethod.OPTIONS.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        String route = rateLimiter.resolveRoute(request.getRequestURI());
+        if (route == null || rateLimiter.isInternalCaller(request.getHeader(INTERNAL_TOKEN_HEADER))) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RateLimiter.Decision decision = rateLimiter.tryAcquire(route, RateLimiter.SCOPE_IP, request.getRemoteAddr());
+        Object userId = request.getAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE);
+        if (decision.allowed() && userId != null) {
+            decision = rateLimiter.tryAcquire(route, RateLimiter.SCOPE_USER, String.valueOf(userId));
+        }
+
+        if (!decision.allowed()) {
+            writeTooManyRequests(response, decision);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private void writeTooManyRequests(HttpServletResponse response, RateLimiter.Decision decision) throws IOException {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("success", false);
+        errorResponse.put("message", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요");
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(), errorResponse);
+    }
+}
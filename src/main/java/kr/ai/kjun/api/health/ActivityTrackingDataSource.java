@@ -0,0 +1,56 @@
+package kr.ai.kjun.api.health;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 애플리케이션의 마지막 DB 사용 시각을 기록하는 DataSource
+ * 헬스 체크가 서버리스 DB(Neon)를 깨우지 않도록, 최근 사용이 있을 때만 점검하는 데 사용
+ *
+ * 점검 자체는 getUntrackedConnection()으로 연결하여 사용 시각에 포함하지 않음
+ * 종료 시에는 원래 DataSource(HikariDataSource)를 닫아 커넥션 풀을 정리
+ */
+public class ActivityTrackingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private volatile long lastActivityMillis = 0;
+
+    public ActivityTrackingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        lastActivityMillis = System.currentTimeMillis();
+        return super.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        lastActivityMillis = System.currentTimeMillis();
+        return super.getConnection(username, password);
+    }
+
+    /**
+     * 사용 시각을 기록하지 않는 연결 (헬스 체크 전용)
+     */
+    public Connection getUntrackedConnection() throws SQLException {
+        return obtainTargetDataSource().getConnection();
+    }
+
+    /**
+     * 마지막 애플리케이션 DB 사용 시각 (사용한 적이 없으면 0)
+     */
+    public long getLastActivityMillis() {
+        return lastActivityMillis;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package kr.ai.kjun.api.health;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Actuator 헬스 지표 (이름: dependencies)
+ * DependencyHealthMonitor가 보관한 결과만 반환하므로 /actuator/health/readiness 호출이 Redis/DB에 접근하지 않음
+ *
+ * 점검 전(UNKNOWN)은 OUT_OF_SERVICE로 보고하여 첫 점검이 끝날 때까지 트래픽을 받지 않음
+ */
+@Component
+public class DependenciesHealthIndicator implements HealthIndicator {
+
+    private final DependencyHealthMonitor monitor;
+
+    public DependenciesHealthIndicator(DependencyHealthMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    @Override
+    public Health health() {
+        Map<String, ProbeResult> snapshot = monitor.getSnapshot();
+
+        Status status = Status.UP;
+        if (snapshot.values().stream().anyMatch(result -> ProbeResult.UNKNOWN.equals(result.state()))) {
+            status = Status.OUT_OF_SERVICE;
+        } else if (!monitor.isReady()) {
+            status = Status.DOWN;
+        }
+
+        Health.Builder builder = Health.status(status);
+        snapshot.forEach((name, result) -> builder.withDetail(name, Map.of(
+                "state", result.state(),
+                "message", result.message(),
+                "latencyMs", result.latencyMs() != null ? result.latencyMs() : -1,
+                "checkedAt", result.checkedAt() != null ? result.checkedAt().toString() : "")));
+        return builder.build();
+    }
+}
@@ -0,0 +1,171 @@
+package kr.ai.kjun.api.health;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 의존성(Redis, PostgreSQL) 상태 주기 점검
+ * 두 점검을 가상 스레드에서 동시에 실행하고 결과를 보관하여, 상태 조회 요청은 보관된 결과를 바로 반환
+ * (로드 밸런서가 자주 호출해도 Upstash/Neon에 부하를 주지 않음)
+ *
+ * - Redis: 공유 Lettuce 연결로 PING (새 연결을 만들지 않음)
+ * - PostgreSQL: 최근 health.probe.database-idle-ms 안에 애플리케이션의 DB 사용이 있을 때만 점검하고,
+ *   그 외에는 IDLE로 표시하여 서버리스 DB(Neon)를 깨우거나 자동 일시 중지를 막지 않음
+ * - 점검 주기: health.probe.interval-ms, 점검별 제한 시간: health.probe.timeout-ms
+ */
+@Component
+public class DependencyHealthMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(DependencyHealthMonitor.class);
+
+    public static final String REDIS = "redis";
+    public static final String DATABASE = "database";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DataSource dataSource;
+    private final long timeoutMs;
+    private final long databaseIdleMs;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private volatile Map<String, ProbeResult> snapshot = Map.of(
+            REDIS, ProbeResult.unknown(),
+            DATABASE, ProbeResult.unknown());
+    // DB 이름/URL은 바뀌지 않으므로 처음 성공한 점검에서 한 번만 조회
+    private volatile Map<String, Object> databaseDetails;
+
+    public DependencyHealthMonitor(
+            RedisTemplate<String, String> redisTemplate,
+            DataSource dataSource,
+            @Value("${health.probe.timeout-ms:2000}") long timeoutMs,
+            @Value("${health.probe.database-idle-ms:300000}") long databaseIdleMs) {
+        this.redisTemplate = redisTemplate;
+        this.dataSource = dataSource;
+        this.timeoutMs = timeoutMs;
+        this.databaseIdleMs = databaseIdleMs;
+    }
+
+    /**
+     * 마지막 점검 결과 (key: redis, database)
+     */
+    public Map<String, ProbeResult> getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 모든 의존성이 트래픽을 받을 수 있는 상태인지
+     */
+    public boolean isReady() {
+        return snapshot.values().stream().allMatch(ProbeResult::isAvailable);
+    }
+
+    /**
+     * Redis, PostgreSQL 동시 점검 후 결과 교체
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${health.probe.interval-ms:15000}")
+    public void probe() {
+        Map<String, ProbeResult> previous = snapshot;
+
+        CompletableFuture<ProbeResult> redis = runProbe(this::probeRedis);
+        CompletableFuture<ProbeResult> database = runProbe(() -> probeDatabase(previous.get(DATABASE)));
+
+        Map<String, ProbeResult> next = new HashMap<>();
+        next.put(REDIS, redis.join());
+        next.put(DATABASE, database.join());
+        snapshot = Map.copyOf(next);
+
+        next.forEach((name, result) -> {
+            ProbeResult before = previous.get(name);
+            if (before == null || !before.state().equals(result.state())) {
+                log.info("[Health] {} 상태 변경: {} -> {} ({})", name,
+                        before != null ? before.state() : ProbeResult.UNKNOWN, result.state(), result.message());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 제한 시간 안에 끝나지 않으면 DOWN으로 처리 (점검 스레드는 가상 스레드라 그대로 종료를 기다려도 비용이 작음)
+    private CompletableFuture<ProbeResult> runProbe(Supplier<ProbeResult> probe) {
+        return CompletableFuture.supplyAsync(probe, executor)
+                .completeOnTimeout(
+                        new ProbeResult(ProbeResult.DOWN, "점검 시간 초과 (" + timeoutMs + "ms)",
+                                timeoutMs, Instant.now(), Map.of()),
+                        timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    private ProbeResult probeRedis() {
+        long startNanos = System.nanoTime();
+        try {
+            String pong = redisTemplate.execute((RedisCallback<String>) RedisConnection::ping);
+            return new ProbeResult(ProbeResult.UP, "Redis 연결 성공", elapsedMs(startNanos), Instant.now(),
+                    Map.of("ping", String.valueOf(pong)));
+        } catch (Exception e) {
+            return new ProbeResult(ProbeResult.DOWN, "Redis 연결 실패: " + e.getMessage(), elapsedMs(startNanos),
+                    Instant.now(), Map.of("error", e.getClass().getSimpleName()));
+        }
+    }
+
+    private ProbeResult probeDatabase(ProbeResult previous) {
+        ActivityTrackingDataSource tracking = dataSource instanceof ActivityTrackingDataSource ads ? ads : null;
+        if (tracking != null
+                && System.currentTimeMillis() - tracking.getLastActivityMillis() > databaseIdleMs
+                && previous != null && !ProbeResult.DOWN.equals(previous.state())) {
+            // 최근 사용이 없으면 점검하지 않음 (마지막 결과가 DOWN이면 복구 확인을 위해 점검)
+            Map<String, Object> details = databaseDetails != null ? databaseDetails : Map.of();
+            return new ProbeResult(ProbeResult.IDLE, "최근 DB 사용이 없어 점검 생략", null,
+                    previous.checkedAt(), details);
+        }
+
+        long startNanos = System.nanoTime();
+        try (Connection connection = tracking != null
+                ? tracking.getUntrackedConnection()
+                : dataSource.getConnection()) {
+            if (!connection.isValid((int) Math.max(TimeUnit.MILLISECONDS.toSeconds(timeoutMs), 1))) {
+                return new ProbeResult(ProbeResult.DOWN, "PostgreSQL 연결 검증 실패", elapsedMs(startNanos),
+                        Instant.now(), Map.of());
+            }
+            if (databaseDetails == null) {
+                databaseDetails = describe(connection);
+            }
+            return new ProbeResult(ProbeResult.UP, "PostgreSQL 연결 성공", elapsedMs(startNanos), Instant.now(),
+                    databaseDetails);
+        } catch (Exception e) {
+            return new ProbeResult(ProbeResult.DOWN, "PostgreSQL 연결 실패: " + e.getMessage(),
+                    elapsedMs(startNanos), Instant.now(), Map.of("error", e.getClass().getSimpleName()));
+        }
+    }
+
+    private static Map<String, Object> describe(Connection connection) throws SQLException {
+        Map<String, Object> details = new HashMap<>();
+        details.put("database", connection.getCatalog());
+        details.put("url", connection.getMetaData().getURL());
+        return Collections.unmodifiableMap(details);
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
@@ -0,0 +1,29 @@
+package kr.ai.kjun.api.health;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 헬스 체크 설정
+ * DataSource를 ActivityTrackingDataSource로 감싸 애플리케이션의 DB 사용 시각을 기록
+ * (Hikari 메트릭 등은 DelegatingDataSource를 풀어서 원래 풀을 찾으므로 영향 없음)
+ */
+@Configuration
+public class HealthConfig {
+
+    @Bean
+    public static BeanPostProcessor activityTrackingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ActivityTrackingDataSource)) {
+                    return new ActivityTrackingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
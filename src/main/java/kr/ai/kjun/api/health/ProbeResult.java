@@ -0,0 +1,37 @@
+package kr.ai.kjun.api.health;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 의존성 점검 결과 (DependencyHealthMonitor가 주기적으로 갱신)
+ *
+ * @param state     UP, DOWN, IDLE(최근 사용이 없어 점검 생략), UNKNOWN(아직 점검 전)
+ * @param message   상태 설명
+ * @param latencyMs 점검 소요 시간 (점검하지 않았으면 null)
+ * @param checkedAt 마지막으로 실제 점검한 시각 (점검 전이면 null)
+ * @param details   추가 정보 (DB 이름, ping 응답 등)
+ */
+public record ProbeResult(
+        String state,
+        String message,
+        Long latencyMs,
+        Instant checkedAt,
+        Map<String, Object> details) {
+
+    public static final String UP = "UP";
+    public static final String DOWN = "DOWN";
+    public static final String IDLE = "IDLE";
+    public static final String UNKNOWN = "UNKNOWN";
+
+    static ProbeResult unknown() {
+        return new ProbeResult(UNKNOWN, "아직 점검하지 않았습니다", null, null, Map.of());
+    }
+
+    /**
+     * 트래픽을 받아도 되는 상태인지 (IDLE은 최근 정상 상태를 유지하는 것으로 간주)
+     */
+    public boolean isAvailable() {
+        return UP.equals(state) || IDLE.equals(state);
+    }
+}
@@ -0,0 +1,19 @@
+package kr.ai.kjun.api.logging;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+/**
+ * 로그 마커 모음
+ */
+public final class LogMarkers {
+
+    /**
+     * 표본 추출 대상 이벤트 (로그인 성공, 토큰 갱신 등 요청마다 발생하는 성공 로그)
+     * SamplingTurboFilter가 logging.sampling.success-rate 비율만 남김
+     */
+    public static final Marker SAMPLED = MarkerFactory.getMarker("SAMPLED");
+
+    private LogMarkers() {
+    }
+}
@@ -0,0 +1,56 @@
+package kr.ai.kjun.api.logging;
+
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 로그에 남기면 안 되는 값(인가 코드, 토큰, client secret 등) 가리기
+ */
+public final class LogRedactor {
+
+    // URL 쿼리에서 값을 가릴 파라미터
+    private static final Set<String> SENSITIVE_PARAMS = Set.of(
+            "code", "state", "token", "refreshtoken", "access_token", "refresh_token", "client_secret", "id_token");
+
+    private static final Pattern QUERY_PARAM = Pattern.compile("([?&])([^=&]+)=([^&]*)");
+
+    // 앞 몇 글자만 남기는 길이
+    private static final int VISIBLE_PREFIX = 4;
+
+    private LogRedactor() {
+    }
+
+    /**
+     * 비밀 값 가리기 (앞 4글자와 길이만 남김)
+     * 예: "abcd1234efgh" -> "abcd***(12)"
+     */
+    public static String mask(String secret) {
+        if (secret == null) {
+            return null;
+        }
+        if (secret.length() <= VISIBLE_PREFIX) {
+            return "***";
+        }
+        return secret.substring(0, VISIBLE_PREFIX) + "***(" + secret.length() + ")";
+    }
+
+    /**
+     * URL 쿼리 문자열의 민감한 파라미터 값 가리기
+     * 예: "...?client_id=abc&code=xyz123" -> "...?client_id=abc&code=***"
+     */
+    public static String redactUrl(String url) {
+        if (url == null || url.indexOf('?') < 0) {
+            return url;
+        }
+        Matcher matcher = QUERY_PARAM.matcher(url);
+        StringBuilder result = new StringBuilder(url.length());
+        while (matcher.find()) {
+            String name = matcher.group(2);
+            String value = SENSITIVE_PARAMS.contains(name.toLowerCase()) ? "***" : matcher.group(3);
+            matcher.appendReplacement(result, Matcher.quoteReplacement(matcher.group(1) + name + "=" + value));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+}
@@ -0,0 +1,37 @@
+package kr.ai.kjun.api.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * SAMPLED 마커가 붙은 로그를 지정한 비율만 남기는 Logback 필터 (logback-spring.xml에서 등록)
+ * 메시지 포맷팅/큐 적재 전에 판단하므로 버려지는 로그는 비용이 거의 없음
+ *
+ * WARN 이상은 표본 추출하지 않음
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    // 0.0 ~ 1.0 (1.0이면 모두 기록)
+    private double rate = 1.0;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (marker == null || !marker.contains(LogMarkers.SAMPLED) || level.isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextDouble() < rate ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public double getRate() {
+        return rate;
+    }
+
+    public void setRate(double rate) {
+        this.rate = rate;
+    }
+}
@@ -0,0 +1,101 @@
+package kr.ai.kjun.api.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 로그인/토큰 처리 단계별 지연 시간 측정
+ * 모든 단계를 하나의 타이머(auth.stage)로 기록하고 태그로 구분
+ *
+ * - stage: provider.token, provider.userinfo, user.save, db.upsert, jwt.issue, redis.refresh.rotate 등
+ * - provider: kakao, naver, google (제공자와 무관한 단계는 none)
+ * - outcome: success, error (단계에 따라 invalid, rejected 등)
+ *
+ * 히스토그램 버킷을 함께 내보내므로 Prometheus에서 histogram_quantile로 p50/p99 계산 가능
+ */
+@Component
+public class StageMetrics {
+
+    public static final String NO_PROVIDER = "none";
+    public static final String SUCCESS = "success";
+    public static final String ERROR = "error";
+
+    private static final String TIMER_NAME = "auth.stage";
+
+    private final MeterRegistry meterRegistry;
+    // 매 호출마다 Timer를 조회/생성하지 않도록 태그 조합별로 보관
+    private final ConcurrentHashMap<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public StageMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 작업 실행 시간 기록 (예외 발생 시 outcome=error)
+     *
+     * @param stage    단계 이름
+     * @param provider OAuth 제공자 (없으면 NO_PROVIDER)
+     * @param action   측정할 작업
+     * @return 작업 결과
+     */
+    public <T> T record(String stage, String provider, Supplier<T> action) {
+        long startNanos = System.nanoTime();
+        String outcome = ERROR;
+        try {
+            T result = action.get();
+            outcome = SUCCESS;
+            return result;
+        } finally {
+            stop(stage, provider, outcome, startNanos);
+        }
+    }
+
+    /**
+     * 반환값이 없는 작업 실행 시간 기록
+     */
+    public void run(String stage, String provider, Runnable action) {
+        record(stage, provider, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 측정 시작 시각 (결과에 따라 outcome을 직접 정해야 할 때 stop과 함께 사용)
+     */
+    public long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * start() 이후 경과 시간 기록
+     *
+     * @param stage      단계 이름
+     * @param provider   OAuth 제공자 (없으면 NO_PROVIDER)
+     * @param outcome    결과
+     * @param startNanos start() 반환값
+     */
+    public void stop(String stage, String provider, String outcome, long startNanos) {
+        timer(stage, provider, outcome).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(String stage, String provider, String outcome) {
+        String key = stage + '|' + provider + '|' + outcome;
+        return timers.computeIfAbsent(key, k -> Timer.builder(TIMER_NAME)
+                .description("로그인/토큰 처리 단계별 소요 시간")
+                .tag("stage", stage)
+                .tag("provider", provider)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                // JWT 서명/검증은 수십 µs, 외부 제공자 호출은 수 초까지 걸릴 수 있음
+                .minimumExpectedValue(Duration.ofNanos(10_000))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry));
+    }
+}
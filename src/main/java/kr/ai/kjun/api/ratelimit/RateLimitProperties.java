@@ -0,0 +1,147 @@
+package kr.ai.kjun.api.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rate Limit 설정
+ * application.yaml의 rate-limit.* 값을 읽어옴
+ *
+ * 경로별(routes.{이름}) 클라이언트 IP 기준(per-ip)과 사용자 기준(per-user) 한도를 각각 지정
+ * 한도를 지정하지 않은 기준은 제한하지 않음
+ * internal-token을 제시한 내부 서비스 호출(예: remote 모드의 OAuth Service -> User Service)은 한도 미적용
+ */
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    // Rate Limit 사용 여부
+    private boolean enabled = true;
+    // Redis에서 한 번에 받아온 토큰(lease)을 로컬에서 쓸 수 있는 시간
+    private long leaseTtlMs = 1000;
+    // 로컬 상태(lease, 거부 시각)를 보관할 최대 키 수
+    private long localMaxSize = 100_000;
+    // 내부 서비스 호출 자격 증명 (X-Internal-Token 헤더가 일치하면 한도를 적용하지 않음, 비어 있으면 사용 안 함)
+    private String internalToken;
+    // 경로별 한도 (key: 경로 이름, Redis Key와 메트릭 태그에 사용)
+    private Map<String, Route> routes = new LinkedHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getLeaseTtlMs() {
+        return leaseTtlMs;
+    }
+
+    public void setLeaseTtlMs(long leaseTtlMs) {
+        this.leaseTtlMs = leaseTtlMs;
+    }
+
+    public long getLocalMaxSize() {
+        return localMaxSize;
+    }
+
+    public void setLocalMaxSize(long localMaxSize) {
+        this.localMaxSize = localMaxSize;
+    }
+
+    public String getInternalToken() {
+        return internalToken;
+    }
+
+    public void setInternalToken(String internalToken) {
+        this.internalToken = internalToken;
+    }
+
+    public Map<String, Route> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(Map<String, Route> routes) {
+        this.routes = routes;
+    }
+
+    /**
+     * 경로 그룹 설정
+     */
+    public static class Route {
+
+        // 대상 경로 패턴 (Ant 스타일)
+        private List<String> patterns = new ArrayList<>();
+        // 클라이언트 IP 기준 한도
+        private Limit perIp;
+        // 사용자 기준 한도 (인증된 요청 또는 요청 본문의 userId)
+        private Limit perUser;
+
+        public List<String> getPatterns() {
+            return patterns;
+        }
+
+        public void setPatterns(List<String> patterns) {
+            this.patterns = patterns;
+        }
+
+        public Limit getPerIp() {
+            return perIp;
+        }
+
+        public void setPerIp(Limit perIp) {
+            this.perIp = perIp;
+        }
+
+        public Limit getPerUser() {
+            return perUser;
+        }
+
+        public void setPerUser(Limit perUser) {
+            this.perUser = perUser;
+        }
+    }
+
+    /**
+     * 토큰 버킷 한도 (window-ms 동안 capacity개, 연속 보충)
+     */
+    public static class Limit {
+
+        // 버킷 크기 (순간 최대 요청 수)
+        private int capacity;
+        // capacity개가 모두 보충되는 시간
+        private long windowMs = 60_000;
+        // Redis 왕복 1회에 미리 받아올 토큰 수 (1이면 매 요청 Redis 확인)
+        private int leaseSize = 1;
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public long getWindowMs() {
+            return windowMs;
+        }
+
+        public void setWindowMs(long windowMs) {
+            this.windowMs = windowMs;
+        }
+
+        public int getLeaseSize() {
+            return leaseSize;
+        }
+
+        public void setLeaseSize(int leaseSize) {
+            this.leaseSize = leaseSize;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package kr.ai.kjun.api.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.ai.kjun.api.metrics.StageMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.util.AntPathMatcher;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Redis 기반 분산 Rate Limiter (토큰 버킷)
+ * 모든 인스턴스가 Redis의 같은 버킷을 공유하고, 로컬 단계에서 대부분의 요청을 Redis 없이 처리
+ *
+ * - 로컬 거부: Redis가 거부하면 다음 토큰이 생길 때까지 같은 키의 요청을 로컬에서 바로 거부
+ * - 로컬 lease: Redis에서 토큰을 lease-size개씩 받아와 lease-ttl-ms 동안 로컬에서 소비
+ * - Redis 확인: 위 두 단계로 결정되지 않을 때만 Lua 스크립트 1회 왕복 (resources/redis/rate_limit.lua)
+ * - Redis 장애 시에는 로그인이 막히지 않도록 허용 (fail-open)
+ *
+ * Redis Key 네이밍: rate:{route}:{scope}:{id}
+ * 거부 건수는 rate.limit.rejected{route,scope,tier=local|redis}로, Redis 명령 시간은 auth.stage{stage=redis.ratelimit}로 기록
+ */
+@Service
+public class RateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimiter.class);
+
+    public static final String SCOPE_IP = "ip";
+    public static final String SCOPE_USER = "user";
+
+    private static final String KEY_PREFIX = "rate:";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RATE_LIMIT_SCRIPT = createScript();
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RateLimitProperties properties;
+    private final StageMetrics stageMetrics;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Cache<String, LocalBucket> localBuckets;
+
+    public RateLimiter(
+            RedisTemplate<String, String> redisTemplate,
+            RateLimitProperties properties,
+            StageMetrics stageMetrics,
+            MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.stageMetrics = stageMetrics;
+        this.meterRegistry = meterRegistry;
+        long maxWindowMs = properties.getRoutes().values().stream()
+                .flatMap(route -> Stream.of(route.getPerIp(), route.getPerUser()))
+                .filter(Objects::nonNull)
+                .mapToLong(RateLimitProperties.Limit::getWindowMs)
+                .max()
+                .orElse(60_000);
+        this.localBuckets = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaxSize())
+                .expireAfterAccess(Duration.ofMillis(Math.max(maxWindowMs, properties.getLeaseTtlMs())))
+                .build();
+    }
+
+    /**
+     * Rate Limit 사용 여부
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 요청 경로에 해당하는 경로 그룹 이름 조회
+     *
+     * @param path 요청 URI
+     * @return 경로 그룹 이름 (대상이 아니면 null)
+     */
+    public String resolveRoute(String path) {
+        for (Map.Entry<String, RateLimitProperties.Route> entry : properties.getRoutes().entrySet()) {
+            for (String pattern : entry.getValue().getPatterns()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return entry.getKey();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 내부 서비스 호출 여부 확인 (rate-limit.internal-token과 상수 시간 비교)
+     *
+     * @param token 요청의 X-Internal-Token 헤더 값
+     * @return 일치하면 true (internal-token이 비어 있으면 항상 false)
+     */
+    public boolean isInternalCaller(String token) {
+        String expected = properties.getInternalToken();
+        if (expected == null || expected.isEmpty() || token == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                expected.getBytes(StandardCharsets.UTF_8),
+                token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 요청 1건에 대한 토큰 획득 시도
+     *
+     * @param route 경로 그룹 이름 (rate-limit.routes의 key)
+     * @param scope SCOPE_IP 또는 SCOPE_USER
+     * @param id    클라이언트 IP 또는 사용자 ID
+     * @return 허용 여부와 재시도 대기 시간
+     */
+    public Decision tryAcquire(String route, String scope, String id) {
+        RateLimitProperties.Limit limit = findLimit(route, scope);
+        if (!properties.isEnabled() || limit == null || id == null) {
+            return Decision.ALLOWED;
+        }
+
+        String key = KEY_PREFIX + route + ":" + scope + ":" + id;
+        LocalBucket bucket = localBuckets.get(key, k -> new LocalBucket());
+        long now = System.currentTimeMillis();
+
+        // 1. 최근 Redis에서 거부된 키는 다음 토큰이 생길 때까지 로컬에서 거부
+        long deniedUntil = bucket.deniedUntil;
+        if (now < deniedUntil) {
+            countRejected(route, scope, "local");
+            return Decision.denied(deniedUntil - now);
+        }
+
+        // 2. 남은 lease가 있으면 로컬에서 허용
+        if (now < bucket.leaseExpiresAt && bucket.leased.getAndDecrement() > 0) {
+            return Decision.ALLOWED;
+        }
+
+        // 3. Redis에서 토큰을 lease-size개까지 받아옴
+        List<?> result;
+        try {
+            result = stageMetrics.record("redis.ratelimit", StageMetrics.NO_PROVIDER,
+                    () -> redisTemplate.execute(
+                            RATE_LIMIT_SCRIPT,
+                            List.of(key),
+                            String.valueOf(limit.getCapacity()),
+                            String.valueOf(limit.getWindowMs()),
+                            String.valueOf(Math.max(limit.getLeaseSize(), 1))));
+        } catch (Exception e) {
+            log.debug("[Rate Limit] Redis 확인 실패, 요청 허용 - key: {}, {}", key, e.getMessage());
+            return Decision.ALLOWED;
+        }
+
+        long granted = ((Number) result.get(0)).longValue();
+        if (granted > 0) {
+            // 이번 요청에 1개를 쓰고 나머지는 로컬 lease로 보관
+            bucket.leased.set((int) granted - 1);
+            bucket.leaseExpiresAt = now + properties.getLeaseTtlMs();
+            return Decision.ALLOWED;
+        }
+
+        long retryAfterMillis = Math.max(((Number) result.get(1)).longValue(), 1);
+        bucket.deniedUntil = now + retryAfterMillis;
+        countRejected(route, scope, "redis");
+        return Decision.denied(retryAfterMillis);
+    }
+
+    private RateLimitProperties.Limit findLimit(String route, String scope) {
+        RateLimitProperties.Route config = properties.getRoutes().get(route);
+        if (config == null) {
+            return null;
+        }
+        RateLimitProperties.Limit limit = SCOPE_USER.equals(scope) ? config.getPerUser() : config.getPerIp();
+        return limit != null && limit.getCapacity() > 0 ? limit : null;
+    }
+
+    private void countRejected(String route, String scope, String tier) {
+        meterRegistry.counter("rate.limit.rejected", "route", route, "scope", scope, "tier", tier).increment();
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static RedisScript<List> createScript() {
+        DefaultRedisScript<List> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource("redis/rate_limit.lua"));
+        script.setResultType(List.class);
+        return script;
+    }
+
+    /**
+     * 토큰 획득 결과
+     *
+     * @param allowed          허용 여부
+     * @param retryAfterMillis 거부 시 다음 토큰까지 대기 시간 (ms)
+     */
+    public record Decision(boolean allowed, long retryAfterMillis) {
+
+        static final Decision ALLOWED = new Decision(true, 0);
+
+        static Decision denied(long retryAfterMillis) {
+            return new Decision(false, retryAfterMillis);
+        }
+
+        /**
+         * Retry-After 헤더 값 (초, 올림)
+         */
+        public long retryAfterSeconds() {
+            return Math.max((retryAfterMillis + 999) / 1000, 1);
+        }
+    }
+
+    /**
+     * 키별 로컬 상태 (이 인스턴스가 받아온 lease와 거부 시각)
+     */
+    private static final class LocalBucket {
+
+        final AtomicInteger leased = new AtomicInteger();
+        volatile long leaseExpiresAt;
+        volatile long deniedUntil;
+    }
+}
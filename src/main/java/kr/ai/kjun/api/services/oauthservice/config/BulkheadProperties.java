@@ -0,0 +1,43 @@
+package kr.ai.kjun.api.services.oauthservice.config;
+
+/**
+ * 외부 호출 동시 실행 제한(bulkhead) 설정
+ * 각 제공자 설정(kakao.bulkhead.*, naver.bulkhead.*, google.bulkhead.*, user-service.bulkhead.*)에 포함됨
+ *
+ * 동시 호출이 max-concurrent-calls를 넘으면 최대 max-queue개까지 max-wait 동안 대기하고,
+ * 대기열도 가득 차면 즉시 거부하여 느려진 제공자가 요청 스레드를 붙잡지 못하게 함
+ */
+public class BulkheadProperties {
+
+    // 동시 호출 최대 수
+    private int maxConcurrentCalls = 20;
+    // 허용을 기다릴 수 있는 최대 요청 수 (0이면 대기 없이 거부)
+    private int maxQueue = 10;
+    // 허용을 기다리는 최대 시간 (ms)
+    private long maxWait = 200;
+
+    // Getters and Setters
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public void setMaxConcurrentCalls(int maxConcurrentCalls) {
+        this.maxConcurrentCalls = maxConcurrentCalls;
+    }
+
+    public int getMaxQueue() {
+        return maxQueue;
+    }
+
+    public void setMaxQueue(int maxQueue) {
+        this.maxQueue = maxQueue;
+    }
+
+    public long getMaxWait() {
+        return maxWait;
+    }
+
+    public void setMaxWait(long maxWait) {
+        this.maxWait = maxWait;
+    }
+}
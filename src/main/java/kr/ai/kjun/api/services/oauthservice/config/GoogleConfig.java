@@ -3,6 +3,9 @@ package kr.ai.kjun.api.services.oauthservice.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 구글 OAuth 설정
  * application.yaml의 google.* 값을 읽어옴
@@ -14,6 +17,13 @@ public class GoogleConfig {
     private String clientId;
     private String clientSecret;
     private String redirectUri;
+    // 구글 API URL (부하 테스트 시 로컬 목 서버로 교체 가능)
+    private String authorizeUrl = "https://accounts.google.com/o/oauth2/v2/auth";
+    private String tokenUrl = "https://oauth2.googleapis.com/token";
+    private String userInfoUrl = "https://www.googleapis.com/oauth2/v2/userinfo";
+    private HttpClientProperties http = new HttpClientProperties();
+    private BulkheadProperties bulkhead = new BulkheadProperties();
+    private IdToken idToken = new IdToken();
 
     // Getters and Setters
     public String getClientId() {
@@ -39,5 +49,131 @@ public class GoogleConfig {
     public void setRedirectUri(String redirectUri) {
         this.redirectUri = redirectUri;
     }
-}
 
+    public String getAuthorizeUrl() {
+        return authorizeUrl;
+    }
+
+    public void setAuthorizeUrl(String authorizeUrl) {
+        this.authorizeUrl = authorizeUrl;
+    }
+
+    public String getTokenUrl() {
+        return tokenUrl;
+    }
+
+    public void setTokenUrl(String tokenUrl) {
+        this.tokenUrl = tokenUrl;
+    }
+
+    public String getUserInfoUrl() {
+        return userInfoUrl;
+    }
+
+    public void setUserInfoUrl(String userInfoUrl) {
+        this.userInfoUrl = userInfoUrl;
+    }
+
+    public HttpClientProperties getHttp() {
+        return http;
+    }
+
+    public void setHttp(HttpClientProperties http) {
+        this.http = http;
+    }
+
+    public BulkheadProperties getBulkhead() {
+        return bulkhead;
+    }
+
+    public void setBulkhead(BulkheadProperties bulkhead) {
+        this.bulkhead = bulkhead;
+    }
+
+    public IdToken getIdToken() {
+        return idToken;
+    }
+
+    public void setIdToken(IdToken idToken) {
+        this.idToken = idToken;
+    }
+
+    /**
+     * 구글 id_token 로컬 검증 설정 (google.id-token.*)
+     * 켜져 있으면 토큰 응답의 id_token을 구글 JWKS로 검증하고 클레임으로 사용자 정보를 만들어
+     * 사용자 정보 API 호출을 생략 (id_token이 없거나 검증에 실패하면 사용자 정보 API로 대체)
+     */
+    public static class IdToken {
+
+        private boolean enabled = false;
+        // 구글 공개키(JWKS) URL
+        private String jwksUrl = "https://www.googleapis.com/oauth2/v3/certs";
+        // 허용하는 iss 값
+        private List<String> issuers = new ArrayList<>(List.of("https://accounts.google.com", "accounts.google.com"));
+        // 응답에 Cache-Control max-age/Expires가 없을 때 JWKS 캐시 유지 시간 (ms)
+        private long defaultCacheTtl = 3600000;
+        // 캐시 만료 이 시간 전부터 백그라운드에서 미리 갱신 (ms)
+        private long refreshAhead = 300000;
+        // 모르는 kid로 인한 즉시 갱신의 최소 간격 (ms, 잘못된 토큰으로 JWKS를 반복 조회하지 않도록)
+        private long minRefreshInterval = 30000;
+        // exp/iat 검증 시 허용하는 시계 오차 (초)
+        private long clockSkewSeconds = 60;
+
+        // Getters and Setters
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getJwksUrl() {
+            return jwksUrl;
+        }
+
+        public void setJwksUrl(String jwksUrl) {
+            this.jwksUrl = jwksUrl;
+        }
+
+        public List<String> getIssuers() {
+            return issuers;
+        }
+
+        public void setIssuers(List<String> issuers) {
+            this.issuers = issuers;
+        }
+
+        public long getDefaultCacheTtl() {
+            return defaultCacheTtl;
+        }
+
+        public void setDefaultCacheTtl(long defaultCacheTtl) {
+            this.defaultCacheTtl = defaultCacheTtl;
+        }
+
+        public long getRefreshAhead() {
+            return refreshAhead;
+        }
+
+        public void setRefreshAhead(long refreshAhead) {
+            this.refreshAhead = refreshAhead;
+        }
+
+        public long getMinRefreshInterval() {
+            return minRefreshInterval;
+        }
+
+        public void setMinRefreshInterval(long minRefreshInterval) {
+            this.minRefreshInterval = minRefreshInterval;
+        }
+
+        public long getClockSkewSeconds() {
+            return clockSkewSeconds;
+        }
+
+        public void setClockSkewSeconds(long clockSkewSeconds) {
+            this.clockSkewSeconds = clockSkewSeconds;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package kr.ai.kjun.api.services.oauthservice.config;
+
+/**
+ * 외부 HTTP 호출용 커넥션 풀 설정
+ * 각 제공자 설정(kakao.http.*, naver.http.*, google.http.*, user-service.http.*)에 포함됨
+ */
+public class HttpClientProperties {
+
+    // TCP 연결 타임아웃 (ms)
+    private long connectTimeout = 3000;
+    // 응답 대기 타임아웃 (ms)
+    private long responseTimeout = 5000;
+    // 풀에서 커넥션을 얻기까지 최대 대기 시간 (ms)
+    private long connectionRequestTimeout = 1000;
+    // 풀 전체 최대 커넥션 수
+    private int maxConnections = 50;
+    // 호스트(route)별 최대 커넥션 수
+    private int maxConnectionsPerRoute = 20;
+    // 서버가 Keep-Alive 시간을 알려주지 않을 때 유지 시간 (ms), 이 시간 이상 유휴 커넥션은 정리
+    private long keepAlive = 30000;
+    // 커넥션 최대 수명 (ms)
+    private long connectionTtl = 300000;
+
+    // Getters and Setters
+    public long getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(long connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public long getResponseTimeout() {
+        return responseTimeout;
+    }
+
+    public void setResponseTimeout(long responseTimeout) {
+        this.responseTimeout = responseTimeout;
+    }
+
+    public long getConnectionRequestTimeout() {
+        return connectionRequestTimeout;
+    }
+
+    public void setConnectionRequestTimeout(long connectionRequestTimeout) {
+        this.connectionRequestTimeout = connectionRequestTimeout;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+
+    public long getKeepAlive() {
+        return keepAlive;
+    }
+
+    public void setKeepAlive(long keepAlive) {
+        this.keepAlive = keepAlive;
+    }
+
+    public long getConnectionTtl() {
+        return connectionTtl;
+    }
+
+    public void setConnectionTtl(long connectionTtl) {
+        this.connectionTtl = connectionTtl;
+    }
+}
@@ -13,6 +13,12 @@ public class KakaoConfig {
 
     private String restApiKey;
     private String redirectUri;
+    // 카카오 API URL (부하 테스트 시 로컬 목 서버로 교체 가능)
+    private String authorizeUrl = "https://kauth.kakao.com/oauth/authorize";
+    private String tokenUrl = "https://kauth.kakao.com/oauth/token";
+    private String userInfoUrl = "https://kapi.kakao.com/v2/user/me";
+    private HttpClientProperties http = new HttpClientProperties();
+    private BulkheadProperties bulkhead = new BulkheadProperties();
 
     // Getters and Setters
     public String getRestApiKey() {
@@ -30,4 +36,44 @@ public class KakaoConfig {
     public void setRedirectUri(String redirectUri) {
         this.redirectUri = redirectUri;
     }
+
+    public String getAuthorizeUrl() {
+        return authorizeUrl;
+    }
+
+    public void setAuthorizeUrl(String authorizeUrl) {
+        this.authorizeUrl = authorizeUrl;
+    }
+
+    public String getTokenUrl() {
+        return tokenUrl;
+    }
+
+    public void setTokenUrl(String tokenUrl) {
+        this.tokenUrl = tokenUrl;
+    }
+
+    public String getUserInfoUrl() {
+        return userInfoUrl;
+    }
+
+    public void setUserInfoUrl(String userInfoUrl) {
+        this.userInfoUrl = userInfoUrl;
+    }
+
+    public HttpClientProperties getHttp() {
+        return http;
+    }
+
+    public void setHttp(HttpClientProperties http) {
+        this.http = http;
+    }
+
+    public BulkheadProperties getBulkhead() {
+        return bulkhead;
+    }
+
+    public void setBulkhead(BulkheadProperties bulkhead) {
+        this.bulkhead = bulkhead;
+    }
 }
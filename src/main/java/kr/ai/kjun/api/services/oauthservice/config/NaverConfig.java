@@ -14,6 +14,12 @@ public class NaverConfig {
     private String clientId;
     private String clientSecret;
     private String redirectUri;
+    // 네이버 API URL (부하 테스트 시 로컬 목 서버로 교체 가능)
+    private String authorizeUrl = "https://nid.naver.com/oauth2.0/authorize";
+    private String tokenUrl = "https://nid.naver.com/oauth2.0/token";
+    private String userInfoUrl = "https://openapi.naver.com/v1/nid/me";
+    private HttpClientProperties http = new HttpClientProperties();
+    private BulkheadProperties bulkhead = new BulkheadProperties();
 
     // Getters and Setters
     public String getClientId() {
@@ -39,5 +45,44 @@ public class NaverConfig {
     public void setRedirectUri(String redirectUri) {
         this.redirectUri = redirectUri;
     }
-}
 
+    public String getAuthorizeUrl() {
+        return authorizeUrl;
+    }
+
+    public void setAuthorizeUrl(String authorizeUrl) {
+        this.authorizeUrl = authorizeUrl;
+    }
+
+    public String getTokenUrl() {
+        return tokenUrl;
+    }
+
+    public void setTokenUrl(String tokenUrl) {
+        this.tokenUrl = tokenUrl;
+    }
+
+    public String getUserInfoUrl() {
+        return userInfoUrl;
+    }
+
+    public void setUserInfoUrl(String userInfoUrl) {
+        this.userInfoUrl = userInfoUrl;
+    }
+
+    public HttpClientProperties getHttp() {
+        return http;
+    }
+
+    public void setHttp(HttpClientProperties http) {
+        this.http = http;
+    }
+
+    public BulkheadProperties getBulkhead() {
+        return bulkhead;
+    }
+
+    public void setBulkhead(BulkheadProperties bulkhead) {
+        this.bulkhead = bulkhead;
+    }
+}
@@ -0,0 +1,170 @@
+package kr.ai.kjun.api.services.oauthservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 OAuth 제공자 호출 장애 대응 설정 (Circuit Breaker, Hedged 요청)
+ * application.yaml의 provider-resilience.* 값을 읽어옴
+ * 설정은 모든 제공자가 공유하고, 상태(실패율, 지연 분포)는 제공자/엔드포인트별로 따로 관리
+ */
+@Component
+@ConfigurationProperties(prefix = "provider-resilience")
+public class ProviderResilienceConfig {
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private Hedge hedge = new Hedge();
+
+    // Getters and Setters
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    public Hedge getHedge() {
+        return hedge;
+    }
+
+    public void setHedge(Hedge hedge) {
+        this.hedge = hedge;
+    }
+
+    /**
+     * Circuit Breaker 설정
+     * 최근 window-size건 중 실패율이 failure-rate-threshold(%) 이상이면 open-duration 동안 호출을 즉시 거부하고,
+     * 이후 half-open-calls건을 시험 호출하여 모두 성공하면 다시 닫음
+     */
+    public static class CircuitBreaker {
+
+        private boolean enabled = true;
+        // 실패율 계산에 쓰는 최근 호출 수
+        private int windowSize = 20;
+        // 실패율을 계산하기 위한 최소 호출 수
+        private int minimumCalls = 10;
+        // 열림 기준 실패율 (%)
+        private int failureRateThreshold = 50;
+        // 열린 상태 유지 시간 (ms)
+        private long openDuration = 10000;
+        // 반열림 상태에서 허용하는 시험 호출 수
+        private int halfOpenCalls = 3;
+
+        // Getters and Setters
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getWindowSize() {
+            return windowSize;
+        }
+
+        public void setWindowSize(int windowSize) {
+            this.windowSize = windowSize;
+        }
+
+        public int getMinimumCalls() {
+            return minimumCalls;
+        }
+
+        public void setMinimumCalls(int minimumCalls) {
+            this.minimumCalls = minimumCalls;
+        }
+
+        public int getFailureRateThreshold() {
+            return failureRateThreshold;
+        }
+
+        public void setFailureRateThreshold(int failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+        }
+
+        public long getOpenDuration() {
+            return openDuration;
+        }
+
+        public void setOpenDuration(long openDuration) {
+            this.openDuration = openDuration;
+        }
+
+        public int getHalfOpenCalls() {
+            return halfOpenCalls;
+        }
+
+        public void setHalfOpenCalls(int halfOpenCalls) {
+            this.halfOpenCalls = halfOpenCalls;
+        }
+    }
+
+    /**
+     * Hedged 요청 설정 (멱등 GET인 사용자 정보 조회에만 적용)
+     * 첫 요청이 최근 성공 응답 시간의 percentile 값을 넘기면 같은 요청을 한 번 더 보내고 먼저 끝난 응답을 사용
+     */
+    public static class Hedge {
+
+        private boolean enabled = true;
+        // 두 번째 요청을 보내는 기준 지연 분위수 (0~1)
+        private double percentile = 0.95;
+        // 기준 지연의 최소/최대값 (ms)
+        private long minDelay = 50;
+        private long maxDelay = 1000;
+        // 분위수를 계산할 최근 응답 수
+        private int sampleSize = 256;
+        // 이 수만큼 응답이 모이기 전에는 hedged 요청을 보내지 않음
+        private int minSamples = 50;
+
+        // Getters and Setters
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public double getPercentile() {
+            return percentile;
+        }
+
+        public void setPercentile(double percentile) {
+            this.percentile = percentile;
+        }
+
+        public long getMinDelay() {
+            return minDelay;
+        }
+
+        public void setMinDelay(long minDelay) {
+            this.minDelay = minDelay;
+        }
+
+        public long getMaxDelay() {
+            return maxDelay;
+        }
+
+        public void setMaxDelay(long maxDelay) {
+            this.maxDelay = maxDelay;
+        }
+
+        public int getSampleSize() {
+            return sampleSize;
+        }
+
+        public void setSampleSize(int sampleSize) {
+            this.sampleSize = sampleSize;
+        }
+
+        public int getMinSamples() {
+            return minSamples;
+        }
+
+        public void setMinSamples(int minSamples) {
+            this.minSamples = minSamples;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package kr.ai.kjun.api.services.oauthservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Lettuce 클라이언트 설정
+ * application.yaml의 redis-client.* 값을 읽어옴
+ * (접속 정보, 기본 타임아웃, 커넥션 풀은 spring.data.redis.* 사용)
+ */
+@Component
+@ConfigurationProperties(prefix = "redis-client")
+public class RedisClientConfig {
+
+    // Netty I/O 스레드 수 (0이면 Lettuce 기본값: CPU 코어 수, 최소 2)
+    private int ioThreads = 0;
+    // 이벤트/재연결 처리 스레드 수 (0이면 Lettuce 기본값)
+    private int computationThreads = 0;
+    // 연결이 끊기면 자동 재연결
+    private boolean autoReconnect = true;
+    // 연결이 끊긴 동안 명령을 쌓아두지 않고 즉시 실패 (false면 재연결까지 대기열에 보관)
+    private boolean rejectCommandsWhenDisconnected = true;
+    // TCP 연결 타임아웃 (ms)
+    private long connectTimeout = 3000;
+    // TCP Keep-Alive (유휴 연결이 중간 장비에서 끊기는 것을 방지)
+    private boolean tcpKeepAlive = true;
+    // 첫 Keep-Alive 전송까지 유휴 시간 (ms)
+    private long keepAliveIdle = 30000;
+    // Keep-Alive 재전송 간격 (ms)
+    private long keepAliveInterval = 10000;
+    // 응답 없을 때 연결을 끊기까지 Keep-Alive 횟수
+    private int keepAliveCount = 3;
+    // 명령 종류별 타임아웃 (ms, key: EVALSHA, GET 등 Redis 명령 이름 - 없으면 spring.data.redis.timeout)
+    private Map<String, Long> commandTimeouts = new LinkedHashMap<>();
+    // 일반 명령은 하나의 공유 연결로 처리 (파이프라인/트랜잭션 등 전용 연결이 필요한 작업만 풀 사용)
+    private boolean shareNativeConnection = true;
+
+    // Getters and Setters
+    public int getIoThreads() {
+        return ioThreads;
+    }
+
+    public void setIoThreads(int ioThreads) {
+        this.ioThreads = ioThreads;
+    }
+
+    public int getComputationThreads() {
+        return computationThreads;
+    }
+
+    public void setComputationThreads(int computationThreads) {
+        this.computationThreads = computationThreads;
+    }
+
+    public boolean isAutoReconnect() {
+        return autoReconnect;
+    }
+
+    public void setAutoReconnect(boolean autoReconnect) {
+        this.autoReconnect = autoReconnect;
+    }
+
+    public boolean isRejectCommandsWhenDisconnected() {
+        return rejectCommandsWhenDisconnected;
+    }
+
+    public void setRejectCommandsWhenDisconnected(boolean rejectCommandsWhenDisconnected) {
+        this.rejectCommandsWhenDisconnected = rejectCommandsWhenDisconnected;
+    }
+
+    public long getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(long connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public boolean isTcpKeepAlive() {
+        return tcpKeepAlive;
+    }
+
+    public void setTcpKeepAlive(boolean tcpKeepAlive) {
+        this.tcpKeepAlive = tcpKeepAlive;
+    }
+
+    public long getKeepAliveIdle() {
+        return keepAliveIdle;
+    }
+
+    public void setKeepAliveIdle(long keepAliveIdle) {
+        this.keepAliveIdle = keepAliveIdle;
+    }
+
+    public long getKeepAliveInterval() {
+        return keepAliveInterval;
+    }
+
+    public void setKeepAliveInterval(long keepAliveInterval) {
+        this.keepAliveInterval = keepAliveInterval;
+    }
+
+    public int getKeepAliveCount() {
+        return keepAliveCount;
+    }
+
+    public void setKeepAliveCount(int keepAliveCount) {
+        this.keepAliveCount = keepAliveCount;
+    }
+
+    public Map<String, Long> getCommandTimeouts() {
+        return commandTimeouts;
+    }
+
+    public void setCommandTimeouts(Map<String, Long> commandTimeouts) {
+        this.commandTimeouts = commandTimeouts;
+    }
+
+    public boolean isShareNativeConnection() {
+        return shareNativeConnection;
+    }
+
+    public void setShareNativeConnection(boolean shareNativeConnection) {
+        this.shareNativeConnection = shareNativeConnection;
+    }
+}
@@ -1,53 +1,100 @@
 package kr.ai.kjun.api.services.oauthservice.config;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
-import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
-import io.lettuce.core.ClientOptions;
-import io.lettuce.core.SocketOptions;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Redis (Upstash) 설정
  * Core 서버에서 Refresh Token 저장 및 세션 관리에 사용
+ *
+ * - 접속 정보, 기본 명령 타임아웃, 커넥션 풀: spring.data.redis.* (lettuce.pool.*)
+ * - 클라이언트 리소스(I/O 스레드), 재연결, TCP Keep-Alive, 명령별 타임아웃, 공유 연결 여부: redis-client.*
+ *
+ * 일반 명령은 하나의 공유 연결에서 파이프라이닝되고, 파이프라인/트랜잭션처럼 전용 연결이 필요한 작업만 풀에서 빌려 씀
  */
 @Configuration
 public class RedisConfig {
 
-    @Value("${spring.data.redis.host}")
-    private String host;
+    // spring.data.redis.timeout이 없을 때 기본 명령 타임아웃
+    private static final Duration DEFAULT_COMMAND_TIMEOUT = Duration.ofSeconds(2);
 
-    @Value("${spring.data.redis.port}")
-    private int port;
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
 
-    @Value("${spring.data.redis.password}")
-    private String password;
-
-    @Value("${spring.data.redis.ssl.enabled:false}")
-    private boolean ssl;
+    /**
+     * Lettuce 클라이언트 리소스 (Netty 이벤트 루프, 타이머)
+     * 연결 팩토리가 종료될 때 함께 정리되도록 별도 빈으로 관리
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ClientResources lettuceClientResources(RedisClientConfig clientConfig) {
+        DefaultClientResources.Builder builder = DefaultClientResources.builder();
+        if (clientConfig.getIoThreads() > 0) {
+            builder.ioThreadPoolSize(clientConfig.getIoThreads());
+        }
+        if (clientConfig.getComputationThreads() > 0) {
+            builder.computationThreadPoolSize(clientConfig.getComputationThreads());
+        }
+        return builder.build();
+    }
 
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
+    public RedisConnectionFactory redisConnectionFactory(
+            RedisProperties redisProperties,
+            RedisClientConfig clientConfig,
+            ClientResources lettuceClientResources) {
         RedisStandaloneConfiguration config = new RedisStandaloneConfiguration();
-        config.setHostName(host);
-        config.setPort(port);
-        config.setPassword(password);
+        config.setHostName(redisProperties.getHost());
+        config.setPort(redisProperties.getPort());
+        config.setPassword(redisProperties.getPassword());
+
+        Duration commandTimeout = redisProperties.getTimeout() != null
+                ? redisProperties.getTimeout()
+                : DEFAULT_COMMAND_TIMEOUT;
+
+        RedisProperties.Pool pool = redisProperties.getLettuce().getPool();
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder clientConfigBuilder =
+                Boolean.FALSE.equals(pool.getEnabled())
+                        ? LettuceClientConfiguration.builder()
+                        : LettucePoolingClientConfiguration.builder().poolConfig(createPoolConfig(pool));
 
-        var clientConfigBuilder = LettuceClientConfiguration.builder()
-                .commandTimeout(Duration.ofSeconds(2));
+        clientConfigBuilder
+                .clientResources(lettuceClientResources)
+                .clientOptions(createClientOptions(clientConfig, commandTimeout))
+                .commandTimeout(commandTimeout);
 
-        if (ssl) {
+        if (redisProperties.getSsl().isEnabled()) {
             clientConfigBuilder.useSsl();
         }
 
-        return new LettuceConnectionFactory(config, clientConfigBuilder.build());
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(config, clientConfigBuilder.build());
+        connectionFactory.setShareNativeConnection(clientConfig.isShareNativeConnection());
+        return connectionFactory;
     }
 
     @Bean
@@ -64,4 +111,82 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
+
+    /**
+     * Redis pub/sub 리스너 컨테이너
+     * 인스턴스 간 이벤트 전파(블랙리스트 추가 등)에 사용
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+
+        // 가상 스레드 모드에서는 메시지 처리도 가상 스레드에서 실행
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("redis-listener-");
+        executor.setVirtualThreads(virtualThreads);
+        container.setTaskExecutor(executor);
+        return container;
+    }
+
+    // spring.data.redis.lettuce.pool.* -> commons-pool2 설정
+    private GenericObjectPoolConfig<StatefulConnection<?, ?>> createPoolConfig(RedisProperties.Pool pool) {
+        GenericObjectPoolConfig<StatefulConnection<?, ?>> poolConfig = new GenericObjectPoolConfig<>();
+        poolConfig.setMaxTotal(pool.getMaxActive());
+        poolConfig.setMaxIdle(pool.getMaxIdle());
+        poolConfig.setMinIdle(pool.getMinIdle());
+        if (pool.getMaxWait() != null) {
+            poolConfig.setMaxWait(pool.getMaxWait());
+        }
+        if (pool.getTimeBetweenEvictionRuns() != null) {
+            poolConfig.setTimeBetweenEvictionRuns(pool.getTimeBetweenEvictionRuns());
+        }
+        return poolConfig;
+    }
+
+    private ClientOptions createClientOptions(RedisClientConfig clientConfig, Duration commandTimeout) {
+        SocketOptions socketOptions = SocketOptions.builder()
+                .connectTimeout(Duration.ofMillis(clientConfig.getConnectTimeout()))
+                .keepAlive(SocketOptions.KeepAliveOptions.builder()
+                        .enable(clientConfig.isTcpKeepAlive())
+                        .idle(Duration.ofMillis(clientConfig.getKeepAliveIdle()))
+                        .interval(Duration.ofMillis(clientConfig.getKeepAliveInterval()))
+                        .count(clientConfig.getKeepAliveCount())
+                        .build())
+                .build();
+
+        return ClientOptions.builder()
+                .autoReconnect(clientConfig.isAutoReconnect())
+                .disconnectedBehavior(clientConfig.isRejectCommandsWhenDisconnected()
+                        ? ClientOptions.DisconnectedBehavior.REJECT_COMMANDS
+                        : ClientOptions.DisconnectedBehavior.DEFAULT)
+                .socketOptions(socketOptions)
+                .timeoutOptions(createTimeoutOptions(clientConfig.getCommandTimeouts(), commandTimeout))
+                .build();
+    }
+
+    // 명령 종류별 타임아웃 (지정하지 않은 명령은 기본 타임아웃)
+    private TimeoutOptions createTimeoutOptions(Map<String, Long> commandTimeouts, Duration commandTimeout) {
+        if (commandTimeouts.isEmpty()) {
+            return TimeoutOptions.enabled(commandTimeout);
+        }
+
+        Map<String, Long> timeoutsByCommand = new HashMap<>();
+        commandTimeouts.forEach((command, millis) -> timeoutsByCommand.put(command.toUpperCase(Locale.ROOT), millis));
+        long defaultMillis = commandTimeout.toMillis();
+
+        return TimeoutOptions.builder()
+                .timeoutSource(new TimeoutOptions.TimeoutSource() {
+                    @Override
+                    public long getTimeout(RedisCommand<?, ?, ?> command) {
+                        String type = new String(command.getType().getBytes(), StandardCharsets.US_ASCII);
+                        return timeoutsByCommand.getOrDefault(type, defaultMillis);
+                    }
+
+                    @Override
+                    public TimeUnit getTimeUnit() {
+                        return TimeUnit.MILLISECONDS;
+                    }
+                })
+                .build();
+    }
 }
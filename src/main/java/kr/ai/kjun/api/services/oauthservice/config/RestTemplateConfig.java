@@ -1,22 +1,123 @@
 package kr.ai.kjun.api.services.oauthservice.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.ai.kjun.api.services.oauthservice.resilience.Bulkhead;
+import kr.ai.kjun.api.services.oauthservice.resilience.BulkheadInterceptor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 /**
  * RestTemplate 설정 (WebFlux 대신 사용)
+ * 제공자별로 독립된 커넥션 풀(Apache HttpClient 5)을 사용하여
+ * Keep-Alive로 TCP/TLS 연결을 재사용하고, 한 제공자의 풀 고갈이 다른 제공자에 영향을 주지 않도록 함
+ *
+ * 타임아웃과 풀 크기는 kakao.http.*, naver.http.*, google.http.*, user-service.http.* 에서 설정
+ *
+ * 각 RestTemplate에는 제공자별 Bulkhead(동시 호출 제한)를 적용하여, 한 제공자가 응답 타임아웃까지 느려져도
+ * 그 제공자의 요청만 빠르게 거부되고 다른 제공자 로그인에 쓰일 요청 스레드는 남겨둠 (*.bulkhead.*)
+ *
+ * User Service용 풀은 HTTP로 호출하는 경우(user-service.mode=remote, RemoteUserDirectory)에만 생성
  */
 @Configuration
 public class RestTemplateConfig {
 
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient kakaoHttpClient(KakaoConfig kakaoConfig) {
+        return createHttpClient(kakaoConfig.getHttp());
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient naverHttpClient(NaverConfig naverConfig) {
+        return createHttpClient(naverConfig.getHttp());
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient googleHttpClient(GoogleConfig googleConfig) {
+        return createHttpClient(googleConfig.getHttp());
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "user-service", name = "mode", havingValue = "remote")
+    public CloseableHttpClient userServiceHttpClient(UserServiceConfig userServiceConfig) {
+        return createHttpClient(userServiceConfig.getHttp());
+    }
+
+    @Bean
+    public RestTemplate kakaoRestTemplate(
+            @Qualifier("kakaoHttpClient") CloseableHttpClient httpClient,
+            KakaoConfig kakaoConfig,
+            MeterRegistry meterRegistry) {
+        return createRestTemplate(httpClient, new Bulkhead("kakao", kakaoConfig.getBulkhead(), meterRegistry));
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(5000); // 5초
-        factory.setReadTimeout(5000); // 5초
+    public RestTemplate naverRestTemplate(
+            @Qualifier("naverHttpClient") CloseableHttpClient httpClient,
+            NaverConfig naverConfig,
+            MeterRegistry meterRegistry) {
+        return createRestTemplate(httpClient, new Bulkhead("naver", naverConfig.getBulkhead(), meterRegistry));
+    }
+
+    @Bean
+    public RestTemplate googleRestTemplate(
+            @Qualifier("googleHttpClient") CloseableHttpClient httpClient,
+            GoogleConfig googleConfig,
+            MeterRegistry meterRegistry) {
+        return createRestTemplate(httpClient, new Bulkhead("google", googleConfig.getBulkhead(), meterRegistry));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "user-service", name = "mode", havingValue = "remote")
+    public RestTemplate userServiceRestTemplate(
+            @Qualifier("userServiceHttpClient") CloseableHttpClient httpClient,
+            UserServiceConfig userServiceConfig,
+            MeterRegistry meterRegistry) {
+        return createRestTemplate(httpClient,
+                new Bulkhead("user-service", userServiceConfig.getBulkhead(), meterRegistry));
+    }
+
+    private RestTemplate createRestTemplate(CloseableHttpClient httpClient, Bulkhead bulkhead) {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        restTemplate.getInterceptors().add(new BulkheadInterceptor(bulkhead));
+        return restTemplate;
+    }
+
+    private CloseableHttpClient createHttpClient(HttpClientProperties properties) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxConnections())
+                .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(properties.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(properties.getResponseTimeout()))
+                        .setTimeToLive(TimeValue.ofMilliseconds(properties.getConnectionTtl()))
+                        // 오래 쉬었던 커넥션은 재사용 전에 끊김 여부 확인
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(properties.getConnectionRequestTimeout()))
+                .setResponseTimeout(Timeout.ofMilliseconds(properties.getResponseTimeout()))
+                .setConnectionKeepAlive(TimeValue.ofMilliseconds(properties.getKeepAlive()))
+                .build();
 
-        return new RestTemplate(factory);
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(properties.getKeepAlive()))
+                .build();
     }
 }
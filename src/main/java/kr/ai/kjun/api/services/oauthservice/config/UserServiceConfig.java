@@ -0,0 +1,62 @@
+package kr.ai.kjun.api.services.oauthservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * User Service 호출 설정
+ * application.yaml의 user-service.* 값을 읽어옴
+ */
+@Component
+@ConfigurationProperties(prefix = "user-service")
+public class UserServiceConfig {
+
+    // local: 같은 JVM의 UserService 직접 호출, remote: url로 HTTP 호출
+    private String mode = "local";
+    private String url = "http://localhost:8080";
+    // User Service의 Rate Limit을 받지 않기 위한 내부 호출 자격 증명 (rate-limit.internal-token과 같은 값)
+    private String internalToken;
+    private HttpClientProperties http = new HttpClientProperties();
+    private BulkheadProperties bulkhead = new BulkheadProperties();
+
+    // Getters and Setters
+    public String getMode() {
+        return mode;
+    }
+
+    public void setMode(String mode) {
+        this.mode = mode;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getInternalToken() {
+        return internalToken;
+    }
+
+    public void setInternalToken(String internalToken) {
+        this.internalToken = internalToken;
+    }
+
+    public HttpClientProperties getHttp() {
+        return http;
+    }
+
+    public void setHttp(HttpClientProperties http) {
+        this.http = http;
+    }
+
+    public BulkheadProperties getBulkhead() {
+        return bulkhead;
+    }
+
+    public void setBulkhead(BulkheadProperties bulkhead) {
+        this.bulkhead = bulkhead;
+    }
+}
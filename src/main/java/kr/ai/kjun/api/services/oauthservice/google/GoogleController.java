@@ -1,8 +1,11 @@
 package kr.ai.kjun.api.services.oauthservice.google;
 
-import kr.ai.kjun.api.services.oauthservice.jwt.JwtTokenProvider;
-import kr.ai.kjun.api.services.oauthservice.jwt.RefreshTokenService;
-import kr.ai.kjun.api.services.oauthservice.service.UserManagementService;
+import kr.ai.kjun.api.logging.LogMarkers;
+import kr.ai.kjun.api.logging.LogRedactor;
+import kr.ai.kjun.api.services.oauthservice.service.LoginRetryRequiredException;
+import kr.ai.kjun.api.services.oauthservice.service.OAuthLoginService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -17,23 +20,19 @@ import java.util.Map;
 @RequestMapping("/oauth/google")
 public class GoogleController {
 
+    private static final Logger log = LoggerFactory.getLogger(GoogleController.class);
+
     private final GoogleService googleService;
-    private final JwtTokenProvider jwtTokenProvider;
-    private final UserManagementService userManagementService;
-    private final RefreshTokenService refreshTokenService;
+    private final OAuthLoginService oauthLoginService;
 
     @Value("${FRONT_LOGIN_CALLBACK_URL}")
     private String frontendLoginCallbackUrl;
 
     public GoogleController(
             GoogleService googleService,
-            JwtTokenProvider jwtTokenProvider,
-            UserManagementService userManagementService,
-            RefreshTokenService refreshTokenService) {
+            OAuthLoginService oauthLoginService) {
         this.googleService = googleService;
-        this.jwtTokenProvider = jwtTokenProvider;
-        this.userManagementService = userManagementService;
-        this.refreshTokenService = refreshTokenService;
+        this.oauthLoginService = oauthLoginService;
     }
 
     // 구글 로그인 URL 반환
@@ -45,7 +44,7 @@ public class GoogleController {
         response.put("success", true);
         response.put("loginUrl", loginUrl);
 
-        System.out.println("🔗 [구글 로그인] 로그인 URL 생성: " + loginUrl);
+        log.debug("[구글 로그인] 로그인 URL 생성: {}", LogRedactor.redactUrl(loginUrl));
         return ResponseEntity.ok(response);
     }
 
@@ -58,46 +57,31 @@ public class GoogleController {
     }
 
     private ResponseEntity<?> handleGoogleCallback(String code, String error) {
-        System.out.println("🔄 [구글 콜백] code: " + code + ", error: " + error);
+        log.debug("[구글 콜백] code: {}, error: {}", LogRedactor.mask(code), error);
 
         if (error != null) {
-            System.err.println("❌ [구글 콜백] 에러: " + error);
+            log.warn("[구글 콜백] 에러: {}", error);
             return redirectToError(error);
         }
 
         if (code == null || code.trim().isEmpty()) {
-            System.err.println("❌ [구글 콜백] code 없음");
+            log.warn("[구글 콜백] code 없음");
             return redirectToError("no_code");
         }
 
         try {
-            kr.ai.kjun.api.services.oauthservice.google.dto.GoogleUserInfo userInfo = googleService
-                    .authenticateAndExtractUser(code);
-
-            // 사용자 정보를 User Service에 저장 또는 업데이트 (HTTP 호출)
-            Map<String, Object> savedUser = userManagementService.saveOrUpdateUser(
-                    "GOOGLE",
-                    userInfo.getId(),
-                    userInfo.getExtractedEmail(),
-                    userInfo.getExtractedNickname(),
-                    userInfo.getExtractedProfileImage());
-
-            // JWT Access Token 생성 (User Service에서 받은 사용자 ID 사용)
-            Long userId = ((Number) savedUser.get("id")).longValue();
-            String jwtToken = jwtTokenProvider.generateToken(
-                    userId,
-                    (String) savedUser.get("email"),
-                    (String) savedUser.get("nickname"));
-
-            // Refresh Token 생성 및 Redis에 저장
-            String refreshToken = refreshTokenService.generateAndSaveRefreshToken(userId);
-
-            System.out.println("✅ [구글 콜백] 로그인 성공 - User ID: " + userId);
-            return redirectToSuccess(savedUser, jwtToken, refreshToken);
+            OAuthLoginService.LoginResult result = oauthLoginService.login(
+                    "GOOGLE", code, null, () -> authenticate(code));
+            Long userId = result.userId();
+
+            log.info(LogMarkers.SAMPLED, "[구글 콜백] 로그인 성공 - User ID: {}", userId);
+            return redirectToSuccess(result);
 
+        } catch (LoginRetryRequiredException e) {
+            log.info("[구글 콜백] 중복 콜백 - {}", e.getMessage());
+            return redirectToError(LoginRetryRequiredException.ERROR_CODE);
         } catch (Exception e) {
-            System.err.println("❌ [구글 콜백] 로그인 실패: " + e.getMessage());
-            e.printStackTrace();
+            log.error("[구글 콜백] 로그인 실패: {}", e.getMessage(), e);
             return redirectToError(e.getMessage());
         }
     }
@@ -113,50 +97,45 @@ public class GoogleController {
                 Map<String, Object> response = new HashMap<>();
                 response.put("loginUrl", loginUrl);
 
-                System.out.println("🔗 [구글 로그인] 로그인 URL 생성: " + loginUrl);
+                log.debug("[구글 로그인] 로그인 URL 생성: {}", LogRedactor.redactUrl(loginUrl));
                 return ResponseEntity.ok(response);
             } catch (Exception e) {
-                System.err.println("❌ [구글 로그인] URL 생성 실패: " + e.getMessage());
+                log.warn("[구글 로그인] URL 생성 실패: {}", e.getMessage());
                 return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                         .body(buildErrorResponse("구글 로그인 URL 생성 실패: " + e.getMessage()));
             }
         }
 
-        System.out.println("🔵 [구글 로그인] 진입 - code: " + code);
+        log.debug("[구글 로그인] 진입 - code: {}", LogRedactor.mask(code));
 
         try {
-            kr.ai.kjun.api.services.oauthservice.google.dto.GoogleUserInfo userInfo = googleService
-                    .authenticateAndExtractUser(code);
-
-            // 사용자 정보를 User Service에 저장 또는 업데이트 (HTTP 호출)
-            Map<String, Object> savedUser = userManagementService.saveOrUpdateUser(
-                    "GOOGLE",
-                    userInfo.getId(),
-                    userInfo.getExtractedEmail(),
-                    userInfo.getExtractedNickname(),
-                    userInfo.getExtractedProfileImage());
-
-            // JWT Access Token 생성 (User Service에서 받은 사용자 ID 사용)
-            Long userId = ((Number) savedUser.get("id")).longValue();
-            String jwtToken = jwtTokenProvider.generateToken(
-                    userId,
-                    (String) savedUser.get("email"),
-                    (String) savedUser.get("nickname"));
-
-            // Refresh Token 생성 및 Redis에 저장
-            String refreshToken = refreshTokenService.generateAndSaveRefreshToken(userId);
-
-            System.out.println("✅ [구글 로그인] 성공 - User ID: " + userId);
-            return ResponseEntity.ok(buildSuccessResponse(savedUser, jwtToken, refreshToken));
+            OAuthLoginService.LoginResult result = oauthLoginService.login(
+                    "GOOGLE", code, null, () -> authenticate(code));
+            Long userId = result.userId();
+
+            log.info(LogMarkers.SAMPLED, "[구글 로그인] 성공 - User ID: {}", userId);
+            return ResponseEntity.ok()
+                    .headers(result.serverTimingHeaders())
+                    .body(buildSuccessResponse(result.user(), result.accessToken(), result.refreshToken()));
 
         } catch (Exception e) {
-            System.err.println("❌ [구글 로그인] 실패: " + e.getMessage());
-            e.printStackTrace();
+            log.error("[구글 로그인] 실패: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(buildErrorResponse("구글 로그인 실패: " + e.getMessage()));
         }
     }
 
+    // 구글 인증 후 사용자 저장에 필요한 값 추출 (같은 인가 코드의 중복 요청은 OAuthLoginService가 한 번만 호출)
+    private OAuthLoginService.Identity authenticate(String code) {
+        kr.ai.kjun.api.services.oauthservice.google.dto.GoogleUserInfo userInfo = googleService
+                .authenticateAndExtractUser(code);
+        return new OAuthLoginService.Identity(
+                userInfo.getId(),
+                userInfo.getExtractedEmail(),
+                userInfo.getExtractedNickname(),
+                userInfo.getExtractedProfileImage());
+    }
+
     // 성공 응답 생성
     private Map<String, Object> buildSuccessResponse(Map<String, Object> user, String jwtToken, String refreshToken) {
         Map<String, Object> response = new HashMap<>();
@@ -183,9 +162,10 @@ public class GoogleController {
     }
 
     // 성공 리다이렉트
-    private ResponseEntity<?> redirectToSuccess(Map<String, Object> user, String jwtToken, String refreshToken) {
-        String encodedToken = URLEncoder.encode(jwtToken, StandardCharsets.UTF_8);
-        String encodedRefreshToken = URLEncoder.encode(refreshToken, StandardCharsets.UTF_8);
+    private ResponseEntity<?> redirectToSuccess(OAuthLoginService.LoginResult result) {
+        Map<String, Object> user = result.user();
+        String encodedToken = URLEncoder.encode(result.accessToken(), StandardCharsets.UTF_8);
+        String encodedRefreshToken = URLEncoder.encode(result.refreshToken(), StandardCharsets.UTF_8);
         String encodedEmail = URLEncoder.encode((String) user.get("email"), StandardCharsets.UTF_8);
         String encodedNickname = URLEncoder.encode((String) user.get("nickname"), StandardCharsets.UTF_8);
         Long userId = ((Number) user.get("id")).longValue();
@@ -196,6 +176,7 @@ public class GoogleController {
 
         return ResponseEntity.status(HttpStatus.FOUND)
                 .header("Location", redirectUrl)
+                .headers(result.serverTimingHeaders())
                 .build();
     }
 
@@ -0,0 +1,85 @@
+package kr.ai.kjun.api.services.oauthservice.google;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import kr.ai.kjun.api.services.oauthservice.config.GoogleConfig;
+import kr.ai.kjun.api.services.oauthservice.google.dto.GoogleUserInfo;
+import org.springframework.stereotype.Component;
+
+import java.security.Key;
+import java.util.Set;
+
+/**
+ * 구글 id_token 로컬 검증
+ * 토큰 응답에 포함된 id_token의 서명(JWKS), iss, aud, exp를 검증하고 클레임으로 GoogleUserInfo 생성
+ * (sub는 사용자 정보 API의 id와 같은 값이므로 기존 사용자와 그대로 매칭됨)
+ */
+@Component
+public class GoogleIdTokenVerifier {
+
+    private final GoogleConfig googleConfig;
+    private final JwtParser parser;
+
+    public GoogleIdTokenVerifier(GoogleConfig googleConfig, GoogleJwksProvider jwksProvider) {
+        this.googleConfig = googleConfig;
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        String keyId = header.getKeyId();
+                        Key key = keyId != null ? jwksProvider.getKey(keyId) : null;
+                        if (key == null) {
+                            throw new JwtException("알 수 없는 id_token 서명 키: " + keyId);
+                        }
+                        return key;
+                    }
+                })
+                .clockSkewSeconds(googleConfig.getIdToken().getClockSkewSeconds())
+                .build();
+    }
+
+    /**
+     * id_token 검증 후 사용자 정보 추출
+     *
+     * @param idToken 구글 토큰 응답의 id_token
+     * @return id_token 클레임으로 만든 사용자 정보
+     * @throws JwtException 서명, 만료, iss, aud 검증 실패 시
+     */
+    public GoogleUserInfo verify(String idToken) {
+        Claims claims = parser.parseSignedClaims(idToken).getPayload();
+
+        if (!googleConfig.getIdToken().getIssuers().contains(claims.getIssuer())) {
+            throw new JwtException("잘못된 id_token iss: " + claims.getIssuer());
+        }
+        Set<String> audience = claims.getAudience();
+        if (audience == null || !audience.contains(googleConfig.getClientId())) {
+            throw new JwtException("잘못된 id_token aud: " + audience);
+        }
+        if (claims.getSubject() == null) {
+            throw new JwtException("id_token에 sub가 없습니다");
+        }
+
+        GoogleUserInfo userInfo = new GoogleUserInfo();
+        userInfo.setId(claims.getSubject());
+        userInfo.setEmail(claims.get("email", String.class));
+        userInfo.setVerifiedEmail(parseBoolean(claims.get("email_verified")));
+        userInfo.setName(claims.get("name", String.class));
+        userInfo.setGivenName(claims.get("given_name", String.class));
+        userInfo.setFamilyName(claims.get("family_name", String.class));
+        userInfo.setPicture(claims.get("picture", String.class));
+        userInfo.setLocale(claims.get("locale", String.class));
+        return userInfo;
+    }
+
+    // email_verified는 boolean이지만 일부 토큰에서는 "true" 문자열로 옴
+    private static Boolean parseBoolean(Object value) {
+        if (value instanceof Boolean bool) {
+            return bool;
+        }
+        return value != null ? Boolean.valueOf(value.toString()) : null;
+    }
+}
@@ -0,0 +1,175 @@
+package kr.ai.kjun.api.services.oauthservice.google;
+
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import kr.ai.kjun.api.metrics.StageMetrics;
+import kr.ai.kjun.api.services.oauthservice.config.GoogleConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.security.Key;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 구글 id_token 서명 검증용 공개키(JWKS) 메모리 캐시
+ *
+ * - 캐시 유지 시간: JWKS 응답의 Cache-Control max-age(Age 차감) -> Expires -> google.id-token.default-cache-ttl 순서
+ * - 백그라운드 갱신: 1분마다 확인하여 만료 refresh-ahead 전부터 미리 갱신 (로그인 요청이 JWKS 조회를 기다리지 않음)
+ * - 키 교체 대응: 캐시에 없는 kid가 오면 min-refresh-interval 간격으로만 즉시 갱신
+ * - 갱신 실패 시에는 만료된 키라도 계속 사용 (구글 키는 교체 후에도 한동안 함께 게시됨)
+ */
+@Component
+public class GoogleJwksProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(GoogleJwksProvider.class);
+
+    private static final String PROVIDER = "google";
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+
+    private final RestTemplate restTemplate;
+    private final GoogleConfig.IdToken config;
+    private final StageMetrics stageMetrics;
+    // 갱신 중에는 네트워크 호출을 기다리므로 synchronized 대신 ReentrantLock 사용 (가상 스레드가 캐리어를 점유하지 않음)
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile KeySet keySet;
+
+    public GoogleJwksProvider(
+            @Qualifier("googleRestTemplate") RestTemplate restTemplate,
+            GoogleConfig googleConfig,
+            StageMetrics stageMetrics) {
+        this.restTemplate = restTemplate;
+        this.config = googleConfig.getIdToken();
+        this.stageMetrics = stageMetrics;
+    }
+
+    /**
+     * kid에 해당하는 공개키 조회
+     *
+     * @param keyId JWS 헤더의 kid
+     * @return 공개키 (JWKS를 갱신해도 없으면 null)
+     */
+    public Key getKey(String keyId) {
+        long now = System.currentTimeMillis();
+        KeySet current = keySet;
+        if (current == null || now >= current.expiresAt()) {
+            current = refresh(current);
+        }
+
+        Key key = current.keys().get(keyId);
+        if (key == null && now - current.fetchedAt() >= config.getMinRefreshInterval()) {
+            // 구글이 키를 교체한 직후일 수 있으므로 한 번 더 조회
+            current = refresh(current);
+            key = current.keys().get(keyId);
+        }
+        return key;
+    }
+
+    /**
+     * 만료가 가까우면 백그라운드에서 미리 갱신
+     */
+    @Scheduled(initialDelay = 60000, fixedDelay = 60000)
+    public void refreshIfStale() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        KeySet current = keySet;
+        if (current == null || System.currentTimeMillis() >= current.expiresAt() - config.getRefreshAhead()) {
+            try {
+                refresh(current);
+            } catch (Exception e) {
+                log.warn("[Google JWKS] 백그라운드 갱신 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    // 여러 요청이 동시에 갱신하지 않도록 잠그고, 기다리는 동안 다른 스레드가 갱신했으면 그 결과를 사용
+    private KeySet refresh(KeySet observed) {
+        refreshLock.lock();
+        try {
+            KeySet current = keySet;
+            if (current != observed && current != null) {
+                return current;
+            }
+
+            try {
+                ResponseEntity<String> response = stageMetrics.record("provider.jwks", PROVIDER,
+                        () -> restTemplate.getForEntity(config.getJwksUrl(), String.class));
+                Map<String, Key> keys = parseKeys(response.getBody());
+                long now = System.currentTimeMillis();
+                KeySet refreshed = new KeySet(keys, now, now + cacheTtlMillis(response.getHeaders()));
+                keySet = refreshed;
+                log.debug("[Google JWKS] 갱신 - 키 {}개, 유지 {}ms", keys.size(), refreshed.expiresAt() - now);
+                return refreshed;
+            } catch (RuntimeException e) {
+                if (observed == null) {
+                    throw e;
+                }
+                log.warn("[Google JWKS] 갱신 실패, 기존 키 사용: {}", e.getMessage());
+                // 실패 직후 요청마다 다시 조회하지 않도록 min-refresh-interval 동안 기존 키 유지
+                long now = System.currentTimeMillis();
+                KeySet retained = new KeySet(observed.keys(), now, now + config.getMinRefreshInterval());
+                keySet = retained;
+                return retained;
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private static Map<String, Key> parseKeys(String json) {
+        if (json == null) {
+            throw new IllegalStateException("JWKS 응답이 비어 있습니다");
+        }
+        JwkSet jwkSet = Jwks.setParser().build().parse(json);
+        Map<String, Key> keys = new HashMap<>();
+        for (Jwk<?> jwk : jwkSet.getKeys()) {
+            if (jwk.getId() != null) {
+                keys.put(jwk.getId(), jwk.toKey());
+            }
+        }
+        return Map.copyOf(keys);
+    }
+
+    private long cacheTtlMillis(HttpHeaders headers) {
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl != null) {
+            Matcher matcher = MAX_AGE.matcher(cacheControl);
+            if (matcher.find()) {
+                long age = parseLong(headers.getFirst(HttpHeaders.AGE));
+                return Math.max(Long.parseLong(matcher.group(1)) - age, 0) * 1000;
+            }
+        }
+        long expires = headers.getExpires();
+        if (expires > 0) {
+            long date = headers.getDate() > 0 ? headers.getDate() : System.currentTimeMillis();
+            return Math.max(expires - date, 0);
+        }
+        return config.getDefaultCacheTtl();
+    }
+
+    private static long parseLong(String value) {
+        try {
+            return value != null ? Long.parseLong(value.trim()) : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * 조회한 공개키 묶음과 조회/만료 시각
+     */
+    private record KeySet(Map<String, Key> keys, long fetchedAt, long expiresAt) {
+    }
+}
@@ -1,8 +1,15 @@
 package kr.ai.kjun.api.services.oauthservice.google;
 
+import kr.ai.kjun.api.logging.LogMarkers;
+import kr.ai.kjun.api.logging.LogRedactor;
+import kr.ai.kjun.api.metrics.StageMetrics;
 import kr.ai.kjun.api.services.oauthservice.config.GoogleConfig;
 import kr.ai.kjun.api.services.oauthservice.google.dto.GoogleTokenResponse;
 import kr.ai.kjun.api.services.oauthservice.google.dto.GoogleUserInfo;
+import kr.ai.kjun.api.services.oauthservice.resilience.ProviderCallExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -20,21 +27,36 @@ import java.nio.charset.StandardCharsets;
 @Service
 public class GoogleService {
 
+    private static final Logger log = LoggerFactory.getLogger(GoogleService.class);
+
     private final RestTemplate restTemplate;
     private final GoogleConfig googleConfig;
-
-    // 구글 API URL
-    private static final String GOOGLE_TOKEN_URL = "https://oauth2.googleapis.com/token";
-    private static final String GOOGLE_USER_INFO_URL = "https://www.googleapis.com/oauth2/v2/userinfo";
-
-    public GoogleService(RestTemplate restTemplate, GoogleConfig googleConfig) {
+    private final StageMetrics stageMetrics;
+    private final ProviderCallExecutor providerCalls;
+    private final GoogleIdTokenVerifier idTokenVerifier;
+
+    // 메트릭 태그용 제공자 이름
+    private static final String PROVIDER = "google";
+    // Circuit Breaker 구분용 엔드포인트 이름
+    private static final String TOKEN_ENDPOINT = "token";
+    private static final String USER_INFO_ENDPOINT = "userinfo";
+
+    public GoogleService(
+            @Qualifier("googleRestTemplate") RestTemplate restTemplate,
+            GoogleConfig googleConfig,
+            StageMetrics stageMetrics,
+            ProviderCallExecutor providerCalls,
+            GoogleIdTokenVerifier idTokenVerifier) {
         this.restTemplate = restTemplate;
         this.googleConfig = googleConfig;
+        this.stageMetrics = stageMetrics;
+        this.providerCalls = providerCalls;
+        this.idTokenVerifier = idTokenVerifier;
     }
 
     // 구글 로그인 URL 생성
     public String getGoogleLoginUrl() {
-        String baseUrl = "https://accounts.google.com/o/oauth2/v2/auth";
+        String baseUrl = googleConfig.getAuthorizeUrl();
         String clientId = googleConfig.getClientId();
         String redirectUri = googleConfig.getRedirectUri();
 
@@ -51,17 +73,17 @@ public class GoogleService {
                     "%s?client_id=%s&redirect_uri=%s&response_type=code&scope=%s&access_type=offline",
                     baseUrl, clientId, encodedRedirectUri, encodedScope);
 
-            System.out.println("🔗 [구글 로그인 URL 생성] " + googleAuthUrl);
+            log.debug("[구글 로그인 URL 생성] {}", LogRedactor.redactUrl(googleAuthUrl));
             return googleAuthUrl;
         } catch (Exception e) {
-            System.err.println("❌ [구글 로그인 URL 생성 실패] " + e.getMessage());
+            log.warn("[구글 로그인 URL 생성 실패] {}", e.getMessage());
             throw new RuntimeException("구글 로그인 URL 생성 실패", e);
         }
     }
 
     // Authorization Code로 Access Token 받기
     public GoogleTokenResponse getAccessToken(String code) {
-        System.out.println("🔑 [구글 API] Access Token 요청 - code: " + code);
+        log.debug("[구글 API] Access Token 요청 - code: {}", LogRedactor.mask(code));
 
         // 요청 헤더 설정
         HttpHeaders headers = new HttpHeaders();
@@ -78,31 +100,31 @@ public class GoogleService {
         HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
 
         try {
-            ResponseEntity<GoogleTokenResponse> response = restTemplate.postForEntity(
-                    GOOGLE_TOKEN_URL,
-                    request,
-                    GoogleTokenResponse.class);
+            ResponseEntity<GoogleTokenResponse> response = stageMetrics.record("provider.token", PROVIDER,
+                    () -> providerCalls.call(PROVIDER, TOKEN_ENDPOINT, () -> restTemplate.postForEntity(
+                            googleConfig.getTokenUrl(),
+                            request,
+                            GoogleTokenResponse.class)));
 
             GoogleTokenResponse tokenResponse = response.getBody();
             if (tokenResponse != null) {
-                System.out.println("✅ [구글 API] Access Token 받기 성공");
+                log.info(LogMarkers.SAMPLED, "[구글 API] Access Token 받기 성공");
                 return tokenResponse;
             } else {
                 throw new RuntimeException("구글 토큰 응답이 null입니다");
             }
         } catch (org.springframework.web.client.HttpClientErrorException e) {
-            System.err
-                    .println("❌ [구글 API] Access Token 실패: " + e.getStatusCode() + " - " + e.getResponseBodyAsString());
+            log.warn("[구글 API] Access Token 실패: {} - {}", e.getStatusCode(), e.getResponseBodyAsString());
             throw new RuntimeException("구글 Access Token 발급 실패: " + e.getStatusCode(), e);
         } catch (Exception e) {
-            System.err.println("❌ [구글 API] Access Token 실패: " + e.getMessage());
+            log.warn("[구글 API] Access Token 실패: {}", e.getMessage());
             throw new RuntimeException("구글 Access Token 발급 실패", e);
         }
     }
 
     // Access Token으로 사용자 정보 받기
     public GoogleUserInfo getUserInfo(String accessToken) {
-        System.out.println("👤 [구글 API] 사용자 정보 요청");
+        log.debug("[구글 API] 사용자 정보 요청");
 
         // 요청 헤더 설정
         HttpHeaders headers = new HttpHeaders();
@@ -112,30 +134,51 @@ public class GoogleService {
         HttpEntity<String> request = new HttpEntity<>(headers);
 
         try {
-            ResponseEntity<GoogleUserInfo> response = restTemplate.exchange(
-                    GOOGLE_USER_INFO_URL,
-                    HttpMethod.GET,
-                    request,
-                    GoogleUserInfo.class);
+            ResponseEntity<GoogleUserInfo> response = stageMetrics.record("provider.userinfo", PROVIDER,
+                    () -> providerCalls.callHedged(PROVIDER, USER_INFO_ENDPOINT, () -> restTemplate.exchange(
+                            googleConfig.getUserInfoUrl(),
+                            HttpMethod.GET,
+                            request,
+                            GoogleUserInfo.class)));
 
             GoogleUserInfo userInfo = response.getBody();
             if (userInfo != null) {
-                System.out.println("✅ [구글 API] 사용자 정보 받기 성공 - ID: " + userInfo.getId());
+                log.info(LogMarkers.SAMPLED, "[구글 API] 사용자 정보 받기 성공 - ID: {}", userInfo.getId());
                 return userInfo;
             } else {
                 throw new RuntimeException("구글 사용자 정보 응답이 null입니다");
             }
         } catch (Exception e) {
-            System.err.println("❌ [구글 API] 사용자 정보 실패: " + e.getMessage());
+            log.warn("[구글 API] 사용자 정보 실패: {}", e.getMessage());
             throw new RuntimeException("구글 사용자 정보 조회 실패", e);
         }
     }
 
-    // 구글 인증 및 사용자 정보 추출
+    // id_token을 로컬 검증하여 사용자 정보 추출 (비활성화, id_token 없음, 검증 실패 시 null)
+    public GoogleUserInfo getUserInfoFromIdToken(String idToken) {
+        if (!googleConfig.getIdToken().isEnabled() || idToken == null || idToken.isBlank()) {
+            return null;
+        }
+
+        try {
+            GoogleUserInfo userInfo = stageMetrics.record("provider.idtoken", PROVIDER,
+                    () -> idTokenVerifier.verify(idToken));
+            log.info(LogMarkers.SAMPLED, "[구글 API] id_token 검증 성공 - ID: {}", userInfo.getId());
+            return userInfo;
+        } catch (Exception e) {
+            log.warn("[구글 API] id_token 검증 실패, 사용자 정보 API로 조회: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 구글 인증 및 사용자 정보 추출 (id_token 검증에 성공하면 사용자 정보 API 호출 생략)
     public GoogleUserInfo authenticateAndExtractUser(String code) {
         GoogleTokenResponse tokenResponse = getAccessToken(code);
-        GoogleUserInfo userInfo = getUserInfo(tokenResponse.getAccessToken());
-        System.out.println("✅ [구글 인증] 완료 - ID: " + userInfo.getId());
+        GoogleUserInfo userInfo = getUserInfoFromIdToken(tokenResponse.getIdToken());
+        if (userInfo == null) {
+            userInfo = getUserInfo(tokenResponse.getAccessToken());
+        }
+        log.info(LogMarkers.SAMPLED, "[구글 인증] 완료 - ID: {}", userInfo.getId());
         return userInfo;
     }
 }
@@ -0,0 +1,298 @@
+package kr.ai.kjun.api.services.oauthservice.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token Blacklist 로컬 캐시 (near-cache)
+ * Redis의 auth:blacklist:{jti} 키를 JVM 안에 복제하여 블랙리스트 확인을 로컬 조회로 처리
+ *
+ * - 시작 시: Redis SCAN으로 전체 블랙리스트 적재
+ * - 운영 중: auth:blacklist:events 채널(pub/sub)로 다른 인스턴스의 추가 내역 수신
+ * - 만료: 각 항목은 토큰의 exp 시각에 캐시에서도 제거
+ * - 주기적으로 전체 재동기화하여 pub/sub 메시지 유실에 대비
+ * - 구독이 끊기거나 재동기화에 실패하면 로컬 캐시를 사용하지 않고 (ready=false) Redis를 조회하며,
+ *   구독이 복구되면 다시 전체 재동기화한 뒤 사용
+ * - near-cache-max-size를 넘어 항목이 밀려난 뒤에는 로컬에 없는 jti를 Redis로 재확인 (isComplete)
+ * - 같은 경로로 RevokedTokenBloomFilter도 함께 채움 (정확한 로컬 캐시를 끈 경우에도 동작)
+ */
+@Component
+public class BlacklistNearCache implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(BlacklistNearCache.class);
+
+    private static final int SCAN_BATCH_SIZE = 1000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final JwtProperties jwtProperties;
+    private final RevokedTokenBloomFilter bloomFilter;
+    private final Cache<String, Long> entries;
+    private final AtomicLong sizeEvictions = new AtomicLong();
+
+    // 초기 적재가 끝나기 전이나 구독/재동기화에 실패한 동안에는 Redis를 직접 조회해야 함
+    private volatile boolean ready = false;
+    // 크기 제한으로 밀려난 항목이 없으면 true (로컬에 없는 jti는 블랙리스트가 아님이 확실)
+    private volatile boolean complete = true;
+    // 시작 시 적재를 시도한 뒤부터 구독 상태를 확인
+    private volatile boolean started = false;
+
+    public BlacklistNearCache(
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            JwtProperties jwtProperties,
+            RevokedTokenBloomFilter bloomFilter) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.jwtProperties = jwtProperties;
+        this.bloomFilter = bloomFilter;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getBlacklist().getNearCacheMaxSize())
+                .expireAfter(new ExpiresAt())
+                .evictionListener((String jti, Long expiresAt, RemovalCause cause) -> {
+                    if (cause == RemovalCause.SIZE) {
+                        sizeEvictions.incrementAndGet();
+                        complete = false;
+                    }
+                })
+                .build();
+
+        if (isSyncEnabled()) {
+            // 적재보다 구독을 먼저 등록해야 그 사이에 추가된 항목을 놓치지 않음
+            listenerContainer.addMessageListener(this, new ChannelTopic(TokenBlacklistService.BLACKLIST_CHANNEL));
+        }
+    }
+
+    /**
+     * 로컬 캐시 사용 가능 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 로컬 캐시가 블랙리스트 전체를 담고 있는지 여부
+     * false면 크기 제한으로 밀려난 항목이 있으므로 contains가 false여도 Redis로 재확인해야 함
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * 블랙리스트 여부 로컬 조회
+     *
+     * @param jti JWT ID
+     * @return 블랙리스트에 있으면 true (false는 isComplete일 때만 확실)
+     */
+    public boolean contains(String jti) {
+        return entries.getIfPresent(jti) != null;
+    }
+
+    /**
+     * 정확한 로컬 캐시(jti 집합) 사용 여부
+     */
+    public boolean isExactLookupEnabled() {
+        return jwtProperties.getBlacklist().isNearCacheEnabled();
+    }
+
+    /**
+     * Bloom 필터 사전 검사 사용 여부
+     */
+    public boolean isBloomFilterEnabled() {
+        return jwtProperties.getBlacklist().isBloomFilterEnabled();
+    }
+
+    /**
+     * Bloom 필터로 블랙리스트 포함 가능성 확인
+     *
+     * @param jti JWT ID
+     * @return false면 블랙리스트가 아님이 확실
+     */
+    public boolean mightContain(String jti) {
+        return bloomFilter.mightContain(jti);
+    }
+
+    /**
+     * 로컬 캐시에 추가
+     *
+     * @param jti             JWT ID
+     * @param expiresAtMillis 토큰 만료 시각 (epoch millis)
+     */
+    public void add(String jti, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        if (isBloomFilterEnabled()) {
+            bloomFilter.put(jti, expiresAtMillis);
+        }
+        if (isExactLookupEnabled()) {
+            entries.put(jti, expiresAtMillis);
+        }
+    }
+
+    /**
+     * pub/sub 메시지 수신 (형식: {jti}|{expiresAtMillis})
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf('|');
+        if (separator <= 0) {
+            return;
+        }
+        try {
+            add(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("[Token Blacklist] 잘못된 이벤트 메시지: {}", body);
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 후 Redis에서 전체 블랙리스트 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        resync();
+        started = true;
+    }
+
+    /**
+     * pub/sub 구독 상태 확인
+     * 구독이 끊긴 동안의 추가 내역은 받을 수 없으므로 로컬 캐시 사용을 중단하고, 복구되면 재동기화
+     */
+    @Scheduled(
+            initialDelayString = "${jwt.blacklist.subscription-check-ms:5000}",
+            fixedDelayString = "${jwt.blacklist.subscription-check-ms:5000}")
+    public void checkSubscription() {
+        if (!started || !isSyncEnabled()) {
+            return;
+        }
+        if (!listenerContainer.isListening()) {
+            if (ready) {
+                ready = false;
+                log.warn("[Token Blacklist] 이벤트 구독 끊김, 복구될 때까지 Redis 직접 조회");
+            }
+        } else if (!ready) {
+            resync();
+        }
+    }
+
+    /**
+     * Redis 전체 재동기화
+     */
+    @Scheduled(
+            initialDelayString = "${jwt.blacklist.resync-interval-ms:300000}",
+            fixedDelayString = "${jwt.blacklist.resync-interval-ms:300000}")
+    public void resync() {
+        if (!isSyncEnabled()) {
+            return;
+        }
+
+        try {
+            // 적재 중 크기 제한으로 밀려난 항목이 없어야 로컬 캐시만으로 판정 가능
+            long evictionsBefore = sizeEvictions.get();
+            int loaded = 0;
+            ScanOptions options = ScanOptions.scanOptions()
+                    .match(TokenBlacklistService.BLACKLIST_PREFIX + "*")
+                    .count(SCAN_BATCH_SIZE)
+                    .build();
+
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                List<String> batch = new ArrayList<>(SCAN_BATCH_SIZE);
+                while (cursor.hasNext()) {
+                    batch.add(cursor.next());
+                    if (batch.size() == SCAN_BATCH_SIZE) {
+                        loaded += loadBatch(batch);
+                        batch.clear();
+                    }
+                }
+                loaded += loadBatch(batch);
+            }
+
+            complete = sizeEvictions.get() == evictionsBefore && entries.estimatedSize() < maxSize();
+            ready = true;
+            log.info("[Token Blacklist] 로컬 캐시 동기화 완료 - {}건", loaded);
+        } catch (Exception e) {
+            ready = false;
+            log.warn("[Token Blacklist] 로컬 캐시 동기화 실패, Redis 직접 조회: {}", e.getMessage());
+        }
+    }
+
+    private long maxSize() {
+        return jwtProperties.getBlacklist().getNearCacheMaxSize();
+    }
+
+    private boolean isSyncEnabled() {
+        return isExactLookupEnabled() || isBloomFilterEnabled();
+    }
+
+    // 키 묶음의 남은 TTL을 파이프라인으로 한 번에 조회하여 적재
+    private int loadBatch(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+
+        List<Object> ttls = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.keyCommands().pTtl(key.getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        long now = System.currentTimeMillis();
+        int loaded = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            Object ttl = ttls.get(i);
+            if (ttl instanceof Long ttlMillis && ttlMillis > 0) {
+                String jti = keys.get(i).substring(TokenBlacklistService.BLACKLIST_PREFIX.length());
+                add(jti, now + ttlMillis);
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 값(만료 시각)에 맞춰 항목을 제거하는 만료 정책
+     */
+    private static class ExpiresAt implements Expiry<String, Long> {
+
+        @Override
+        public long expireAfterCreate(String jti, Long expiresAtMillis, long currentTime) {
+            long ttlMillis = expiresAtMillis - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(ttlMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String jti, Long expiresAtMillis, long currentTime, long currentDuration) {
+            return expireAfterCreate(jti, expiresAtMillis, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String jti, Long expiresAtMillis, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -3,6 +3,9 @@ package kr.ai.kjun.api.services.oauthservice.jwt;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * JWT 설정
  * application.yaml의 jwt.* 값을 읽어옴
@@ -14,6 +17,16 @@ public class JwtProperties {
     private String secret;
     private Long expiration;
     private Long refreshExpiration;
+    // 검증된 토큰 Claims 캐시 최대 개수
+    private long verifiedCacheMaxSize = 10_000;
+    // 유효한 Bearer 토큰이 반드시 필요한 경로 패턴 (Ant 스타일), 그 외 경로는 토큰을 읽지 않음
+    private List<String> protectedPaths = new ArrayList<>(List.of("/oauth/logout"));
+    // 블랙리스트 로컬 캐시 설정 (jwt.blacklist.*)
+    private Blacklist blacklist = new Blacklist();
+    // 사용자별 토큰 세대 로컬 캐시 설정 (jwt.generation.*)
+    private Generation generation = new Generation();
+    // 기기별 Refresh Token 패밀리 설정 (jwt.refresh-family.*)
+    private RefreshFamily refreshFamily = new RefreshFamily();
 
     // Getters and Setters
     public String getSecret() {
@@ -39,4 +52,185 @@ public class JwtProperties {
     public void setRefreshExpiration(Long refreshExpiration) {
         this.refreshExpiration = refreshExpiration;
     }
+
+    public long getVerifiedCacheMaxSize() {
+        return verifiedCacheMaxSize;
+    }
+
+    public void setVerifiedCacheMaxSize(long verifiedCacheMaxSize) {
+        this.verifiedCacheMaxSize = verifiedCacheMaxSize;
+    }
+
+    public List<String> getProtectedPaths() {
+        return protectedPaths;
+    }
+
+    public void setProtectedPaths(List<String> protectedPaths) {
+        this.protectedPaths = protectedPaths;
+    }
+
+    public Blacklist getBlacklist() {
+        return blacklist;
+    }
+
+    public void setBlacklist(Blacklist blacklist) {
+        this.blacklist = blacklist;
+    }
+
+    public Generation getGeneration() {
+        return generation;
+    }
+
+    public void setGeneration(Generation generation) {
+        this.generation = generation;
+    }
+
+    public RefreshFamily getRefreshFamily() {
+        return refreshFamily;
+    }
+
+    public void setRefreshFamily(RefreshFamily refreshFamily) {
+        this.refreshFamily = refreshFamily;
+    }
+
+    /**
+     * 블랙리스트 로컬 캐시 설정
+     */
+    public static class Blacklist {
+
+        // 로컬 캐시 사용 여부 (false면 매번 Redis 조회)
+        private boolean nearCacheEnabled = true;
+        // 로컬 캐시 최대 개수
+        private long nearCacheMaxSize = 1_000_000;
+        // Redis 전체 재동기화 주기 (pub/sub 메시지 유실 대비)
+        private long resyncIntervalMs = 300_000;
+        // pub/sub 구독 상태 확인 주기 (끊긴 동안은 로컬 캐시 대신 Redis 조회)
+        private long subscriptionCheckMs = 5_000;
+        // Bloom 필터 사전 검사 사용 여부
+        private boolean bloomFilterEnabled = true;
+        // Bloom 필터 시간 버킷 수 (jwt.expiration을 이 수로 나눈 간격마다 버킷 교체)
+        private int bloomBucketCount = 4;
+        // 버킷당 예상 블랙리스트 건수
+        private long bloomExpectedInsertions = 100_000;
+        // 목표 오탐률
+        private double bloomFalsePositiveRate = 0.001;
+
+        public boolean isNearCacheEnabled() {
+            return nearCacheEnabled;
+        }
+
+        public void setNearCacheEnabled(boolean nearCacheEnabled) {
+            this.nearCacheEnabled = nearCacheEnabled;
+        }
+
+        public long getNearCacheMaxSize() {
+            return nearCacheMaxSize;
+        }
+
+        public void setNearCacheMaxSize(long nearCacheMaxSize) {
+            this.nearCacheMaxSize = nearCacheMaxSize;
+        }
+
+        public long getResyncIntervalMs() {
+            return resyncIntervalMs;
+        }
+
+        public void setResyncIntervalMs(long resyncIntervalMs) {
+            this.resyncIntervalMs = resyncIntervalMs;
+        }
+
+        public long getSubscriptionCheckMs() {
+            return subscriptionCheckMs;
+        }
+
+        public void setSubscriptionCheckMs(long subscriptionCheckMs) {
+            this.subscriptionCheckMs = subscriptionCheckMs;
+        }
+
+        public boolean isBloomFilterEnabled() {
+            return bloomFilterEnabled;
+        }
+
+        public void setBloomFilterEnabled(boolean bloomFilterEnabled) {
+            this.bloomFilterEnabled = bloomFilterEnabled;
+        }
+
+        public int getBloomBucketCount() {
+            return bloomBucketCount;
+        }
+
+        public void setBloomBucketCount(int bloomBucketCount) {
+            this.bloomBucketCount = bloomBucketCount;
+        }
+
+        public long getBloomExpectedInsertions() {
+            return bloomExpectedInsertions;
+        }
+
+        public void setBloomExpectedInsertions(long bloomExpectedInsertions) {
+            this.bloomExpectedInsertions = bloomExpectedInsertions;
+        }
+
+        public double getBloomFalsePositiveRate() {
+            return bloomFalsePositiveRate;
+        }
+
+        public void setBloomFalsePositiveRate(double bloomFalsePositiveRate) {
+            this.bloomFalsePositiveRate = bloomFalsePositiveRate;
+        }
+    }
+
+    /**
+     * 토큰 세대 로컬 캐시 설정
+     */
+    public static class Generation {
+
+        // 로컬 캐시 최대 사용자 수
+        private long cacheMaxSize = 100_000;
+        // 로컬 캐시 유지 시간 (pub/sub 메시지 유실 시 이 시간 안에 Redis 값으로 복구)
+        private long cacheTtlMs = 60_000;
+
+        public long getCacheMaxSize() {
+            return cacheMaxSize;
+        }
+
+        public void setCacheMaxSize(long cacheMaxSize) {
+            this.cacheMaxSize = cacheMaxSize;
+        }
+
+        public long getCacheTtlMs() {
+            return cacheTtlMs;
+        }
+
+        public void setCacheTtlMs(long cacheTtlMs) {
+            this.cacheTtlMs = cacheTtlMs;
+        }
+    }
+
+    /**
+     * 기기별 Refresh Token 패밀리 설정
+     */
+    public static class RefreshFamily {
+
+        // 사용자당 최대 기기 수 (넘으면 가장 오래 갱신되지 않은 기기부터 제거)
+        private int maxDevices = 5;
+        // 교체 직후 직전 토큰을 동시 요청으로 보고 재사용 감지에서 제외하는 시간
+        private long reuseGraceMs = 10_000;
+
+        public int getMaxDevices() {
+            return maxDevices;
+        }
+
+        public void setMaxDevices(int maxDevices) {
+            this.maxDevices = maxDevices;
+        }
+
+        public long getReuseGraceMs() {
+            return reuseGraceMs;
+        }
+
+        public void setReuseGraceMs(long reuseGraceMs) {
+            this.reuseGraceMs = reuseGraceMs;
+        }
+    }
 }
@@ -0,0 +1,106 @@
+package kr.ai.kjun.api.services.oauthservice.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.MacAlgorithm;
+import kr.ai.kjun.api.metrics.StageMetrics;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * JWT 공용 코덱
+ * SecretKey, JwtParser, 서명 알고리즘을 애플리케이션 시작 시 한 번만 만들고
+ * 토큰을 다루는 모든 컴포넌트(JwtTokenProvider, TokenBlacklistService 등)가 공유
+ *
+ * JwtParser는 불변 객체이므로 여러 스레드에서 동시에 사용해도 안전함
+ * 서명/검증 시간은 auth.stage{stage=jwt.issue|jwt.verify}로 기록
+ */
+@Component
+public class JwtTokenCodec {
+
+    private final SecretKey secretKey;
+    private final MacAlgorithm algorithm;
+    private final JwtParser parser;
+    private final StageMetrics stageMetrics;
+
+    public JwtTokenCodec(SecretKey jwtSecretKey, StageMetrics stageMetrics) {
+        this.secretKey = jwtSecretKey;
+        this.stageMetrics = stageMetrics;
+        this.algorithm = resolveAlgorithm(jwtSecretKey);
+        this.parser = Jwts.parser()
+                .verifyWith(jwtSecretKey)
+                .build();
+    }
+
+    /**
+     * JWT 토큰 발급 (서명)
+     *
+     * @param claims     커스텀 Claims
+     * @param jti        JWT ID
+     * @param subject    subject
+     * @param issuedAt   발급 시각
+     * @param expiration 만료 시각
+     * @return 서명된 JWT 토큰
+     */
+    public String issue(Map<String, Object> claims, String jti, String subject, Date issuedAt, Date expiration) {
+        return stageMetrics.record("jwt.issue", StageMetrics.NO_PROVIDER, () -> Jwts.builder()
+                .claims(claims)
+                .id(jti)
+                .subject(subject)
+                .issuedAt(issuedAt)
+                .expiration(expiration)
+                .signWith(secretKey, algorithm)
+                .compact());
+    }
+
+    /**
+     * JWT 토큰 서명 검증 후 Claims 반환
+     *
+     * @param token JWT 토큰
+     * @return Claims
+     * @throws JwtException 서명이 잘못되었거나 만료된 경우
+     */
+    public Claims parse(String token) {
+        long startNanos = stageMetrics.start();
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            stageMetrics.stop("jwt.verify", StageMetrics.NO_PROVIDER, StageMetrics.SUCCESS, startNanos);
+            return claims;
+        } catch (RuntimeException e) {
+            stageMetrics.stop("jwt.verify", StageMetrics.NO_PROVIDER, "invalid", startNanos);
+            throw e;
+        }
+    }
+
+    /**
+     * JWT 토큰 서명 검증
+     *
+     * @param token JWT 토큰
+     * @return 유효하면 true, 아니면 false
+     */
+    public boolean verify(String token) {
+        try {
+            parse(token);
+            return true;
+        } catch (JwtException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // 키 길이에 맞는 HMAC 알고리즘을 미리 결정 (매 서명마다 키를 조회하지 않도록)
+    private static MacAlgorithm resolveAlgorithm(SecretKey key) {
+        int bits = key.getEncoded().length * 8;
+        if (bits >= 512) {
+            return Jwts.SIG.HS512;
+        }
+        if (bits >= 384) {
+            return Jwts.SIG.HS384;
+        }
+        return Jwts.SIG.HS256;
+    }
+}
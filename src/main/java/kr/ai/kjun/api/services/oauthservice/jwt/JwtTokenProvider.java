@@ -1,12 +1,10 @@
 package kr.ai.kjun.api.services.oauthservice.jwt;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -18,18 +16,23 @@ import java.util.UUID;
 @Component
 public class JwtTokenProvider {
 
+    private static final Logger log = LoggerFactory.getLogger(JwtTokenProvider.class);
+
     private final JwtProperties jwtProperties;
-    private final SecretKey secretKey;
+    private final JwtTokenCodec jwtTokenCodec;
+    private final TokenGenerationService tokenGenerationService;
 
-    public JwtTokenProvider(JwtProperties jwtProperties) {
+    public JwtTokenProvider(
+            JwtProperties jwtProperties,
+            JwtTokenCodec jwtTokenCodec,
+            TokenGenerationService tokenGenerationService) {
         this.jwtProperties = jwtProperties;
-        // HMAC-SHA 알고리즘을 위한 SecretKey 생성
-        this.secretKey = Keys.hmacShaKeyFor(
-                jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.jwtTokenCodec = jwtTokenCodec;
+        this.tokenGenerationService = tokenGenerationService;
     }
 
     /**
-     * JWT 토큰 생성
+     * JWT 토큰 생성 (토큰 세대는 Redis에서 조회)
      * 
      * @param userId   사용자 ID
      * @param email    이메일
@@ -37,6 +40,23 @@ public class JwtTokenProvider {
      * @return JWT 토큰
      */
     public String generateToken(Long userId, String email, String nickname) {
+        return sign(userId, email, nickname, tokenGenerationService.issuingGeneration(userId));
+    }
+
+    /**
+     * JWT 토큰 생성 (Refresh Token 발급/교체 시 함께 읽은 토큰 세대 사용, Redis 조회 없음)
+     *
+     * @param userId     사용자 ID
+     * @param email      이메일
+     * @param nickname   닉네임
+     * @param generation RefreshTokenService.IssuedRefreshToken의 세대
+     * @return JWT 토큰
+     */
+    public String generateToken(Long userId, String email, String nickname, long generation) {
+        return sign(userId, email, nickname, tokenGenerationService.issuingGeneration(userId, generation));
+    }
+
+    private String sign(Long userId, String email, String nickname, long generation) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtProperties.getExpiration());
 
@@ -44,18 +64,13 @@ public class JwtTokenProvider {
         claims.put("userId", userId);
         claims.put("email", email);
         claims.put("nickname", nickname);
+        // 사용자 토큰 세대 - 세대가 올라가면 이 토큰은 무효화됨 (발급 시에는 Redis의 최신 세대 사용)
+        claims.put(TokenGenerationService.GENERATION_CLAIM, generation);
 
         // JWT ID (jti) 생성 - 블랙리스트 관리에 사용
         String jti = UUID.randomUUID().toString();
 
-        return Jwts.builder()
-                .claims(claims)
-                .id(jti) // JWT ID 추가
-                .subject(String.valueOf(userId))
-                .issuedAt(now)
-                .expiration(expiryDate)
-                .signWith(secretKey)
-                .compact();
+        return jwtTokenCodec.issue(claims, jti, String.valueOf(userId), now, expiryDate);
     }
 
     /**
@@ -77,13 +92,10 @@ public class JwtTokenProvider {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
+            jwtTokenCodec.parse(token);
             return true;
         } catch (Exception e) {
-            System.err.println("❌ JWT 토큰 검증 실패: " + e.getMessage());
+            log.debug("JWT 토큰 검증 실패: {}", e.getMessage());
             return false;
         }
     }
@@ -95,10 +107,6 @@ public class JwtTokenProvider {
      * @return Claims
      */
     public Claims getAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtTokenCodec.parse(token);
     }
 }
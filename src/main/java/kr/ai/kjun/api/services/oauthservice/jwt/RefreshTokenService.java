@@ -1,91 +1,311 @@
 package kr.ai.kjun.api.services.oauthservice.jwt;
 
+import kr.ai.kjun.api.logging.LogMarkers;
+import kr.ai.kjun.api.metrics.StageMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Refresh Token 서비스
- * Refresh Token을 Upstash Redis에 저장 및 관리
- * Key 네이밍: auth:refresh:{userId}
+ * Refresh Token을 Upstash Redis에 기기별 패밀리로 저장 및 관리
+ * Key 네이밍: auth:refresh:{userId} (Hash, field: deviceId, value: {현재}|{직전}|{교체 시각}|{만료 시각})
+ *
+ * - 토큰 형식: {deviceId}.{secret} (클라이언트에는 불투명한 문자열)
+ * - 로그인마다 새 기기 패밀리를 추가하며, jwt.refresh-family.max-devices를 넘으면 가장 오래된 기기부터 제거
+ * - Hash 필드에는 TTL을 걸 수 없으므로 만료 시각을 값에 기록하고 스크립트에서 정리
+ * - 이미 교체된 토큰이 다시 제시되면 재사용으로 보고 해당 기기 패밀리를 폐기
+ *   (단, 교체 직후 유예 시간 안의 직전 토큰은 동시 요청으로 보고 거절만 함)
+ * - 발급/교체는 Lua 스크립트로 Redis 왕복 1회에 처리
+ *   (같은 스크립트에서 사용자의 토큰 세대 auth:gen:{userId}도 읽어 Access Token 발급에 별도 Redis 조회가 없음)
+ *
+ * Redis 명령 시간은 auth.stage{stage=redis.refresh.*}로 기록
  */
 @Service
 public class RefreshTokenService {
 
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+
     private final RedisTemplate<String, String> redisTemplate;
     private final JwtProperties jwtProperties;
+    private final StageMetrics stageMetrics;
 
     // Redis Key 접두사
     private static final String REFRESH_TOKEN_PREFIX = "auth:refresh:";
     // Refresh Token 기본 TTL: 7일
     private static final long REFRESH_TOKEN_TTL_DAYS = 7;
+    // 일괄 삭제 시 한 번의 파이프라인에 담는 명령 수
+    private static final int BATCH_SIZE = 500;
+    // deviceId와 secret 구분자 (UUID에는 포함되지 않는 문자)
+    private static final char DEVICE_SEPARATOR = '.';
+
+    // 교체 스크립트 반환값
+    private static final long ROTATED = 1L;
+    private static final long REUSED = -1L;
+
+    // 기기 패밀리 발급 (resources/redis/refresh_issue.lua)
+    private static final RedisScript<List<Long>> ISSUE_SCRIPT = createScript("redis/refresh_issue.lua");
+    // 검증 + 교체 + 재사용 감지 (resources/redis/refresh_rotate.lua)
+    private static final RedisScript<List<Long>> ROTATE_SCRIPT = createScript("redis/refresh_rotate.lua");
+
+    /**
+     * 발급/교체된 Refresh Token과 같은 스크립트에서 함께 읽은 사용자의 토큰 세대
+     *
+     * @param refreshToken Refresh Token ({deviceId}.{secret})
+     * @param generation   Access Token의 gen 클레임에 넣을 세대
+     */
+    public record IssuedRefreshToken(String refreshToken, long generation) {
+    }
 
-    public RefreshTokenService(RedisTemplate<String, String> redisTemplate, JwtProperties jwtProperties) {
+    public RefreshTokenService(
+            RedisTemplate<String, String> redisTemplate,
+            JwtProperties jwtProperties,
+            StageMetrics stageMetrics) {
         this.redisTemplate = redisTemplate;
         this.jwtProperties = jwtProperties;
+        this.stageMetrics = stageMetrics;
     }
 
     /**
-     * Refresh Token 생성 및 Redis에 저장
+     * Refresh Token 생성 및 Redis에 저장 (새 기기 패밀리 추가)
      * 
      * @param userId 사용자 ID
-     * @return 생성된 Refresh Token
+     * @return 생성된 Refresh Token ({deviceId}.{secret})
      */
     public String generateAndSaveRefreshToken(Long userId) {
-        // UUID 기반 Refresh Token 생성
-        String refreshToken = UUID.randomUUID().toString();
+        return issueRefreshToken(userId).refreshToken();
+    }
 
-        // Redis에 저장 (Key: auth:refresh:{userId}, Value: refreshToken, TTL: 7일)
-        String key = REFRESH_TOKEN_PREFIX + userId;
-        long ttlSeconds = TimeUnit.DAYS.toSeconds(REFRESH_TOKEN_TTL_DAYS);
+    /**
+     * Refresh Token 생성 및 Redis에 저장하고 사용자의 토큰 세대를 함께 조회 (Redis 왕복 1회)
+     *
+     * @param userId 사용자 ID
+     * @return 생성된 Refresh Token과 현재 토큰 세대
+     */
+    public IssuedRefreshToken issueRefreshToken(Long userId) {
+        String deviceId = UUID.randomUUID().toString();
+        String secret = UUID.randomUUID().toString();
 
-        redisTemplate.opsForValue().set(key, refreshToken, ttlSeconds, TimeUnit.SECONDS);
+        String key = REFRESH_TOKEN_PREFIX + userId;
+        List<Long> result = stageMetrics.record("redis.refresh.save", StageMetrics.NO_PROVIDER,
+                () -> redisTemplate.execute(
+                        ISSUE_SCRIPT,
+                        List.of(key, TokenGenerationService.GENERATION_PREFIX + userId),
+                        deviceId,
+                        secret,
+                        String.valueOf(System.currentTimeMillis()),
+                        String.valueOf(ttlMillis()),
+                        String.valueOf(jwtProperties.getRefreshFamily().getMaxDevices())));
 
-        System.out.println("✅ [Refresh Token] 생성 및 저장 완료 - userId: " + userId);
-        return refreshToken;
+        // 반환: { 제거된 기기 수, 토큰 세대 }
+        long evicted = result.get(0);
+        if (evicted > 0) {
+            log.info("[Refresh Token] 기기 수 제한으로 {}개 기기 제거 - userId: {}", evicted, userId);
+        }
+        log.info(LogMarkers.SAMPLED, "[Refresh Token] 생성 및 저장 완료 - userId: {}", userId);
+        return new IssuedRefreshToken(deviceId + DEVICE_SEPARATOR + secret, result.get(1));
     }
 
     /**
-     * Refresh Token 검증
+     * Refresh Token 검증 (교체 없이 확인만)
      * 
      * @param userId       사용자 ID
      * @param refreshToken 검증할 Refresh Token
      * @return 유효하면 true, 아니면 false
      */
     public boolean validateRefreshToken(Long userId, String refreshToken) {
+        int separator = refreshToken.indexOf(DEVICE_SEPARATOR);
+        if (separator <= 0) {
+            log.debug("[Refresh Token] 검증 실패 (형식 오류) - userId: {}", userId);
+            return false;
+        }
+
         String key = REFRESH_TOKEN_PREFIX + userId;
-        String storedToken = redisTemplate.opsForValue().get(key);
+        String deviceId = refreshToken.substring(0, separator);
+        Object stored = stageMetrics.record("redis.refresh.get", StageMetrics.NO_PROVIDER,
+                () -> redisTemplate.opsForHash().get(key, deviceId));
 
-        if (storedToken == null || !storedToken.equals(refreshToken)) {
-            System.out.println("❌ [Refresh Token] 검증 실패 - userId: " + userId);
+        // 값 형식: {현재}|{직전}|{교체 시각}|{만료 시각}
+        String[] fields = stored instanceof String value ? value.split("\\|", -1) : null;
+        if (fields == null || fields.length != 4
+                || !fields[0].equals(refreshToken.substring(separator + 1))
+                || Long.parseLong(fields[3]) <= System.currentTimeMillis()) {
+            log.debug("[Refresh Token] 검증 실패 - userId: {}", userId);
             return false;
         }
 
-        System.out.println("✅ [Refresh Token] 검증 성공 - userId: " + userId);
+        log.info(LogMarkers.SAMPLED, "[Refresh Token] 검증 성공 - userId: {}", userId);
         return true;
     }
 
     /**
-     * Refresh Token 삭제 (로그아웃 시 사용)
+     * Refresh Token의 기기 ID (검증 없이 형식만 분리)
+     *
+     * @param refreshToken Refresh Token
+     * @return 기기 ID (이전 형식 토큰이면 "legacy")
+     */
+    public static String deviceIdOf(String refreshToken) {
+        int separator = refreshToken.indexOf(DEVICE_SEPARATOR);
+        return separator > 0 ? refreshToken.substring(0, separator) : "legacy";
+    }
+
+    /**
+     * 사용자의 모든 기기 Refresh Token 삭제 (전체 로그아웃 시 사용)
      * 
      * @param userId 사용자 ID
      */
     public void deleteRefreshToken(Long userId) {
         String key = REFRESH_TOKEN_PREFIX + userId;
-        redisTemplate.delete(key);
-        System.out.println("🗑️ [Refresh Token] 삭제 완료 - userId: " + userId);
+        stageMetrics.record("redis.refresh.delete", StageMetrics.NO_PROVIDER, () -> redisTemplate.delete(key));
+        log.info(LogMarkers.SAMPLED, "[Refresh Token] 삭제 완료 - userId: {}", userId);
     }
 
     /**
-     * Refresh Token 갱신 (기존 토큰 삭제 후 새로 생성)
+     * 제시된 Refresh Token의 기기 패밀리만 삭제 (해당 기기 로그아웃 시 사용)
+     * 이전 형식 토큰은 기기 구분이 없으므로 사용자의 Refresh Token 전체를 삭제
      * 
-     * @param userId 사용자 ID
-     * @return 새로운 Refresh Token
+     * @param userId       사용자 ID
+     * @param refreshToken 로그아웃할 기기의 Refresh Token
      */
-    public String refreshToken(Long userId) {
-        deleteRefreshToken(userId);
-        return generateAndSaveRefreshToken(userId);
+    public void revokeDevice(Long userId, String refreshToken) {
+        int separator = refreshToken.indexOf(DEVICE_SEPARATOR);
+        if (separator <= 0) {
+            deleteRefreshToken(userId);
+            return;
+        }
+
+        String key = REFRESH_TOKEN_PREFIX + userId;
+        String deviceId = refreshToken.substring(0, separator);
+        stageMetrics.record("redis.refresh.delete", StageMetrics.NO_PROVIDER,
+                () -> redisTemplate.opsForHash().delete(key, deviceId));
+        log.info(LogMarkers.SAMPLED, "[Refresh Token] 기기 삭제 완료 - userId: {}", userId);
+    }
+
+    /**
+     * 여러 사용자의 Refresh Token(모든 기기) 일괄 삭제
+     * BATCH_SIZE개씩 파이프라인으로 묶어 한 번의 왕복으로 처리
+     * 
+     * @param userIds 사용자 ID 목록 (중복은 한 번만 처리)
+     * @return 사용자 ID별 삭제 여부 (저장된 토큰이 없었으면 false)
+     */
+    public Map<Long, Boolean> deleteRefreshTokens(Collection<Long> userIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(userIds));
+        Map<Long, Boolean> results = new LinkedHashMap<>();
+
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+            List<Object> deleted = stageMetrics.record("redis.refresh.delete_batch", StageMetrics.NO_PROVIDER,
+                    () -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                        for (Long userId : batch) {
+                            connection.keyCommands().del(
+                                    (REFRESH_TOKEN_PREFIX + userId).getBytes(StandardCharsets.UTF_8));
+                        }
+                        return null;
+                    }));
+
+            for (int i = 0; i < batch.size(); i++) {
+                results.put(batch.get(i), deleted.get(i) instanceof Long count && count > 0);
+            }
+        }
+
+        log.info("[Refresh Token] 일괄 삭제 완료 - {}명", results.size());
+        return results;
+    }
+
+    /**
+     * Refresh Token 검증 및 교체 (원자적, Redis 왕복 1회)
+     * 
+     * @param userId       사용자 ID
+     * @param refreshToken 클라이언트가 제시한 Refresh Token
+     * @return 새로운 Refresh Token (검증 실패 시 null)
+     */
+    public String rotateRefreshToken(Long userId, String refreshToken) {
+        IssuedRefreshToken rotated = rotate(userId, refreshToken);
+        return rotated != null ? rotated.refreshToken() : null;
+    }
+
+    /**
+     * Refresh Token 검증 및 교체 (원자적, Redis 왕복 1회)
+     * 해당 기기 패밀리의 현재 토큰과 같을 때만 새 토큰으로 교체하므로
+     * 같은 토큰으로 동시에 갱신을 요청해도 하나만 성공함
+     * 이미 교체된 토큰이 유예 시간 이후 다시 제시되면 해당 기기 패밀리를 폐기함
+     * 교체에 성공하면 같은 스크립트에서 사용자의 토큰 세대도 함께 조회
+     * 
+     * @param userId       사용자 ID
+     * @param refreshToken 클라이언트가 제시한 Refresh Token
+     * @return 새로운 Refresh Token과 현재 토큰 세대 (검증 실패 시 null)
+     */
+    public IssuedRefreshToken rotate(Long userId, String refreshToken) {
+        String key = REFRESH_TOKEN_PREFIX + userId;
+        int separator = refreshToken.indexOf(DEVICE_SEPARATOR);
+        // 이전 형식 토큰(단일 문자열 키)은 교체하면서 새 기기 패밀리로 옮김
+        boolean legacy = separator <= 0;
+        String deviceId = legacy ? UUID.randomUUID().toString() : refreshToken.substring(0, separator);
+        String presented = legacy ? refreshToken : refreshToken.substring(separator + 1);
+        String newSecret = UUID.randomUUID().toString();
+
+        long startNanos = stageMetrics.start();
+        List<Long> result;
+        try {
+            result = redisTemplate.execute(
+                    ROTATE_SCRIPT,
+                    List.of(key, TokenGenerationService.GENERATION_PREFIX + userId),
+                    deviceId,
+                    presented,
+                    newSecret,
+                    String.valueOf(System.currentTimeMillis()),
+                    String.valueOf(ttlMillis()),
+                    String.valueOf(jwtProperties.getRefreshFamily().getReuseGraceMs()),
+                    legacy ? "1" : "0");
+        } catch (RuntimeException e) {
+            stageMetrics.stop("redis.refresh.rotate", StageMetrics.NO_PROVIDER, StageMetrics.ERROR, startNanos);
+            throw e;
+        }
+
+        // 반환: { 결과, 토큰 세대 }
+        Long rotated = result != null ? result.get(0) : null;
+        if (rotated == null || rotated != ROTATED) {
+            boolean reused = rotated != null && rotated == REUSED;
+            stageMetrics.stop("redis.refresh.rotate", StageMetrics.NO_PROVIDER,
+                    reused ? "reused" : "rejected", startNanos);
+            if (reused) {
+                log.warn("[Refresh Token] 재사용 감지 - 기기 패밀리 폐기, userId: {}", userId);
+            } else {
+                log.debug("[Refresh Token] 검증 실패 - userId: {}", userId);
+            }
+            return null;
+        }
+        stageMetrics.stop("redis.refresh.rotate", StageMetrics.NO_PROVIDER, StageMetrics.SUCCESS, startNanos);
+
+        log.info(LogMarkers.SAMPLED, "[Refresh Token] 교체 완료 - userId: {}", userId);
+        return new IssuedRefreshToken(deviceId + DEVICE_SEPARATOR + newSecret, result.get(1));
+    }
+
+    private static long ttlMillis() {
+        return TimeUnit.DAYS.toMillis(REFRESH_TOKEN_TTL_DAYS);
+    }
+
+    // 두 스크립트 모두 정수 배열을 반환 (List<Long>)
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static RedisScript<List<Long>> createScript(String location) {
+        DefaultRedisScript script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(location));
+        script.setResultType(List.class);
+        return script;
     }
 }
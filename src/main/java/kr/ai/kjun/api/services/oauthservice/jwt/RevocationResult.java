@@ -0,0 +1,16 @@
+package kr.ai.kjun.api.services.oauthservice.jwt;
+
+/**
+ * 일괄 무효화 항목별 처리 결과
+ */
+public enum RevocationResult {
+
+    // 블랙리스트에 추가됨
+    REVOKED,
+    // 이미 만료되어 추가할 필요 없음
+    EXPIRED,
+    // 서명이 잘못되었거나 형식이 잘못된 토큰
+    INVALID,
+    // Redis 오류로 처리하지 못함 (재시도 필요)
+    ERROR
+}
@@ -0,0 +1,142 @@
+package kr.ai.kjun.api.services.oauthservice.jwt;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 블랙리스트 jti용 시간 버킷 Bloom 필터
+ * "확실히 블랙리스트가 아님"을 네트워크 없이 판정하기 위한 사전 검사
+ *
+ * - 토큰 만료 시각(exp)을 기준으로 버킷을 나누고, 버킷의 끝 시각이 지나면 통째로 버림
+ *   (버킷 간격 = jwt.expiration / jwt.blacklist.bloom-bucket-count)
+ * - 버킷 크기는 jwt.blacklist.bloom-expected-insertions, bloom-false-positive-rate로 결정
+ * - mightContain이 false면 블랙리스트가 아님이 확실, true면 실제 저장소로 재확인 필요
+ */
+@Component
+public class RevokedTokenBloomFilter {
+
+    private final long bucketWidthMillis;
+    private final int bitCount;
+    private final int hashCount;
+
+    // 버킷 인덱스(exp / 버킷 간격) -> 버킷
+    private final ConcurrentSkipListMap<Long, BloomBucket> buckets = new ConcurrentSkipListMap<>();
+
+    public RevokedTokenBloomFilter(JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+        JwtProperties.Blacklist config = jwtProperties.getBlacklist();
+        this.bucketWidthMillis = Math.max(jwtProperties.getExpiration() / Math.max(config.getBloomBucketCount(), 1), 1000);
+
+        // 표준 Bloom 필터 크기 공식: m = -n ln p / (ln 2)^2, k = m / n ln 2
+        long expected = Math.max(config.getBloomExpectedInsertions(), 1);
+        double fpp = config.getBloomFalsePositiveRate();
+        long bits = (long) Math.ceil(-expected * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.min(Math.max(bits, 64), Integer.MAX_VALUE - 63);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expected * Math.log(2)));
+
+        Gauge.builder("auth.blacklist.prefilter.buckets", buckets, Map::size)
+                .description("활성 Bloom 필터 버킷 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 블랙리스트 jti 추가
+     *
+     * @param jti             JWT ID
+     * @param expiresAtMillis 토큰 만료 시각 (epoch millis)
+     */
+    public void put(String jti, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        long index = expiresAtMillis / bucketWidthMillis;
+        buckets.computeIfAbsent(index, i -> new BloomBucket(bitCount)).put(hash(jti), hashCount);
+    }
+
+    /**
+     * 블랙리스트 포함 가능성 확인
+     *
+     * @param jti JWT ID
+     * @return false면 블랙리스트가 아님이 확실, true면 재확인 필요
+     */
+    public boolean mightContain(String jti) {
+        evictExpiredBuckets();
+        long hash = hash(jti);
+        for (BloomBucket bucket : buckets.values()) {
+            if (bucket.mightContain(hash, hashCount)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 끝 시각이 지난 버킷은 그 안의 토큰이 모두 만료되었으므로 제거
+    private void evictExpiredBuckets() {
+        long currentIndex = System.currentTimeMillis() / bucketWidthMillis;
+        ConcurrentNavigableMap<Long, BloomBucket> expired = buckets.headMap(currentIndex);
+        if (!expired.isEmpty()) {
+            expired.clear();
+        }
+    }
+
+    // 64비트 해시 (FNV-1a + MurmurHash3 fmix64)
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        return fmix64(h);
+    }
+
+    private static long fmix64(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * 단일 시간 버킷의 Bloom 필터 (lock-free 비트 배열)
+     */
+    private static class BloomBucket {
+
+        private final AtomicLongArray words;
+        private final int bitCount;
+
+        BloomBucket(int bitCount) {
+            this.bitCount = bitCount;
+            this.words = new AtomicLongArray((bitCount + 63) / 64);
+        }
+
+        void put(long hash, int hashCount) {
+            long h1 = hash;
+            long h2 = fmix64(hash ^ 0x9e3779b97f4a7c15L);
+            for (int i = 0; i < hashCount; i++) {
+                int bit = (int) Math.floorMod(h1 + i * h2, (long) bitCount);
+                long mask = 1L << (bit & 63);
+                words.getAndUpdate(bit >>> 6, word -> word | mask);
+            }
+        }
+
+        boolean mightContain(long hash, int hashCount) {
+            long h1 = hash;
+            long h2 = fmix64(hash ^ 0x9e3779b97f4a7c15L);
+            for (int i = 0; i < hashCount; i++) {
+                int bit = (int) Math.floorMod(h1 + i * h2, (long) bitCount);
+                if ((words.get(bit >>> 6) & (1L << (bit & 63))) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
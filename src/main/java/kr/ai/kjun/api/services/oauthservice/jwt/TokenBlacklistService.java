@@ -1,100 +1,256 @@
 package kr.ai.kjun.api.services.oauthservice.jwt;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.ai.kjun.api.logging.LogMarkers;
+import kr.ai.kjun.api.logging.LogRedactor;
+import kr.ai.kjun.api.metrics.StageMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Token Blacklist 서비스
  * 로그아웃된 Access Token을 Redis에 저장하여 Gateway에서 검증
  * Key 네이밍: auth:blacklist:{jti}
+ *
+ * 확인(isBlacklisted)은 Bloom 필터 사전 검사 -> BlacklistNearCache 로컬 조회 -> Redis 순서로 처리하고,
+ * 추가(addToBlacklist) 시 auth:blacklist:events 채널로 모든 인스턴스에 전파
+ *
+ * 사전 검사 결과는 auth.blacklist.prefilter{result=negative|true_positive|false_positive} 카운터로,
+ * Redis 명령 시간은 auth.stage{stage=redis.blacklist.*}로 기록
  */
 @Service
 public class TokenBlacklistService {
 
+    private static final Logger log = LoggerFactory.getLogger(TokenBlacklistService.class);
+
     private final RedisTemplate<String, String> redisTemplate;
     private final JwtProperties jwtProperties;
-    private final SecretKey secretKey;
+    private final JwtTokenCodec jwtTokenCodec;
+    private final BlacklistNearCache blacklistNearCache;
+    private final StageMetrics stageMetrics;
+    private final Counter prefilterNegative;
+    private final Counter prefilterTruePositive;
+    private final Counter prefilterFalsePositive;
 
     // Redis Key 접두사
-    private static final String BLACKLIST_PREFIX = "auth:blacklist:";
+    static final String BLACKLIST_PREFIX = "auth:blacklist:";
+    // 블랙리스트 추가 이벤트 채널 (메시지: {jti}|{expiresAtMillis})
+    static final String BLACKLIST_CHANNEL = "auth:blacklist:events";
+    // 일괄 추가 시 한 번의 파이프라인에 담는 토큰 수 (토큰당 SET + PUBLISH 2개 명령)
+    private static final int BATCH_SIZE = 500;
 
-    public TokenBlacklistService(RedisTemplate<String, String> redisTemplate, JwtProperties jwtProperties) {
+    public TokenBlacklistService(
+            RedisTemplate<String, String> redisTemplate,
+            JwtProperties jwtProperties,
+            JwtTokenCodec jwtTokenCodec,
+            BlacklistNearCache blacklistNearCache,
+            StageMetrics stageMetrics,
+            MeterRegistry meterRegistry) {
         this.redisTemplate = redisTemplate;
         this.jwtProperties = jwtProperties;
-        this.secretKey = Keys.hmacShaKeyFor(
-                jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.jwtTokenCodec = jwtTokenCodec;
+        this.blacklistNearCache = blacklistNearCache;
+        this.stageMetrics = stageMetrics;
+        this.prefilterNegative = prefilterCounter(meterRegistry, "negative");
+        this.prefilterTruePositive = prefilterCounter(meterRegistry, "true_positive");
+        this.prefilterFalsePositive = prefilterCounter(meterRegistry, "false_positive");
     }
 
     /**
      * Access Token을 블랙리스트에 추가
-     * 
+     *
      * @param accessToken 블랙리스트에 추가할 Access Token
      */
     public void addToBlacklist(String accessToken) {
         try {
             // JWT에서 Claims 추출
-            Claims claims = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(accessToken)
-                    .getPayload();
+            Claims claims = jwtTokenCodec.parse(accessToken);
 
             // JWT ID (jti) 추출
-            String jti = claims.getId();
-            if (jti == null) {
-                // jti가 없으면 subject를 사용
-                jti = claims.getSubject();
-            }
+            String jti = resolveJti(claims);
 
             // 만료 시간 계산
             Date expiration = claims.getExpiration();
-            long ttlSeconds = expiration != null
-                    ? (expiration.getTime() - System.currentTimeMillis()) / 1000
-                    : jwtProperties.getExpiration() / 1000; // 기본 TTL
+            long expiresAtMillis = expiration != null
+                    ? expiration.getTime()
+                    : System.currentTimeMillis() + jwtProperties.getExpiration(); // 기본 TTL
+            long ttlSeconds = (expiresAtMillis - System.currentTimeMillis()) / 1000;
 
             if (ttlSeconds > 0) {
                 // Redis에 저장 (Key: auth:blacklist:{jti}, Value: "true", TTL: 토큰 만료 시간까지)
                 String key = BLACKLIST_PREFIX + jti;
-                redisTemplate.opsForValue().set(key, "true", ttlSeconds, TimeUnit.SECONDS);
-                System.out.println("✅ [Token Blacklist] 추가 완료 - jti: " + jti);
+                stageMetrics.run("redis.blacklist.set", StageMetrics.NO_PROVIDER,
+                        () -> redisTemplate.opsForValue().set(key, "true", ttlSeconds, TimeUnit.SECONDS));
+
+                // 로컬 캐시에 즉시 반영하고 다른 인스턴스에 전파
+                blacklistNearCache.add(jti, expiresAtMillis);
+                stageMetrics.record("redis.blacklist.publish", StageMetrics.NO_PROVIDER,
+                        () -> redisTemplate.convertAndSend(BLACKLIST_CHANNEL, jti + "|" + expiresAtMillis));
+                log.info(LogMarkers.SAMPLED, "[Token Blacklist] 추가 완료 - jti: {}", LogRedactor.mask(jti));
             }
         } catch (Exception e) {
-            System.err.println("❌ [Token Blacklist] 추가 실패: " + e.getMessage());
+            log.warn("[Token Blacklist] 추가 실패: {}", e.getMessage());
         }
     }
 
+    /**
+     * 여러 Access Token을 블랙리스트에 일괄 추가
+     * 서명 검증은 로컬에서 하고, Redis SET/PUBLISH는 BATCH_SIZE개씩 파이프라인으로 처리
+     *
+     * @param accessTokens 블랙리스트에 추가할 Access Token 목록
+     * @return 입력 순서와 같은 순서의 항목별 결과
+     */
+    public List<RevocationResult> addAllToBlacklist(List<String> accessTokens) {
+        RevocationResult[] results = new RevocationResult[accessTokens.size()];
+        List<Integer> pendingIndexes = new ArrayList<>();
+        List<String> pendingJtis = new ArrayList<>();
+        List<Long> pendingExpirations = new ArrayList<>();
+
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < accessTokens.size(); i++) {
+            Claims claims;
+            try {
+                claims = jwtTokenCodec.parse(accessTokens.get(i));
+            } catch (ExpiredJwtException e) {
+                results[i] = RevocationResult.EXPIRED;
+                continue;
+            } catch (JwtException | IllegalArgumentException e) {
+                results[i] = RevocationResult.INVALID;
+                continue;
+            }
+
+            Date expiration = claims.getExpiration();
+            long expiresAtMillis = expiration != null ? expiration.getTime() : now + jwtProperties.getExpiration();
+            if (expiresAtMillis - now < 1000) {
+                results[i] = RevocationResult.EXPIRED;
+                continue;
+            }
+            pendingIndexes.add(i);
+            pendingJtis.add(resolveJti(claims));
+            pendingExpirations.add(expiresAtMillis);
+        }
+
+        for (int from = 0; from < pendingIndexes.size(); from += BATCH_SIZE) {
+            int to = Math.min(from + BATCH_SIZE, pendingIndexes.size());
+            List<String> jtis = pendingJtis.subList(from, to);
+            List<Long> expirations = pendingExpirations.subList(from, to);
+
+            RevocationResult batchResult;
+            try {
+                stageMetrics.record("redis.blacklist.set_batch", StageMetrics.NO_PROVIDER,
+                        () -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                            byte[] channel = BLACKLIST_CHANNEL.getBytes(StandardCharsets.UTF_8);
+                            byte[] value = "true".getBytes(StandardCharsets.UTF_8);
+                            long sentAt = System.currentTimeMillis();
+                            for (int j = 0; j < jtis.size(); j++) {
+                                String jti = jtis.get(j);
+                                long expiresAtMillis = expirations.get(j);
+                                connection.stringCommands().setEx(
+                                        (BLACKLIST_PREFIX + jti).getBytes(StandardCharsets.UTF_8),
+                                        Math.max((expiresAtMillis - sentAt) / 1000, 1),
+                                        value);
+                                connection.publish(channel,
+                                        (jti + "|" + expiresAtMillis).getBytes(StandardCharsets.UTF_8));
+                            }
+                            return null;
+                        }));
+
+                for (int j = 0; j < jtis.size(); j++) {
+                    blacklistNearCache.add(jtis.get(j), expirations.get(j));
+                }
+                batchResult = RevocationResult.REVOKED;
+            } catch (Exception e) {
+                log.warn("[Token Blacklist] 일괄 추가 실패: {}", e.getMessage());
+                batchResult = RevocationResult.ERROR;
+            }
+
+            for (int index : pendingIndexes.subList(from, to)) {
+                results[index] = batchResult;
+            }
+        }
+
+        log.info("[Token Blacklist] 일괄 추가 처리 - 요청 {}건, 유효 토큰 {}건", results.length, pendingIndexes.size());
+        return Arrays.asList(results);
+    }
+
     /**
      * Access Token이 블랙리스트에 있는지 확인
-     * 
+     *
      * @param accessToken 확인할 Access Token
      * @return 블랙리스트에 있으면 true, 없으면 false
      */
     public boolean isBlacklisted(String accessToken) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(accessToken)
-                    .getPayload();
-
-            String jti = claims.getId();
-            if (jti == null) {
-                jti = claims.getSubject();
-            }
-
-            String key = BLACKLIST_PREFIX + jti;
-            String value = redisTemplate.opsForValue().get(key);
-            return value != null && !value.isEmpty();
+            Claims claims = jwtTokenCodec.parse(accessToken);
+            return isBlacklisted(claims);
         } catch (Exception e) {
             return false;
         }
     }
+
+    /**
+     * 이미 검증된 Claims로 블랙리스트 여부 확인 (서명 재검증 없음)
+     *
+     * @param claims 검증된 Access Token의 Claims
+     * @return 블랙리스트에 있으면 true, 없으면 false
+     */
+    public boolean isBlacklisted(Claims claims) {
+        String jti = resolveJti(claims);
+
+        if (!blacklistNearCache.isReady()) {
+            return lookupRedis(jti);
+        }
+
+        // Bloom 필터: 대부분의 요청은 여기서 "블랙리스트 아님"으로 끝남
+        boolean prefiltered = blacklistNearCache.isBloomFilterEnabled();
+        if (prefiltered && !blacklistNearCache.mightContain(jti)) {
+            prefilterNegative.increment();
+            return false;
+        }
+
+        // 가능성 있음: 정확한 로컬 캐시, 없으면 Redis로 재확인
+        // (크기 제한으로 밀려난 항목이 있으면 로컬에 없는 jti도 Redis로 재확인)
+        boolean blacklisted = blacklistNearCache.isExactLookupEnabled()
+                ? blacklistNearCache.contains(jti) || (!blacklistNearCache.isComplete() && lookupRedis(jti))
+                : lookupRedis(jti);
+
+        if (prefiltered) {
+            (blacklisted ? prefilterTruePositive : prefilterFalsePositive).increment();
+        }
+        return blacklisted;
+    }
+
+    private boolean lookupRedis(String jti) {
+        String key = BLACKLIST_PREFIX + jti;
+        String value = stageMetrics.record("redis.blacklist.get", StageMetrics.NO_PROVIDER,
+                () -> redisTemplate.opsForValue().get(key));
+        return value != null && !value.isEmpty();
+    }
+
+    private static Counter prefilterCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("auth.blacklist.prefilter")
+                .description("블랙리스트 Bloom 필터 사전 검사 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    // jti가 없으면 subject를 사용
+    private String resolveJti(Claims claims) {
+        String jti = claims.getId();
+        return jti != null ? jti : claims.getSubject();
+    }
 }
@@ -0,0 +1,232 @@
+package kr.ai.kjun.api.services.oauthservice.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import kr.ai.kjun.api.metrics.StageMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 토큰 세대(generation) 카운터
+ * Access Token 발급 시 현재 세대를 gen 클레임으로 넣고, 검증 시 현재 세대보다 낮으면 무효로 처리
+ * 카운터 하나만 올리면 그 사용자에게 발급된 모든 Access Token이 무효화됨 (jti 블랙리스트 불필요)
+ *
+ * - 검증 시 조회: 로컬 Caffeine 캐시 -> Redis GET (키가 없으면 0세대)
+ * - 발급 시 조회: 항상 Redis 값 사용 (증가 메시지를 놓친 인스턴스가 이전 세대로 발급하면 다른 인스턴스에서 거부되므로)
+ *   로그인/토큰 갱신은 Refresh Token 스크립트에서 함께 읽은 값을 받아 쓰므로 별도 Redis 왕복이 없음
+ * - 증가(bump): Redis INCR 후 auth:gen:events 채널로 다른 인스턴스의 로컬 캐시 갱신
+ * - 로컬 캐시는 jwt.generation.cache-ttl-ms 후 만료되어 pub/sub 메시지 유실에 대비
+ *
+ * Redis Key 네이밍: auth:gen:{userId}
+ */
+@Service
+public class TokenGenerationService implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenGenerationService.class);
+
+    // JWT 클레임 이름
+    public static final String GENERATION_CLAIM = "gen";
+
+    // Redis Key 접두사
+    static final String GENERATION_PREFIX = "auth:gen:";
+    // 세대 증가 이벤트 채널 (메시지: {userId}|{generation})
+    static final String GENERATION_CHANNEL = "auth:gen:events";
+    // 일괄 증가 시 한 번의 파이프라인에 담는 사용자 수
+    private static final int BATCH_SIZE = 500;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final StageMetrics stageMetrics;
+    private final Cache<Long, Long> generations;
+
+    public TokenGenerationService(
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            JwtProperties jwtProperties,
+            StageMetrics stageMetrics) {
+        this.redisTemplate = redisTemplate;
+        this.stageMetrics = stageMetrics;
+        this.generations = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getGeneration().getCacheMaxSize())
+                .expireAfterWrite(Duration.ofMillis(jwtProperties.getGeneration().getCacheTtlMs()))
+                .build();
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(GENERATION_CHANNEL));
+    }
+
+    /**
+     * 사용자의 현재 토큰 세대 조회 (로컬 캐시 미스 시 Redis 조회)
+     *
+     * @param userId 사용자 ID
+     * @return 현재 세대 (한 번도 증가하지 않았으면 0)
+     */
+    public long currentGeneration(Long userId) {
+        return generations.get(userId, this::loadGeneration);
+    }
+
+    /**
+     * Access Token 발급에 넣을 세대 조회 (로컬 캐시를 거치지 않고 Redis에서 읽음)
+     * Redis 조회에 실패하면 로컬 캐시 값을 사용하고, 로컬에도 없으면 예외를 그대로 전달
+     *
+     * @param userId 사용자 ID
+     * @return 현재 세대 (한 번도 증가하지 않았으면 0)
+     */
+    public long issuingGeneration(Long userId) {
+        long generation;
+        try {
+            generation = loadGeneration(userId);
+        } catch (RuntimeException e) {
+            Long cached = generations.getIfPresent(userId);
+            if (cached == null) {
+                throw e;
+            }
+            log.warn("[Token Generation] Redis 조회 실패, 로컬 세대 사용 - User ID: {}, {}", userId, e.getMessage());
+            return cached;
+        }
+        update(userId, generation);
+        return generation;
+    }
+
+    /**
+     * Refresh Token 발급/교체 스크립트에서 함께 읽은 세대를 발급에 사용 (Redis 조회 없음)
+     * 로컬 캐시에도 반영하며, 그 사이 증가 메시지로 로컬 값이 더 커졌으면 로컬 값을 사용
+     *
+     * @param userId           사용자 ID
+     * @param storedGeneration Redis에서 읽은 세대
+     * @return 발급에 넣을 세대
+     */
+    public long issuingGeneration(Long userId, long storedGeneration) {
+        return generations.asMap().merge(userId, storedGeneration, Math::max);
+    }
+
+    /**
+     * 이미 검증된 Claims의 세대가 현재 세대인지 확인
+     * gen 클레임이 없는 토큰(세대 도입 이전 발급)은 0세대로 취급
+     *
+     * @param claims 검증된 Access Token의 Claims
+     * @return 현재 세대 이상이면 true, 세대 증가로 무효화되었으면 false
+     */
+    public boolean isCurrent(Claims claims) {
+        Long userId = claims.get("userId", Long.class);
+        if (userId == null) {
+            return true;
+        }
+        Long tokenGeneration = claims.get(GENERATION_CLAIM, Long.class);
+        long generation = tokenGeneration != null ? tokenGeneration : 0L;
+        return generation >= currentGeneration(userId);
+    }
+
+    /**
+     * 사용자의 토큰 세대 증가 (모든 기기의 Access Token 무효화)
+     *
+     * @param userId 사용자 ID
+     * @return 증가된 세대
+     */
+    public long bump(Long userId) {
+        String key = GENERATION_PREFIX + userId;
+        Long generation = stageMetrics.record("redis.gen.incr", StageMetrics.NO_PROVIDER,
+                () -> redisTemplate.opsForValue().increment(key));
+        long bumped = generation != null ? generation : 0L;
+
+        // 로컬 캐시에 즉시 반영하고 다른 인스턴스에 전파
+        update(userId, bumped);
+        try {
+            redisTemplate.convertAndSend(GENERATION_CHANNEL, userId + "|" + bumped);
+        } catch (Exception e) {
+            log.warn("[Token Generation] 세대 증가 전파 실패: {}", e.getMessage());
+        }
+        log.info("[Token Generation] 세대 증가 - User ID: {}, gen: {}", userId, bumped);
+        return bumped;
+    }
+
+    /**
+     * 여러 사용자의 토큰 세대를 일괄 증가
+     * INCR/PUBLISH를 BATCH_SIZE명씩 파이프라인으로 처리
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 ID별 증가된 세대 (입력 순서 유지)
+     */
+    public Map<Long, Long> bumpAll(Collection<Long> userIds) {
+        List<Long> ids = new ArrayList<>(userIds);
+        Map<Long, Long> results = new LinkedHashMap<>();
+
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+            List<Object> replies = stageMetrics.record("redis.gen.incr_batch", StageMetrics.NO_PROVIDER,
+                    () -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                        for (Long userId : batch) {
+                            connection.stringCommands().incr(
+                                    (GENERATION_PREFIX + userId).getBytes(StandardCharsets.UTF_8));
+                        }
+                        return null;
+                    }));
+
+            for (int i = 0; i < batch.size(); i++) {
+                long generation = ((Number) replies.get(i)).longValue();
+                update(batch.get(i), generation);
+                results.put(batch.get(i), generation);
+            }
+
+            // 증가된 값을 알아야 하므로 PUBLISH는 INCR 응답 이후 별도 파이프라인으로 전송
+            try {
+                redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    byte[] channel = GENERATION_CHANNEL.getBytes(StandardCharsets.UTF_8);
+                    for (Long userId : batch) {
+                        connection.publish(channel,
+                                (userId + "|" + results.get(userId)).getBytes(StandardCharsets.UTF_8));
+                    }
+                    return null;
+                });
+            } catch (Exception e) {
+                log.warn("[Token Generation] 일괄 세대 증가 전파 실패: {}", e.getMessage());
+            }
+        }
+
+        log.info("[Token Generation] 일괄 세대 증가 - 사용자 {}명", results.size());
+        return results;
+    }
+
+    /**
+     * 다른 인스턴스의 세대 증가 메시지 수신 (형식: {userId}|{generation})
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('|');
+        if (separator <= 0) {
+            return;
+        }
+        try {
+            update(Long.parseLong(body.substring(0, separator)), Long.parseLong(body.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("[Token Generation] 잘못된 이벤트 메시지: {}", body);
+        }
+    }
+
+    // 메시지 순서가 뒤바뀌어도 세대가 뒤로 가지 않도록 큰 값만 반영
+    private void update(Long userId, long generation) {
+        generations.asMap().merge(userId, generation, Math::max);
+    }
+
+    private Long loadGeneration(Long userId) {
+        String key = GENERATION_PREFIX + userId;
+        String value = stageMetrics.record("redis.gen.get", StageMetrics.NO_PROVIDER,
+                () -> redisTemplate.opsForValue().get(key));
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+}
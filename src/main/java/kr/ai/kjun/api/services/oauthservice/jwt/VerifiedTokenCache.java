@@ -0,0 +1,110 @@
+package kr.ai.kjun.api.services.oauthservice.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증된 JWT Claims 캐시
+ * 한 번 서명 검증을 통과한 토큰의 Claims를 토큰 해시(SHA-256) 기준으로 보관하여
+ * 같은 토큰이 다시 들어오면 서명 검증과 JSON 디코딩을 건너뜀
+ * JwtAuthenticationFilter가 보호 경로(jwt.protected-paths)에서만 사용하므로,
+ * 보호 경로를 늘려 같은 토큰으로 반복 호출되는 API가 생길 때 효과가 커짐
+ *
+ * - 최대 개수: jwt.verified-cache-max-size
+ * - 만료: 토큰의 exp 시각에 맞춰 캐시에서도 제거
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtTokenCodec jwtTokenCodec;
+    private final JwtProperties jwtProperties;
+    private final Cache<String, Claims> cache;
+
+    public VerifiedTokenCache(JwtTokenCodec jwtTokenCodec, JwtProperties jwtProperties) {
+        this.jwtTokenCodec = jwtTokenCodec;
+        this.jwtProperties = jwtProperties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getVerifiedCacheMaxSize())
+                .expireAfter(new TokenExpiry())
+                .build();
+    }
+
+    /**
+     * 캐시에서 Claims 조회, 없으면 서명 검증 후 캐시에 저장
+     *
+     * @param token JWT 토큰
+     * @return 검증된 Claims (유효하지 않은 토큰이면 null)
+     */
+    public Claims getOrVerify(String token) {
+        String key = hash(token);
+        Claims cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims;
+        try {
+            claims = jwtTokenCodec.parse(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+
+        cache.put(key, claims);
+        return claims;
+    }
+
+    /**
+     * 캐시에서 토큰 제거 (로그아웃 등으로 더 이상 재사용하지 않을 때)
+     *
+     * @param token JWT 토큰
+     */
+    public void invalidate(String token) {
+        cache.invalidate(hash(token));
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hashed);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 토큰 exp 기준 만료 정책 (exp가 없으면 jwt.expiration 사용)
+     */
+    private class TokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            long ttlMillis = expiration != null
+                    ? expiration.getTime() - System.currentTimeMillis()
+                    : jwtProperties.getExpiration();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(ttlMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,8 +1,15 @@
 package kr.ai.kjun.api.services.oauthservice.kakao;
 
+import kr.ai.kjun.api.logging.LogMarkers;
+import kr.ai.kjun.api.logging.LogRedactor;
+import kr.ai.kjun.api.metrics.StageMetrics;
 import kr.ai.kjun.api.services.oauthservice.config.KakaoConfig;
 import kr.ai.kjun.api.services.oauthservice.kakao.dto.KakaoTokenResponse;
 import kr.ai.kjun.api.services.oauthservice.kakao.dto.KakaoUserInfo;
+import kr.ai.kjun.api.services.oauthservice.resilience.ProviderCallExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -20,21 +27,33 @@ import java.nio.charset.StandardCharsets;
 @Service
 public class KakaoService {
 
+    private static final Logger log = LoggerFactory.getLogger(KakaoService.class);
+
     private final RestTemplate restTemplate;
     private final KakaoConfig kakaoConfig;
-
-    // 카카오 API URL
-    private static final String KAKAO_TOKEN_URL = "https://kauth.kakao.com/oauth/token";
-    private static final String KAKAO_USER_INFO_URL = "https://kapi.kakao.com/v2/user/me";
-
-    public KakaoService(RestTemplate restTemplate, KakaoConfig kakaoConfig) {
+    private final StageMetrics stageMetrics;
+    private final ProviderCallExecutor providerCalls;
+
+    // 메트릭 태그용 제공자 이름
+    private static final String PROVIDER = "kakao";
+    // Circuit Breaker 구분용 엔드포인트 이름
+    private static final String TOKEN_ENDPOINT = "token";
+    private static final String USER_INFO_ENDPOINT = "userinfo";
+
+    public KakaoService(
+            @Qualifier("kakaoRestTemplate") RestTemplate restTemplate,
+            KakaoConfig kakaoConfig,
+            StageMetrics stageMetrics,
+            ProviderCallExecutor providerCalls) {
         this.restTemplate = restTemplate;
         this.kakaoConfig = kakaoConfig;
+        this.stageMetrics = stageMetrics;
+        this.providerCalls = providerCalls;
     }
 
     // 카카오 로그인 URL 생성
     public String getKakaoLoginUrl() {
-        String baseUrl = "https://kauth.kakao.com/oauth/authorize";
+        String baseUrl = kakaoConfig.getAuthorizeUrl();
         String clientId = kakaoConfig.getRestApiKey();
         String redirectUri = kakaoConfig.getRedirectUri();
 
@@ -51,17 +70,17 @@ public class KakaoService {
             String kakaoAuthUrl = String.format("%s?client_id=%s&redirect_uri=%s&response_type=code&scope=%s",
                     baseUrl, clientId, encodedRedirectUri, encodedScope);
 
-            System.out.println("🔗 [카카오 로그인 URL 생성] " + kakaoAuthUrl);
+            log.debug("[카카오 로그인 URL 생성] {}", LogRedactor.redactUrl(kakaoAuthUrl));
             return kakaoAuthUrl;
         } catch (Exception e) {
-            System.err.println("❌ [카카오 로그인 URL 생성 실패] " + e.getMessage());
+            log.warn("[카카오 로그인 URL 생성 실패] {}", e.getMessage());
             throw new RuntimeException("카카오 로그인 URL 생성 실패", e);
         }
     }
 
     // Authorization Code로 Access Token 받기
     public KakaoTokenResponse getAccessToken(String code) {
-        System.out.println("🔑 [카카오 API] Access Token 요청 - code: " + code);
+        log.debug("[카카오 API] Access Token 요청 - code: {}", LogRedactor.mask(code));
 
         // 요청 헤더 설정
         HttpHeaders headers = new HttpHeaders();
@@ -77,31 +96,31 @@ public class KakaoService {
         HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
 
         try {
-            ResponseEntity<KakaoTokenResponse> response = restTemplate.postForEntity(
-                    KAKAO_TOKEN_URL,
-                    request,
-                    KakaoTokenResponse.class);
+            ResponseEntity<KakaoTokenResponse> response = stageMetrics.record("provider.token", PROVIDER,
+                    () -> providerCalls.call(PROVIDER, TOKEN_ENDPOINT, () -> restTemplate.postForEntity(
+                            kakaoConfig.getTokenUrl(),
+                            request,
+                            KakaoTokenResponse.class)));
 
             KakaoTokenResponse tokenResponse = response.getBody();
             if (tokenResponse != null) {
-                System.out.println("✅ [카카오 API] Access Token 받기 성공");
+                log.info(LogMarkers.SAMPLED, "[카카오 API] Access Token 받기 성공");
                 return tokenResponse;
             } else {
                 throw new RuntimeException("카카오 토큰 응답이 null입니다");
             }
         } catch (org.springframework.web.client.HttpClientErrorException e) {
-            System.err
-                    .println("❌ [카카오 API] Access Token 실패: " + e.getStatusCode() + " - " + e.getResponseBodyAsString());
+            log.warn("[카카오 API] Access Token 실패: {} - {}", e.getStatusCode(), e.getResponseBodyAsString());
             throw new RuntimeException("카카오 Access Token 발급 실패: " + e.getStatusCode(), e);
         } catch (Exception e) {
-            System.err.println("❌ [카카오 API] Access Token 실패: " + e.getMessage());
+            log.warn("[카카오 API] Access Token 실패: {}", e.getMessage());
             throw new RuntimeException("카카오 Access Token 발급 실패", e);
         }
     }
 
     // Access Token으로 사용자 정보 받기
     public KakaoUserInfo getUserInfo(String accessToken) {
-        System.out.println("👤 [카카오 API] 사용자 정보 요청");
+        log.debug("[카카오 API] 사용자 정보 요청");
 
         // 요청 헤더 설정
         HttpHeaders headers = new HttpHeaders();
@@ -111,21 +130,22 @@ public class KakaoService {
         HttpEntity<String> request = new HttpEntity<>(headers);
 
         try {
-            ResponseEntity<KakaoUserInfo> response = restTemplate.exchange(
-                    KAKAO_USER_INFO_URL,
-                    HttpMethod.GET,
-                    request,
-                    KakaoUserInfo.class);
+            ResponseEntity<KakaoUserInfo> response = stageMetrics.record("provider.userinfo", PROVIDER,
+                    () -> providerCalls.callHedged(PROVIDER, USER_INFO_ENDPOINT, () -> restTemplate.exchange(
+                            kakaoConfig.getUserInfoUrl(),
+                            HttpMethod.GET,
+                            request,
+                            KakaoUserInfo.class)));
 
             KakaoUserInfo userInfo = response.getBody();
             if (userInfo != null) {
-                System.out.println("✅ [카카오 API] 사용자 정보 받기 성공 - ID: " + userInfo.getId());
+                log.info(LogMarkers.SAMPLED, "[카카오 API] 사용자 정보 받기 성공 - ID: {}", userInfo.getId());
                 return userInfo;
             } else {
                 throw new RuntimeException("카카오 사용자 정보 응답이 null입니다");
             }
         } catch (Exception e) {
-            System.err.println("❌ [카카오 API] 사용자 정보 실패: " + e.getMessage());
+            log.warn("[카카오 API] 사용자 정보 실패: {}", e.getMessage());
             throw new RuntimeException("카카오 사용자 정보 조회 실패", e);
         }
     }
@@ -134,7 +154,7 @@ public class KakaoService {
     public KakaoUserInfo authenticateAndExtractUser(String code) {
         KakaoTokenResponse tokenResponse = getAccessToken(code);
         KakaoUserInfo userInfo = getUserInfo(tokenResponse.getAccessToken());
-        System.out.println("✅ [카카오 인증] 완료 - ID: " + userInfo.getId());
+        log.info(LogMarkers.SAMPLED, "[카카오 인증] 완료 - ID: {}", userInfo.getId());
         return userInfo;
     }
 }
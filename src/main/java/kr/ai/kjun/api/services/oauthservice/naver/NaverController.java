@@ -1,8 +1,11 @@
 package kr.ai.kjun.api.services.oauthservice.naver;
 
-import kr.ai.kjun.api.services.oauthservice.jwt.JwtTokenProvider;
-import kr.ai.kjun.api.services.oauthservice.jwt.RefreshTokenService;
-import kr.ai.kjun.api.services.oauthservice.service.UserManagementService;
+import kr.ai.kjun.api.logging.LogMarkers;
+import kr.ai.kjun.api.logging.LogRedactor;
+import kr.ai.kjun.api.services.oauthservice.service.LoginRetryRequiredException;
+import kr.ai.kjun.api.services.oauthservice.service.OAuthLoginService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -17,23 +20,19 @@ import java.util.Map;
 @RequestMapping("/oauth/naver")
 public class NaverController {
 
+    private static final Logger log = LoggerFactory.getLogger(NaverController.class);
+
     private final NaverService naverService;
-    private final JwtTokenProvider jwtTokenProvider;
-    private final UserManagementService userManagementService;
-    private final RefreshTokenService refreshTokenService;
+    private final OAuthLoginService oauthLoginService;
 
     @Value("${FRONT_LOGIN_CALLBACK_URL}")
     private String frontendLoginCallbackUrl;
 
     public NaverController(
             NaverService naverService,
-            JwtTokenProvider jwtTokenProvider,
-            UserManagementService userManagementService,
-            RefreshTokenService refreshTokenService) {
+            OAuthLoginService oauthLoginService) {
         this.naverService = naverService;
-        this.jwtTokenProvider = jwtTokenProvider;
-        this.userManagementService = userManagementService;
-        this.refreshTokenService = refreshTokenService;
+        this.oauthLoginService = oauthLoginService;
     }
 
     // 네이버 로그인 URL 반환
@@ -45,7 +44,7 @@ public class NaverController {
         response.put("success", true);
         response.put("loginUrl", loginUrl);
 
-        System.out.println("🔗 [네이버 로그인] 로그인 URL 생성: " + loginUrl);
+        log.debug("[네이버 로그인] 로그인 URL 생성: {}", LogRedactor.redactUrl(loginUrl));
         return ResponseEntity.ok(response);
     }
 
@@ -59,46 +58,31 @@ public class NaverController {
     }
 
     private ResponseEntity<?> handleNaverCallback(String code, String state, String error) {
-        System.out.println("🔄 [네이버 콜백] code: " + code + ", state: " + state + ", error: " + error);
+        log.debug("[네이버 콜백] code: {}, state: {}, error: {}", LogRedactor.mask(code), LogRedactor.mask(state), error);
 
         if (error != null) {
-            System.err.println("❌ [네이버 콜백] 에러: " + error);
+            log.warn("[네이버 콜백] 에러: {}", error);
             return redirectToError(error);
         }
 
         if (code == null || code.trim().isEmpty()) {
-            System.err.println("❌ [네이버 콜백] code 없음");
+            log.warn("[네이버 콜백] code 없음");
             return redirectToError("no_code");
         }
 
         try {
-            kr.ai.kjun.api.services.oauthservice.naver.dto.NaverUserInfo userInfo = naverService
-                    .authenticateAndExtractUser(code, state);
-
-            // 사용자 정보를 User Service에 저장 또는 업데이트 (HTTP 호출)
-            Map<String, Object> savedUser = userManagementService.saveOrUpdateUser(
-                    "NAVER",
-                    userInfo.getExtractedId(),
-                    userInfo.getExtractedEmail(),
-                    userInfo.getExtractedNickname(),
-                    userInfo.getExtractedProfileImage());
-
-            // JWT Access Token 생성 (User Service에서 받은 사용자 ID 사용)
-            Long userId = ((Number) savedUser.get("id")).longValue();
-            String jwtToken = jwtTokenProvider.generateToken(
-                    userId,
-                    (String) savedUser.get("email"),
-                    (String) savedUser.get("nickname"));
-
-            // Refresh Token 생성 및 Redis에 저장
-            String refreshToken = refreshTokenService.generateAndSaveRefreshToken(userId);
-
-            System.out.println("✅ [네이버 콜백] 로그인 성공 - User ID: " + userId);
-            return redirectToSuccess(savedUser, jwtToken, refreshToken);
+            OAuthLoginService.LoginResult result = oauthLoginService.login(
+                    "NAVER", code, state, () -> authenticate(code, state));
+            Long userId = result.userId();
+
+            log.info(LogMarkers.SAMPLED, "[네이버 콜백] 로그인 성공 - User ID: {}", userId);
+            return redirectToSuccess(result);
 
+        } catch (LoginRetryRequiredException e) {
+            log.info("[네이버 콜백] 중복 콜백 - {}", e.getMessage());
+            return redirectToError(LoginRetryRequiredException.ERROR_CODE);
         } catch (Exception e) {
-            System.err.println("❌ [네이버 콜백] 로그인 실패: " + e.getMessage());
-            e.printStackTrace();
+            log.error("[네이버 콜백] 로그인 실패: {}", e.getMessage(), e);
             return redirectToError(e.getMessage());
         }
     }
@@ -115,50 +99,45 @@ public class NaverController {
                 Map<String, Object> response = new HashMap<>();
                 response.put("loginUrl", loginUrl);
 
-                System.out.println("🔗 [네이버 로그인] 로그인 URL 생성: " + loginUrl);
+                log.debug("[네이버 로그인] 로그인 URL 생성: {}", LogRedactor.redactUrl(loginUrl));
                 return ResponseEntity.ok(response);
             } catch (Exception e) {
-                System.err.println("❌ [네이버 로그인] URL 생성 실패: " + e.getMessage());
+                log.warn("[네이버 로그인] URL 생성 실패: {}", e.getMessage());
                 return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                         .body(buildErrorResponse("네이버 로그인 URL 생성 실패: " + e.getMessage()));
             }
         }
 
-        System.out.println("🟢 [네이버 로그인] 진입 - code: " + code);
+        log.debug("[네이버 로그인] 진입 - code: {}", LogRedactor.mask(code));
 
         try {
-            kr.ai.kjun.api.services.oauthservice.naver.dto.NaverUserInfo userInfo = naverService
-                    .authenticateAndExtractUser(code, state);
-
-            // 사용자 정보를 User Service에 저장 또는 업데이트 (HTTP 호출)
-            Map<String, Object> savedUser = userManagementService.saveOrUpdateUser(
-                    "NAVER",
-                    userInfo.getExtractedId(),
-                    userInfo.getExtractedEmail(),
-                    userInfo.getExtractedNickname(),
-                    userInfo.getExtractedProfileImage());
-
-            // JWT Access Token 생성 (User Service에서 받은 사용자 ID 사용)
-            Long userId = ((Number) savedUser.get("id")).longValue();
-            String jwtToken = jwtTokenProvider.generateToken(
-                    userId,
-                    (String) savedUser.get("email"),
-                    (String) savedUser.get("nickname"));
-
-            // Refresh Token 생성 및 Redis에 저장
-            String refreshToken = refreshTokenService.generateAndSaveRefreshToken(userId);
-
-            System.out.println("✅ [네이버 로그인] 성공 - User ID: " + userId);
-            return ResponseEntity.ok(buildSuccessResponse(savedUser, jwtToken, refreshToken));
+            OAuthLoginService.LoginResult result = oauthLoginService.login(
+                    "NAVER", code, state, () -> authenticate(code, state));
+            Long userId = result.userId();
+
+            log.info(LogMarkers.SAMPLED, "[네이버 로그인] 성공 - User ID: {}", userId);
+            return ResponseEntity.ok()
+                    .headers(result.serverTimingHeaders())
+                    .body(buildSuccessResponse(result.user(), result.accessToken(), result.refreshToken()));
 
         } catch (Exception e) {
-            System.err.println("❌ [네이버 로그인] 실패: " + e.getMessage());
-            e.printStackTrace();
+            log.error("[네이버 로그인] 실패: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(buildErrorResponse("네이버 로그인 실패: " + e.getMessage()));
         }
     }
 
+    // 네이버 인증 후 사용자 저장에 필요한 값 추출 (같은 인가 코드의 중복 요청은 OAuthLoginService가 한 번만 호출)
+    private OAuthLoginService.Identity authenticate(String code, String state) {
+        kr.ai.kjun.api.services.oauthservice.naver.dto.NaverUserInfo userInfo = naverService
+                .authenticateAndExtractUser(code, state);
+        return new OAuthLoginService.Identity(
+                userInfo.getExtractedId(),
+                userInfo.getExtractedEmail(),
+                userInfo.getExtractedNickname(),
+                userInfo.getExtractedProfileImage());
+    }
+
     // 성공 응답 생성
     private Map<String, Object> buildSuccessResponse(Map<String, Object> user, String jwtToken, String refreshToken) {
         Map<String, Object> response = new HashMap<>();
@@ -185,9 +164,10 @@ public class NaverController {
     }
 
     // 성공 리다이렉트
-    private ResponseEntity<?> redirectToSuccess(Map<String, Object> user, String jwtToken, String refreshToken) {
-        String encodedToken = URLEncoder.encode(jwtToken, StandardCharsets.UTF_8);
-        String encodedRefreshToken = URLEncoder.encode(refreshToken, StandardCharsets.UTF_8);
+    private ResponseEntity<?> redirectToSuccess(OAuthLoginService.LoginResult result) {
+        Map<String, Object> user = result.user();
+        String encodedToken = URLEncoder.encode(result.accessToken(), StandardCharsets.UTF_8);
+        String encodedRefreshToken = URLEncoder.encode(result.refreshToken(), StandardCharsets.UTF_8);
         String encodedEmail = URLEncoder.encode((String) user.get("email"), StandardCharsets.UTF_8);
         String encodedNickname = URLEncoder.encode((String) user.get("nickname"), StandardCharsets.UTF_8);
         Long userId = ((Number) user.get("id")).longValue();
@@ -198,6 +178,7 @@ public class NaverController {
 
         return ResponseEntity.status(HttpStatus.FOUND)
                 .header("Location", redirectUrl)
+                .headers(result.serverTimingHeaders())
                 .build();
     }
 
@@ -1,8 +1,15 @@
 package kr.ai.kjun.api.services.oauthservice.naver;
 
+import kr.ai.kjun.api.logging.LogMarkers;
+import kr.ai.kjun.api.logging.LogRedactor;
+import kr.ai.kjun.api.metrics.StageMetrics;
 import kr.ai.kjun.api.services.oauthservice.config.NaverConfig;
 import kr.ai.kjun.api.services.oauthservice.naver.dto.NaverTokenResponse;
 import kr.ai.kjun.api.services.oauthservice.naver.dto.NaverUserInfo;
+import kr.ai.kjun.api.services.oauthservice.resilience.ProviderCallExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -17,21 +24,33 @@ import java.nio.charset.StandardCharsets;
 @Service
 public class NaverService {
 
+    private static final Logger log = LoggerFactory.getLogger(NaverService.class);
+
     private final RestTemplate restTemplate;
     private final NaverConfig naverConfig;
-
-    // 네이버 API URL
-    private static final String NAVER_TOKEN_URL = "https://nid.naver.com/oauth2.0/token";
-    private static final String NAVER_USER_INFO_URL = "https://openapi.naver.com/v1/nid/me";
-
-    public NaverService(RestTemplate restTemplate, NaverConfig naverConfig) {
+    private final StageMetrics stageMetrics;
+    private final ProviderCallExecutor providerCalls;
+
+    // 메트릭 태그용 제공자 이름
+    private static final String PROVIDER = "naver";
+    // Circuit Breaker 구분용 엔드포인트 이름
+    private static final String TOKEN_ENDPOINT = "token";
+    private static final String USER_INFO_ENDPOINT = "userinfo";
+
+    public NaverService(
+            @Qualifier("naverRestTemplate") RestTemplate restTemplate,
+            NaverConfig naverConfig,
+            StageMetrics stageMetrics,
+            ProviderCallExecutor providerCalls) {
         this.restTemplate = restTemplate;
         this.naverConfig = naverConfig;
+        this.stageMetrics = stageMetrics;
+        this.providerCalls = providerCalls;
     }
 
     // 네이버 로그인 URL 생성
     public String getNaverLoginUrl() {
-        String baseUrl = "https://nid.naver.com/oauth2.0/authorize";
+        String baseUrl = naverConfig.getAuthorizeUrl();
         String clientId = naverConfig.getClientId();
         String redirectUri = naverConfig.getRedirectUri();
 
@@ -46,10 +65,10 @@ public class NaverService {
             String naverAuthUrl = String.format("%s?client_id=%s&redirect_uri=%s&response_type=code&state=%s",
                     baseUrl, clientId, encodedRedirectUri, encodedState);
 
-            System.out.println("🔗 [네이버 로그인 URL 생성] " + naverAuthUrl);
+            log.debug("[네이버 로그인 URL 생성] {}", LogRedactor.redactUrl(naverAuthUrl));
             return naverAuthUrl;
         } catch (Exception e) {
-            System.err.println("❌ [네이버 로그인 URL 생성 실패] " + e.getMessage());
+            log.warn("[네이버 로그인 URL 생성 실패] {}", e.getMessage());
             throw new RuntimeException("네이버 로그인 URL 생성 실패", e);
         }
     }
@@ -61,49 +80,49 @@ public class NaverService {
 
     // Authorization Code로 Access Token 받기
     public NaverTokenResponse getAccessToken(String code, String state) {
-        System.out.println("🔑 [네이버 API] Access Token 요청 - code: " + code);
+        log.debug("[네이버 API] Access Token 요청 - code: {}", LogRedactor.mask(code));
 
         try {
             // URL 파라미터로 전송
             String url = String.format(
                     "%s?grant_type=authorization_code&client_id=%s&client_secret=%s&code=%s&state=%s",
-                    NAVER_TOKEN_URL,
+                    naverConfig.getTokenUrl(),
                     naverConfig.getClientId(),
                     naverConfig.getClientSecret(),
                     code,
                     state != null ? state : "");
 
-            ResponseEntity<NaverTokenResponse> response = restTemplate.getForEntity(
-                    url,
-                    NaverTokenResponse.class);
+            ResponseEntity<NaverTokenResponse> response = stageMetrics.record("provider.token", PROVIDER,
+                    () -> providerCalls.call(PROVIDER, TOKEN_ENDPOINT, () -> restTemplate.getForEntity(
+                            url,
+                            NaverTokenResponse.class)));
 
             NaverTokenResponse tokenResponse = response.getBody();
             if (tokenResponse != null) {
                 if (tokenResponse.getError() != null) {
-                    System.err.println("❌ [네이버 API] Access Token 실패: " + tokenResponse.getError() + " - "
-                            + tokenResponse.getErrorDescription());
+                    log.warn("[네이버 API] Access Token 실패: {} - {}",
+                            tokenResponse.getError(), tokenResponse.getErrorDescription());
                     throw new RuntimeException(
                             "네이버 Access Token 발급 실패: " + tokenResponse.getError() + " - "
                                     + tokenResponse.getErrorDescription());
                 }
-                System.out.println("✅ [네이버 API] Access Token 받기 성공");
+                log.info(LogMarkers.SAMPLED, "[네이버 API] Access Token 받기 성공");
                 return tokenResponse;
             } else {
                 throw new RuntimeException("네이버 토큰 응답이 null입니다");
             }
         } catch (org.springframework.web.client.HttpClientErrorException e) {
-            System.err
-                    .println("❌ [네이버 API] Access Token 실패: " + e.getStatusCode() + " - " + e.getResponseBodyAsString());
+            log.warn("[네이버 API] Access Token 실패: {} - {}", e.getStatusCode(), e.getResponseBodyAsString());
             throw new RuntimeException("네이버 Access Token 발급 실패: " + e.getStatusCode(), e);
         } catch (Exception e) {
-            System.err.println("❌ [네이버 API] Access Token 실패: " + e.getMessage());
+            log.warn("[네이버 API] Access Token 실패: {}", e.getMessage());
             throw new RuntimeException("네이버 Access Token 발급 실패", e);
         }
     }
 
     // Access Token으로 사용자 정보 받기
     public NaverUserInfo getUserInfo(String accessToken) {
-        System.out.println("👤 [네이버 API] 사용자 정보 요청");
+        log.debug("[네이버 API] 사용자 정보 요청");
 
         // 요청 헤더 설정
         HttpHeaders headers = new HttpHeaders();
@@ -112,25 +131,26 @@ public class NaverService {
         HttpEntity<String> request = new HttpEntity<>(headers);
 
         try {
-            ResponseEntity<NaverUserInfo> response = restTemplate.exchange(
-                    NAVER_USER_INFO_URL,
-                    HttpMethod.GET,
-                    request,
-                    NaverUserInfo.class);
+            ResponseEntity<NaverUserInfo> response = stageMetrics.record("provider.userinfo", PROVIDER,
+                    () -> providerCalls.callHedged(PROVIDER, USER_INFO_ENDPOINT, () -> restTemplate.exchange(
+                            naverConfig.getUserInfoUrl(),
+                            HttpMethod.GET,
+                            request,
+                            NaverUserInfo.class)));
 
             NaverUserInfo userInfo = response.getBody();
             if (userInfo != null) {
                 if (!"00".equals(userInfo.getResultCode())) {
-                    System.err.println("❌ [네이버 API] 사용자 정보 실패: " + userInfo.getMessage());
+                    log.warn("[네이버 API] 사용자 정보 실패: {}", userInfo.getMessage());
                     throw new RuntimeException("네이버 사용자 정보 조회 실패: " + userInfo.getMessage());
                 }
-                System.out.println("✅ [네이버 API] 사용자 정보 받기 성공 - ID: " + userInfo.getExtractedId());
+                log.info(LogMarkers.SAMPLED, "[네이버 API] 사용자 정보 받기 성공 - ID: {}", userInfo.getExtractedId());
                 return userInfo;
             } else {
                 throw new RuntimeException("네이버 사용자 정보 응답이 null입니다");
             }
         } catch (Exception e) {
-            System.err.println("❌ [네이버 API] 사용자 정보 실패: " + e.getMessage());
+            log.warn("[네이버 API] 사용자 정보 실패: {}", e.getMessage());
             throw new RuntimeException("네이버 사용자 정보 조회 실패", e);
         }
     }
@@ -139,7 +159,7 @@ public class NaverService {
     public NaverUserInfo authenticateAndExtractUser(String code, String state) {
         NaverTokenResponse tokenResponse = getAccessToken(code, state);
         NaverUserInfo userInfo = getUserInfo(tokenResponse.getAccessToken());
-        System.out.println("✅ [네이버 인증] 완료 - ID: " + userInfo.getExtractedId());
+        log.info(LogMarkers.SAMPLED, "[네이버 인증] 완료 - ID: {}", userInfo.getExtractedId());
         return userInfo;
     }
 }
@@ -1,9 +1,16 @@
 package kr.ai.kjun.api.services.oauthservice.oauth;
 
+import kr.ai.kjun.api.filter.JwtAuthenticationFilter;
+import kr.ai.kjun.api.logging.LogMarkers;
+import kr.ai.kjun.api.ratelimit.RateLimiter;
 import kr.ai.kjun.api.services.oauthservice.jwt.JwtTokenProvider;
 import kr.ai.kjun.api.services.oauthservice.jwt.RefreshTokenService;
 import kr.ai.kjun.api.services.oauthservice.jwt.TokenBlacklistService;
+import kr.ai.kjun.api.services.oauthservice.jwt.TokenGenerationService;
 import kr.ai.kjun.api.services.oauthservice.service.UserManagementService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -23,20 +30,33 @@ import java.util.Map;
 @RequestMapping("/oauth")
 public class OAuthController {
 
+    private static final Logger log = LoggerFactory.getLogger(OAuthController.class);
+
+    // rate-limit.routes의 토큰 갱신 경로 이름 (userId + Refresh Token의 기기 ID로 기기 기준 한도 적용)
+    private static final String REFRESH_RATE_LIMIT_ROUTE = "oauth-refresh";
+    // 잘못된 Refresh Token과 없는 사용자에 공통으로 쓰는 응답 메시지
+    private static final String INVALID_REFRESH_TOKEN_MESSAGE = "유효하지 않은 Refresh Token입니다";
+
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenService refreshTokenService;
     private final TokenBlacklistService tokenBlacklistService;
+    private final TokenGenerationService tokenGenerationService;
     private final UserManagementService userManagementService;
+    private final RateLimiter rateLimiter;
 
     public OAuthController(
             JwtTokenProvider jwtTokenProvider,
             RefreshTokenService refreshTokenService,
             TokenBlacklistService tokenBlacklistService,
-            UserManagementService userManagementService) {
+            TokenGenerationService tokenGenerationService,
+            UserManagementService userManagementService,
+            RateLimiter rateLimiter) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.refreshTokenService = refreshTokenService;
         this.tokenBlacklistService = tokenBlacklistService;
+        this.tokenGenerationService = tokenGenerationService;
         this.userManagementService = userManagementService;
+        this.rateLimiter = rateLimiter;
     }
 
     /**
@@ -78,51 +98,81 @@ public class OAuthController {
                     .body(buildErrorResponse("사용자 ID가 필요합니다"));
         }
 
-        // Refresh Token 검증
-        if (!refreshTokenService.validateRefreshToken(userId, refreshToken)) {
+        // 토큰 갱신 요청은 만료된 Access Token으로 들어오므로 필터 대신 여기서 기기 기준 한도 적용
+        // 본문의 userId는 검증 전 값이므로 Refresh Token의 기기 ID까지 키에 넣어,
+        // 다른 사람의 userId로 요청을 보내도 실제 사용자의 한도를 소진시키지 못하게 함
+        RateLimiter.Decision decision = rateLimiter.tryAcquire(
+                REFRESH_RATE_LIMIT_ROUTE, RateLimiter.SCOPE_USER,
+                userId + ":" + RefreshTokenService.deviceIdOf(refreshToken));
+        if (!decision.allowed()) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()))
+                    .body(buildErrorResponse("요청이 너무 많습니다. 잠시 후 다시 시도해주세요"));
+        }
+
+        // Refresh Token 검증 및 교체를 가장 먼저 수행 (Redis 스크립트로 한 번에 처리, 동시 요청 중 하나만 성공)
+        // 검증 전에는 사용자 조회와 Access Token 서명을 하지 않고,
+        // 없는 사용자와 잘못된 토큰에 같은 401을 응답하여 사용자 ID의 존재 여부를 드러내지 않음
+        // (Access Token에 넣을 토큰 세대도 같은 스크립트에서 함께 읽음)
+        RefreshTokenService.IssuedRefreshToken rotated = refreshTokenService.rotate(userId, refreshToken);
+        if (rotated == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body(buildErrorResponse("유효하지 않은 Refresh Token입니다"));
+                    .body(buildErrorResponse(INVALID_REFRESH_TOKEN_MESSAGE));
         }
 
-        // 사용자 정보 조회 (User Service HTTP 호출)
+        String newRefreshToken = rotated.refreshToken();
+
+        // 이후 단계가 실패하면 새 Refresh Token은 아무도 받지 못하므로 해당 기기 패밀리를 삭제
+        // 사용자 정보 조회 (User Service)
         Map<String, Object> user;
         try {
             user = userManagementService.findById(userId);
         } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(buildErrorResponse("사용자를 찾을 수 없습니다"));
+            discardRefreshToken(userId, newRefreshToken);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(buildErrorResponse(INVALID_REFRESH_TOKEN_MESSAGE));
         }
 
         // 새로운 Access Token 생성
-        String newAccessToken = jwtTokenProvider.generateToken(
-                userId,
-                (String) user.get("email"),
-                (String) user.get("nickname"));
-
-        // Refresh Token 갱신 (선택적 - 보안 강화를 위해)
-        String newRefreshToken = refreshTokenService.refreshToken(userId);
+        String newAccessToken;
+        try {
+            newAccessToken = jwtTokenProvider.generateToken(
+                    userId,
+                    (String) user.get("email"),
+                    (String) user.get("nickname"),
+                    rotated.generation());
+        } catch (RuntimeException e) {
+            discardRefreshToken(userId, newRefreshToken);
+            throw e;
+        }
 
         Map<String, Object> response = new HashMap<>();
         response.put("success", true);
         response.put("token", newAccessToken);
         response.put("refreshToken", newRefreshToken);
 
-        System.out.println("✅ [토큰 갱신] 성공 - User ID: " + userId);
+        log.info(LogMarkers.SAMPLED, "[토큰 갱신] 성공 - User ID: {}", userId);
         return ResponseEntity.ok(response);
     }
 
     /**
      * 로그아웃
      * POST /oauth/logout
+     * Authorization: Bearer {accessToken} 필요 (jwt.protected-paths), userId는 토큰의 사용자와 같아야 함
+     * Access Token이 만료된 클라이언트는 /oauth/refresh로 먼저 갱신한 뒤 로그아웃
      * 
      * Request Body:
      * {
      * "userId": 123,
-     * "accessToken": "jwt_token_string" // 선택적
+     * "accessToken": "jwt_token_string", // 선택적
+     * "refreshToken": "refresh_token_string", // 선택적, 제공 시 해당 기기만 로그아웃
+     * "allDevices": true // 선택적, 모든 기기 로그아웃 (Refresh Token 전체 삭제 + 토큰 세대 증가)
      * }
      */
     @PostMapping("/logout")
-    public ResponseEntity<Map<String, Object>> logout(@RequestBody Map<String, Object> request) {
+    public ResponseEntity<Map<String, Object>> logout(
+            @RequestAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE) Long authenticatedUserId,
+            @RequestBody Map<String, Object> request) {
         Long userId = null;
 
         // userId를 Long으로 변환
@@ -144,12 +194,30 @@ public class OAuthController {
                     .body(buildErrorResponse("사용자 ID가 필요합니다"));
         }
 
-        // Refresh Token 삭제
-        refreshTokenService.deleteRefreshToken(userId);
+        // 보호 경로(jwt.protected-paths)이므로 Access Token의 사용자만 로그아웃할 수 있음
+        // (userId 클레임이 없는 토큰은 JwtAuthenticationFilter에서 401로 거절)
+        if (!authenticatedUserId.equals(userId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(buildErrorResponse("권한이 없습니다"));
+        }
+
+        boolean allDevices = Boolean.TRUE.equals(request.get("allDevices"))
+                || "true".equals(request.get("allDevices"));
+        String refreshToken = (String) request.get("refreshToken");
+
+        // Refresh Token 삭제 (기기 토큰이 없으면 이전과 같이 사용자 전체 삭제)
+        if (allDevices || refreshToken == null || refreshToken.trim().isEmpty()) {
+            refreshTokenService.deleteRefreshToken(userId);
+        } else {
+            refreshTokenService.revokeDevice(userId, refreshToken);
+        }
 
-        // Access Token을 블랙리스트에 추가 (제공된 경우)
         String accessToken = (String) request.get("accessToken");
-        if (accessToken != null && !accessToken.trim().isEmpty()) {
+        if (allDevices) {
+            // 세대 증가로 모든 Access Token 무효화 (개별 블랙리스트 등록 불필요)
+            tokenGenerationService.bump(userId);
+        } else if (accessToken != null && !accessToken.trim().isEmpty()) {
+            // Access Token을 블랙리스트에 추가 (제공된 경우)
             tokenBlacklistService.addToBlacklist(accessToken);
         }
 
@@ -157,10 +225,19 @@ public class OAuthController {
         response.put("success", true);
         response.put("message", "로그아웃되었습니다");
 
-        System.out.println("✅ [로그아웃] 완료 - User ID: " + userId);
+        log.info(LogMarkers.SAMPLED, "[로그아웃] 완료 - User ID: {}", userId);
         return ResponseEntity.ok(response);
     }
 
+    // 교체한 뒤 응답하지 못한 Refresh Token(기기 패밀리) 삭제
+    private void discardRefreshToken(Long userId, String refreshToken) {
+        try {
+            refreshTokenService.revokeDevice(userId, refreshToken);
+        } catch (RuntimeException e) {
+            log.warn("[토큰 갱신] 응답하지 못한 Refresh Token 정리 실패 - User ID: {}, {}", userId, e.getMessage());
+        }
+    }
+
     private Map<String, Object> buildErrorResponse(String message) {
         Map<String, Object> errorResponse = new HashMap<>();
         errorResponse.put("success", false);
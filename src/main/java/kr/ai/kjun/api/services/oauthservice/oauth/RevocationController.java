@@ -0,0 +1,158 @@
+package kr.ai.kjun.api.services.oauthservice.oauth;
+
+import kr.ai.kjun.api.services.oauthservice.jwt.RefreshTokenService;
+import kr.ai.kjun.api.services.oauthservice.jwt.RevocationResult;
+import kr.ai.kjun.api.services.oauthservice.jwt.TokenBlacklistService;
+import kr.ai.kjun.api.services.oauthservice.jwt.TokenGenerationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일괄 무효화(강제 로그아웃) 관리 API
+ * 사고 대응, 계정 삭제 등으로 많은 사용자의 세션을 한 번에 끊을 때 사용
+ *
+ * X-Admin-Key 헤더가 admin.api-key 값과 같아야 하며, 값이 설정되지 않으면 비활성화됨
+ */
+@RestController
+@RequestMapping("/oauth/admin")
+public class RevocationController {
+
+    private static final Logger log = LoggerFactory.getLogger(RevocationController.class);
+
+    // 요청 하나에 담을 수 있는 최대 항목 수 (userIds + accessTokens)
+    private static final int MAX_ITEMS = 10_000;
+
+    private final RefreshTokenService refreshTokenService;
+    private final TokenBlacklistService tokenBlacklistService;
+    private final TokenGenerationService tokenGenerationService;
+
+    @Value("${admin.api-key:}")
+    private String adminApiKey;
+
+    public RevocationController(
+            RefreshTokenService refreshTokenService,
+            TokenBlacklistService tokenBlacklistService,
+            TokenGenerationService tokenGenerationService) {
+        this.refreshTokenService = refreshTokenService;
+        this.tokenBlacklistService = tokenBlacklistService;
+        this.tokenGenerationService = tokenGenerationService;
+    }
+
+    /**
+     * 일괄 무효화
+     * POST /oauth/admin/revoke
+     *
+     * Request Body:
+     * {
+     * "userIds": [1, 2, 3], // Refresh Token 삭제 + 토큰 세대 증가로 모든 Access Token 무효화 (선택적)
+     * "accessTokens": ["jwt1", "jwt2"] // 블랙리스트 추가 (선택적)
+     * }
+     *
+     * Response: 항목별 결과 (accessTokens는 입력 순서의 index로 표시)
+     */
+    @PostMapping("/revoke")
+    public ResponseEntity<Map<String, Object>> revoke(
+            @RequestHeader(value = "X-Admin-Key", required = false) String adminKey,
+            @RequestBody Map<String, Object> request) {
+
+        if (!isAuthorized(adminKey)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(buildErrorResponse("권한이 없습니다"));
+        }
+
+        List<Long> userIds = new ArrayList<>();
+        List<String> accessTokens = new ArrayList<>();
+        try {
+            if (request.get("userIds") instanceof List<?> list) {
+                for (Object value : list) {
+                    userIds.add(value instanceof Number number
+                            ? number.longValue()
+                            : Long.parseLong(String.valueOf(value)));
+                }
+            }
+            if (request.get("accessTokens") instanceof List<?> list) {
+                for (Object value : list) {
+                    accessTokens.add(String.valueOf(value));
+                }
+            }
+        } catch (NumberFormatException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(buildErrorResponse("유효하지 않은 사용자 ID가 포함되어 있습니다"));
+        }
+
+        if (userIds.isEmpty() && accessTokens.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(buildErrorResponse("userIds 또는 accessTokens가 필요합니다"));
+        }
+        if (userIds.size() + accessTokens.size() > MAX_ITEMS) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(buildErrorResponse("한 번에 최대 " + MAX_ITEMS + "건까지 처리할 수 있습니다"));
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        try {
+            List<Map<String, Object>> userResults = new ArrayList<>();
+            Map<Long, Long> generations = tokenGenerationService.bumpAll(userIds);
+            refreshTokenService.deleteRefreshTokens(userIds).forEach((userId, deleted) -> {
+                Map<String, Object> item = new HashMap<>();
+                item.put("userId", userId);
+                item.put("refreshTokenDeleted", deleted);
+                item.put("tokenGeneration", generations.get(userId));
+                userResults.add(item);
+            });
+            response.put("users", userResults);
+        } catch (Exception e) {
+            log.error("[일괄 무효화] 사용자 세션 무효화 실패: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(buildErrorResponse("사용자 세션 무효화 실패: " + e.getMessage()));
+        }
+
+        List<RevocationResult> tokenResults = tokenBlacklistService.addAllToBlacklist(accessTokens);
+        List<Map<String, Object>> tokenItems = new ArrayList<>(tokenResults.size());
+        Map<RevocationResult, Integer> summary = new HashMap<>();
+        for (int i = 0; i < tokenResults.size(); i++) {
+            Map<String, Object> item = new HashMap<>();
+            item.put("index", i);
+            item.put("result", tokenResults.get(i));
+            tokenItems.add(item);
+            summary.merge(tokenResults.get(i), 1, Integer::sum);
+        }
+        response.put("tokens", tokenItems);
+        response.put("tokenSummary", summary);
+
+        // 일부 토큰이 Redis 오류로 처리되지 않았으면 호출자가 재시도할 수 있도록 표시
+        boolean success = !summary.containsKey(RevocationResult.ERROR);
+        response.put("success", success);
+
+        log.info("[일괄 무효화] 완료 - 사용자 {}명, 토큰 {}건 {}", userIds.size(), accessTokens.size(), summary);
+        return ResponseEntity.status(success ? HttpStatus.OK : HttpStatus.MULTI_STATUS).body(response);
+    }
+
+    // 상수 시간 비교 (키 길이/내용 추측 방지)
+    private boolean isAuthorized(String adminKey) {
+        if (adminApiKey == null || adminApiKey.isBlank() || adminKey == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                adminApiKey.getBytes(StandardCharsets.UTF_8),
+                adminKey.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Map<String, Object> buildErrorResponse(String message) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("success", false);
+        errorResponse.put("message", message);
+        return errorResponse;
+    }
+}
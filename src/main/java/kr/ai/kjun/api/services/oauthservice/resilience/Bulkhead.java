@@ -0,0 +1,98 @@
+package kr.ai.kjun.api.services.oauthservice.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.ai.kjun.api.services.oauthservice.config.BulkheadProperties;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 제공자별 동시 호출 제한 (세마포어 + 짧은 대기열)
+ * 한 제공자가 느려져도 그 제공자의 호출만 한도에 걸리고, 다른 제공자의 로그인은 영향을 받지 않음
+ *
+ * 메트릭 (태그 provider):
+ * - provider.bulkhead.in_flight: 실행 중인 호출 수
+ * - provider.bulkhead.queued: 허용을 기다리는 호출 수
+ * - provider.bulkhead.rejected: 거부된 호출 수
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrentCalls;
+    private final int maxQueue;
+    private final long maxWaitMillis;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Counter rejected;
+
+    public Bulkhead(String name, BulkheadProperties properties, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.maxConcurrentCalls = properties.getMaxConcurrentCalls();
+        this.maxQueue = properties.getMaxQueue();
+        this.maxWaitMillis = properties.getMaxWait();
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+
+        Gauge.builder("provider.bulkhead.in_flight", this, Bulkhead::inFlight)
+                .description("실행 중인 외부 호출 수")
+                .tag("provider", name)
+                .register(meterRegistry);
+        Gauge.builder("provider.bulkhead.queued", queued, AtomicInteger::get)
+                .description("동시 실행 허용을 기다리는 외부 호출 수")
+                .tag("provider", name)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("provider.bulkhead.rejected")
+                .description("동시 실행 한도 초과로 거부된 외부 호출 수")
+                .tag("provider", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출 허용 획득 (대기열이 가득 찼거나 max-wait 안에 얻지 못하면 즉시 거부)
+     * 성공하면 호출이 끝난 뒤 반드시 release()를 호출해야 함
+     *
+     * @throws BulkheadFullException 허용을 얻지 못한 경우
+     */
+    public void acquire() {
+        if (permits.tryAcquire()) {
+            return;
+        }
+
+        if (queued.incrementAndGet() > maxQueue) {
+            queued.decrementAndGet();
+            throw reject();
+        }
+        try {
+            if (!permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+                throw reject();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject();
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    /**
+     * 호출 허용 반환
+     */
+    public void release() {
+        permits.release();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private double inFlight() {
+        return maxConcurrentCalls - permits.availablePermits();
+    }
+
+    private BulkheadFullException reject() {
+        rejected.increment();
+        return new BulkheadFullException(name);
+    }
+}
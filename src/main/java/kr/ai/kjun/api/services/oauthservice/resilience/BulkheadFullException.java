@@ -0,0 +1,11 @@
+package kr.ai.kjun.api.services.oauthservice.resilience;
+
+/**
+ * Bulkhead 허용 한도와 대기열이 모두 가득 차 호출을 거부했을 때 발생
+ */
+public class BulkheadFullException extends RuntimeException {
+
+    public BulkheadFullException(String name) {
+        super(name + " 호출 동시 실행 한도 초과");
+    }
+}
@@ -0,0 +1,217 @@
+package kr.ai.kjun.api.services.oauthservice.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.ai.kjun.api.services.oauthservice.config.ProviderResilienceConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 제공자 엔드포인트별 Circuit Breaker (호출 수 기준 슬라이딩 윈도우)
+ * 제공자가 장애일 때 읽기 타임아웃까지 기다리지 않고 즉시 실패시켜 로그인 지연이 타임아웃을 따라가지 않게 함
+ *
+ * - CLOSED: 최근 window-size건의 실패율이 기준 이상이면 OPEN
+ * - OPEN: open-duration 동안 호출하지 않고 CircuitOpenException 발생, 이후 HALF_OPEN
+ * - HALF_OPEN: half-open-calls건만 시험 호출하여 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ *
+ * 4xx 응답(429 제외)은 제공자가 정상 응답한 것이므로 성공으로, Bulkhead 거부는 호출하지 않았으므로 집계에서 제외
+ *
+ * 메트릭 (태그 provider, endpoint):
+ * - provider.circuit.state: 0=CLOSED, 1=HALF_OPEN, 2=OPEN
+ * - provider.circuit.rejected: 열린 상태에서 거부된 호출 수
+ */
+public class CircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final String name;
+    private final ProviderResilienceConfig.CircuitBreaker config;
+    private final Counter rejected;
+
+    // 아래 상태는 모두 lock으로 보호
+    private final ReentrantLock lock = new ReentrantLock();
+    // 최근 호출 결과 (true = 실패)
+    private final boolean[] outcomes;
+    private int next;
+    private int recorded;
+    private int failures;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(
+            String provider,
+            String endpoint,
+            ProviderResilienceConfig.CircuitBreaker config,
+            MeterRegistry meterRegistry) {
+        this.name = provider + "." + endpoint;
+        this.config = config;
+        this.outcomes = new boolean[Math.max(config.getWindowSize(), 1)];
+
+        Gauge.builder("provider.circuit.state", this, breaker -> breaker.getState().ordinal())
+                .description("제공자 호출 Circuit Breaker 상태 (0=CLOSED, 1=HALF_OPEN, 2=OPEN)")
+                .tag("provider", provider)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("provider.circuit.rejected")
+                .description("Circuit Breaker가 열려 있어 거부된 제공자 호출 수")
+                .tag("provider", provider)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 상태에 따라 호출을 실행하거나 즉시 거부
+     *
+     * @param call 제공자 호출
+     * @return 호출 결과
+     * @throws CircuitOpenException 열린 상태이거나 반열림 시험 호출 수를 모두 쓴 경우
+     */
+    public <T> T execute(Supplier<T> call) {
+        if (!config.isEnabled()) {
+            return call.get();
+        }
+        if (!tryAcquirePermission()) {
+            rejected.increment();
+            throw new CircuitOpenException(name);
+        }
+
+        try {
+            T result = call.get();
+            onResult(false);
+            return result;
+        } catch (BulkheadFullException e) {
+            releasePermission();
+            throw e;
+        } catch (HttpClientErrorException e) {
+            onResult(e.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value());
+            throw e;
+        } catch (RuntimeException | Error e) {
+            onResult(true);
+            throw e;
+        }
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            if (state == State.OPEN && System.currentTimeMillis() - openedAt >= config.getOpenDuration()) {
+                return State.HALF_OPEN;
+            }
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean tryAcquirePermission() {
+        lock.lock();
+        try {
+            if (state == State.OPEN) {
+                if (System.currentTimeMillis() - openedAt < config.getOpenDuration()) {
+                    return false;
+                }
+                transitionTo(State.HALF_OPEN);
+            }
+            if (state == State.HALF_OPEN) {
+                if (halfOpenPermits <= 0) {
+                    return false;
+                }
+                halfOpenPermits--;
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void releasePermission() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                halfOpenPermits++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onResult(boolean failure) {
+        lock.lock();
+        try {
+            record(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // lock을 잡은 상태에서 호출
+    private void record(boolean failure) {
+        switch (state) {
+            case CLOSED -> {
+                if (recorded == outcomes.length) {
+                    if (outcomes[next]) {
+                        failures--;
+                    }
+                } else {
+                    recorded++;
+                }
+                outcomes[next] = failure;
+                if (failure) {
+                    failures++;
+                }
+                next = (next + 1) % outcomes.length;
+
+                if (recorded >= config.getMinimumCalls()
+                        && failures * 100 >= config.getFailureRateThreshold() * recorded) {
+                    transitionTo(State.OPEN);
+                }
+            }
+            case HALF_OPEN -> {
+                if (failure) {
+                    transitionTo(State.OPEN);
+                } else if (++halfOpenSuccesses >= config.getHalfOpenCalls()) {
+                    transitionTo(State.CLOSED);
+                }
+            }
+            case OPEN -> {
+                // 열리기 전에 시작된 호출의 결과는 무시
+            }
+        }
+    }
+
+    // lock을 잡은 상태에서 호출
+    private void transitionTo(State target) {
+        State previous = state;
+        state = target;
+        switch (target) {
+            case OPEN -> {
+                openedAt = System.currentTimeMillis();
+                log.warn("[Circuit Breaker] {} 열림 ({} -> OPEN) - 최근 {}건 중 실패 {}건, {}ms 동안 호출 차단",
+                        name, previous, recorded, failures, config.getOpenDuration());
+            }
+            case HALF_OPEN -> {
+                halfOpenPermits = Math.max(config.getHalfOpenCalls(), 1);
+                halfOpenSuccesses = 0;
+                log.info("[Circuit Breaker] {} 반열림 - 시험 호출 {}건 허용", name, halfOpenPermits);
+            }
+            case CLOSED -> {
+                next = 0;
+                recorded = 0;
+                failures = 0;
+                log.info("[Circuit Breaker] {} 닫힘 - 호출 재개", name);
+            }
+        }
+    }
+}
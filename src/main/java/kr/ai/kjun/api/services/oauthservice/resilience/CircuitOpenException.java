@@ -0,0 +1,11 @@
+package kr.ai.kjun.api.services.oauthservice.resilience;
+
+/**
+ * Circuit Breaker가 열려 있어 호출을 보내지 않고 거부했을 때 발생
+ */
+public class CircuitOpenException extends RuntimeException {
+
+    public CircuitOpenException(String name) {
+        super(name + " 호출 차단 중 (Circuit Breaker 열림)");
+    }
+}
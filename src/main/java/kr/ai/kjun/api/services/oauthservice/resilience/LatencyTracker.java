@@ -0,0 +1,64 @@
+package kr.ai.kjun.api.services.oauthservice.resilience;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 최근 성공 응답 시간 분포 (고정 크기 링 버퍼)
+ * Hedged 요청의 기준 지연을 최근 응답 시간의 분위수로 정하기 위해 사용
+ * 로그인 1건당 기록 1회, 조회 1회이므로 조회 시 정렬(수백 건) 비용은 외부 호출에 비해 무시할 수준
+ * 잠금 구간은 기록과 복사뿐이고 정렬은 복사본으로 잠금 밖에서 수행
+ */
+public class LatencyTracker {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final long[] samples;
+    private final int minSamples;
+    private int next;
+    private int count;
+
+    public LatencyTracker(int sampleSize, int minSamples) {
+        this.samples = new long[Math.max(sampleSize, 1)];
+        this.minSamples = Math.min(Math.max(minSamples, 1), samples.length);
+    }
+
+    /**
+     * 응답 시간 기록
+     *
+     * @param millis 응답 시간 (ms)
+     */
+    public void record(long millis) {
+        lock.lock();
+        try {
+            samples[next] = millis;
+            next = (next + 1) % samples.length;
+            if (count < samples.length) {
+                count++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 최근 응답 시간의 분위수
+     *
+     * @param percentile 분위수 (0~1)
+     * @return 분위수 값 (ms), 기록이 min-samples보다 적으면 -1
+     */
+    public long percentile(double percentile) {
+        long[] copy;
+        lock.lock();
+        try {
+            if (count < minSamples) {
+                return -1;
+            }
+            copy = Arrays.copyOf(samples, count);
+        } finally {
+            lock.unlock();
+        }
+        Arrays.sort(copy);
+        int index = (int) Math.ceil(percentile * copy.length) - 1;
+        return copy[Math.min(Math.max(index, 0), copy.length - 1)];
+    }
+}
@@ -0,0 +1,172 @@
+package kr.ai.kjun.api.services.oauthservice.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import kr.ai.kjun.api.services.oauthservice.config.ProviderResilienceConfig;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 외부 OAuth 제공자 호출 실행기 (Circuit Breaker + Hedged 요청)
+ *
+ * - call: Circuit Breaker만 적용 (토큰 발급처럼 인가 코드를 소비하는 멱등하지 않은 호출)
+ * - callHedged: Circuit Breaker 안에서 hedged 요청 적용 (사용자 정보 GET처럼 멱등한 호출)
+ *   첫 요청이 최근 성공 응답 시간의 percentile 값 안에 끝나지 않으면 같은 요청을 한 번 더 보내고,
+ *   둘 중 먼저 성공한 응답을 사용 (둘 다 실패하면 마지막 실패를 그대로 전달)
+ *
+ * Circuit Breaker와 응답 시간 분포는 {provider}.{endpoint}별로 따로 관리하고,
+ * hedged 요청은 가상 스레드에서 실행 (늦게 끝난 요청은 취소하지 않고 응답을 닫을 때 Bulkhead 허용이 반환됨)
+ *
+ * 메트릭: provider.hedge{provider, endpoint, outcome=launched|won}
+ */
+@Component
+public class ProviderCallExecutor {
+
+    private final ProviderResilienceConfig config;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LatencyTracker> latencyTrackers = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ProviderCallExecutor(ProviderResilienceConfig config, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Circuit Breaker를 적용하여 호출
+     *
+     * @param provider 제공자 (kakao, naver, google)
+     * @param endpoint 엔드포인트 (token, userinfo)
+     * @param call     제공자 호출
+     * @return 호출 결과
+     */
+    public <T> T call(String provider, String endpoint, Supplier<T> call) {
+        return circuitBreaker(provider, endpoint).execute(call);
+    }
+
+    /**
+     * Circuit Breaker와 hedged 요청을 적용하여 호출 (멱등한 호출에만 사용)
+     *
+     * @param provider 제공자 (kakao, naver, google)
+     * @param endpoint 엔드포인트 (userinfo)
+     * @param call     제공자 호출
+     * @return 먼저 성공한 호출 결과
+     */
+    public <T> T callHedged(String provider, String endpoint, Supplier<T> call) {
+        return circuitBreaker(provider, endpoint).execute(() -> hedge(provider, endpoint, call));
+    }
+
+    /**
+     * 제공자 엔드포인트의 Circuit Breaker 상태
+     */
+    public CircuitBreaker.State getState(String provider, String endpoint) {
+        return circuitBreaker(provider, endpoint).getState();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T hedge(String provider, String endpoint, Supplier<T> call) {
+        ProviderResilienceConfig.Hedge hedge = config.getHedge();
+        LatencyTracker tracker = latencyTracker(provider, endpoint);
+        long threshold = hedge.isEnabled() ? tracker.percentile(hedge.getPercentile()) : -1;
+
+        // 응답 시간 기록이 충분하지 않으면 요청 스레드에서 바로 호출
+        if (threshold < 0) {
+            return timed(tracker, call);
+        }
+        long delayMillis = Math.min(Math.max(threshold, hedge.getMinDelay()), hedge.getMaxDelay());
+
+        CompletableFuture<T> primary = CompletableFuture.supplyAsync(() -> timed(tracker, call), executor);
+        try {
+            return primary.get(delayMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 기준 지연 초과: 아래에서 두 번째 요청 전송
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(provider + " " + endpoint + " 호출 대기 중 인터럽트", e);
+        }
+
+        countHedge(provider, endpoint, "launched");
+        CompletableFuture<T> hedged = CompletableFuture.supplyAsync(() -> timed(tracker, call), executor);
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger remaining = new AtomicInteger(2);
+        primary.whenComplete((value, error) -> complete(result, remaining, value, error, null));
+        hedged.whenComplete((value, error) -> complete(result, remaining, value, error,
+                () -> countHedge(provider, endpoint, "won")));
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    // 먼저 성공한 응답으로 완료하고, 모든 요청이 실패했을 때만 실패로 완료
+    private static <T> void complete(
+            CompletableFuture<T> result,
+            AtomicInteger remaining,
+            T value,
+            Throwable error,
+            Runnable onWin) {
+        if (error == null) {
+            if (result.complete(value) && onWin != null) {
+                onWin.run();
+            }
+        } else if (remaining.decrementAndGet() == 0) {
+            result.completeExceptionally(error);
+        }
+    }
+
+    private static <T> T timed(LatencyTracker tracker, Supplier<T> call) {
+        long startNanos = System.nanoTime();
+        T result = call.get();
+        tracker.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        return result;
+    }
+
+    // 서비스의 기존 예외 처리(HttpClientErrorException 등)가 그대로 동작하도록 원래 예외로 전달
+    private static RuntimeException unwrap(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                ? error.getCause()
+                : error;
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error fatal) {
+            throw fatal;
+        }
+        return new RuntimeException(cause);
+    }
+
+    private void countHedge(String provider, String endpoint, String outcome) {
+        meterRegistry.counter("provider.hedge", "provider", provider, "endpoint", endpoint, "outcome", outcome)
+                .increment();
+    }
+
+    private CircuitBreaker circuitBreaker(String provider, String endpoint) {
+        return circuitBreakers.computeIfAbsent(provider + "." + endpoint,
+                key -> new CircuitBreaker(provider, endpoint, config.getCircuitBreaker(), meterRegistry));
+    }
+
+    private LatencyTracker latencyTracker(String provider, String endpoint) {
+        ProviderResilienceConfig.Hedge hedge = config.getHedge();
+        return latencyTrackers.computeIfAbsent(provider + "." + endpoint,
+                key -> new LatencyTracker(hedge.getSampleSize(), hedge.getMinSamples()));
+    }
+}
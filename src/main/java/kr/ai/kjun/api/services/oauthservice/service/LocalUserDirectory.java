@@ -0,0 +1,65 @@
+package kr.ai.kjun.api.services.oauthservice.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.ai.kjun.api.services.userservice.entity.User;
+import kr.ai.kjun.api.services.userservice.model.UserModel;
+import kr.ai.kjun.api.services.userservice.service.UserService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 같은 JVM의 UserService를 직접 호출하는 사용자 저장소
+ * HTTP 직렬화, 소켓, Tomcat 스레드 없이 User Service 로직을 실행
+ */
+@Component
+@ConditionalOnProperty(prefix = "user-service", name = "mode", havingValue = "local", matchIfMissing = true)
+public class LocalUserDirectory implements UserDirectory {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private final UserService userService;
+    private final ObjectMapper objectMapper;
+
+    public LocalUserDirectory(UserService userService, ObjectMapper objectMapper) {
+        this.userService = userService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Map<String, Object> saveOrUpdateUser(
+            String oauthProvider,
+            String oauthId,
+            String email,
+            String nickname,
+            String profileImageUrl) {
+
+        User savedUser = userService.saveOrUpdateUser(
+                parseProvider(oauthProvider), oauthId, email, nickname, profileImageUrl);
+        return toMap(UserModel.from(savedUser));
+    }
+
+    @Override
+    public Map<String, Object> findById(Long userId) {
+        return userService.findModelById(userId)
+                .map(this::toMap)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
+    }
+
+    // 제공자 이름 변환 실패만 "유효하지 않은 제공자"로 처리 (저장 중 발생한 IllegalArgumentException은 그대로 전달)
+    private static User.OAuthProvider parseProvider(String oauthProvider) {
+        try {
+            return User.OAuthProvider.valueOf(oauthProvider.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("유효하지 않은 OAuth 제공자입니다: " + oauthProvider, e);
+        }
+    }
+
+    // HTTP 응답과 같은 모양(JSON 필드명, 날짜는 ISO 문자열)으로 변환
+    private Map<String, Object> toMap(UserModel userModel) {
+        return objectMapper.convertValue(userModel, MAP_TYPE);
+    }
+}
@@ -0,0 +1,18 @@
+package kr.ai.kjun.api.services.oauthservice.service;
+
+/**
+ * 같은 인가 코드의 중복 요청이 결과를 받을 수 없을 때 발생
+ * (이미 처리가 끝난 뒤 도착했거나, 처리하던 요청이 실패했거나, 공유 결과가 만료됨)
+ *
+ * 인가 코드는 일회용이므로 같은 코드로 다시 시도해도 성공하지 않음
+ * 콜백은 ERROR_CODE로 에러 리다이렉트하여 클라이언트가 새 인가 코드로 로그인을 다시 시작하게 함
+ */
+public class LoginRetryRequiredException extends IllegalStateException {
+
+    // 콜백 에러 리다이렉트의 error 값 (클라이언트는 로그인 URL부터 다시 요청)
+    public static final String ERROR_CODE = "login_retry";
+
+    public LoginRetryRequiredException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,396 @@
+package kr.ai.kjun.api.services.oauthservice.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.ai.kjun.api.metrics.StageMetrics;
+import kr.ai.kjun.api.services.oauthservice.jwt.JwtTokenProvider;
+import kr.ai.kjun.api.services.oauthservice.jwt.RefreshTokenService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * OAuth 로그인 공통 처리 (제공자 인증 -> 사용자 저장 -> Access/Refresh Token 발급)
+ * 같은 인가 코드(provider, code, state)로 동시에 들어온 중복 요청(더블 클릭, 재시도, 프리페치)은
+ * 한 번만 처리하고 결과를 공유
+ *
+ * - 인스턴스 내: 진행 중인 로그인을 CompletableFuture로 보관하여 동시 요청이 같은 결과를 기다림
+ * - 인스턴스 간: Redis에 처리 중 표시(SET NX)를 두고, 처리 중에 도착한 다른 인스턴스의 요청만 결과를 받아감
+ * - 처리가 끝난 뒤 도착한 요청에는 결과를 재사용하지 않음 (유출된 인가 코드로 세션을 얻는 재전송 차단)
+ *   결과는 대기 중인 요청이 가져갈 수 있도록 oauth-login.result-ttl-ms 동안만 보관하고,
+ *   인가 코드에서 유도한 키로 AES-GCM 암호화하여 Redis에는 토큰 평문이 남지 않음
+ * - 처리 완료 표시(DONE)는 oauth-login.used-ttl-ms(제공자의 인가 코드 유효 시간 이상) 동안 유지하여,
+ *   결과 만료 뒤 늦게 도착한 중복 콜백도 제공자 호출 없이 LoginRetryRequiredException으로 거절
+ *   (기다리던 중 처리가 실패한 요청도 같음, 콜백은 login_retry 에러로 리다이렉트하여 새 인가 코드로 다시 시작)
+ * - 인가 코드는 일회용이므로 중복 요청이 직접 처리하면 어차피 실패함 (결과 공유 외에 재실행하지 않음)
+ * - Redis 장애 시에는 인스턴스 내 공유만 적용하고 그대로 처리
+ *
+ * 사용자 ID가 정해진 뒤 Refresh Token 저장과 토큰 세대 조회는 Lua 스크립트 하나(Redis 왕복 1회)로 처리하고,
+ * 읽은 세대로 Access Token을 서명(CPU)하며, 단계별 소요 시간은 LoginResult.serverTiming()으로 응답 헤더에 제공
+ *
+ * Redis Key 네이밍: auth:login:{provider}:{SHA-256(provider, code, state)} (값: PENDING 또는 DONE)
+ *                  auth:login:{provider}:{SHA-256(provider, code, state)}:result (값: 암호화된 로그인 결과)
+ * 공유된 요청 수는 oauth.login.coalesced{provider, tier=local|redis}로 기록
+ */
+@Service
+public class OAuthLoginService {
+
+    private static final Logger log = LoggerFactory.getLogger(OAuthLoginService.class);
+
+    private static final String LOGIN_PREFIX = "auth:login:";
+    // 다른 인스턴스가 처리 중임을 나타내는 값
+    private static final String PENDING = "PENDING";
+    // 처리가 끝났음을 나타내는 값 (결과는 RESULT_SUFFIX 키에 따로 보관)
+    private static final String DONE = "DONE";
+    private static final String RESULT_SUFFIX = ":result";
+    // 다른 인스턴스의 결과를 기다릴 때 조회 간격 (ms)
+    private static final long POLL_INTERVAL_MS = 50;
+    // 결과 암호화 (AES-256-GCM, 값: Base64(IV || 암호문))
+    private static final String CIPHER = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    // 단계별 소요 시간 응답 헤더
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final UserManagementService userManagementService;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final StageMetrics stageMetrics;
+    private final MeterRegistry meterRegistry;
+    private final long resultTtlMs;
+    private final long pendingTtlMs;
+    private final long usedTtlMs;
+    private final long waitMs;
+    private final ConcurrentHashMap<String, CompletableFuture<LoginResult>> inFlight = new ConcurrentHashMap<>();
+
+    public OAuthLoginService(
+            UserManagementService userManagementService,
+            JwtTokenProvider jwtTokenProvider,
+            RefreshTokenService refreshTokenService,
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            StageMetrics stageMetrics,
+            MeterRegistry meterRegistry,
+            @Value("${oauth-login.result-ttl-ms:5000}") long resultTtlMs,
+            @Value("${oauth-login.pending-ttl-ms:15000}") long pendingTtlMs,
+            @Value("${oauth-login.used-ttl-ms:600000}") long usedTtlMs,
+            @Value("${oauth-login.wait-ms:10000}") long waitMs) {
+        this.userManagementService = userManagementService;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.refreshTokenService = refreshTokenService;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.stageMetrics = stageMetrics;
+        this.meterRegistry = meterRegistry;
+        this.resultTtlMs = resultTtlMs;
+        this.pendingTtlMs = pendingTtlMs;
+        this.usedTtlMs = usedTtlMs;
+        this.waitMs = waitMs;
+    }
+
+    /**
+     * 인가 코드로 로그인 (같은 코드의 중복 요청은 하나의 처리 결과를 공유)
+     *
+     * @param oauthProvider OAuth 제공자 (KAKAO, NAVER, GOOGLE)
+     * @param code          인가 코드
+     * @param state         콜백의 state (없으면 null, 같은 state의 요청끼리만 결과를 공유)
+     * @param authenticator 제공자 토큰 교환 + 사용자 정보 조회
+     * @return 저장된 사용자 정보와 발급된 토큰
+     */
+    public LoginResult login(String oauthProvider, String code, String state, Supplier<Identity> authenticator) {
+        String material = oauthProvider.toLowerCase(Locale.ROOT) + "|" + code + "|" + (state != null ? state : "");
+        String key = LOGIN_PREFIX + oauthProvider.toLowerCase(Locale.ROOT) + ":"
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(sha256("key|" + material));
+        byte[] encryptionKey = sha256("enc|" + material);
+
+        CompletableFuture<LoginResult> created = new CompletableFuture<>();
+        CompletableFuture<LoginResult> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            log.debug("[OAuth 로그인] 진행 중인 같은 인가 코드 요청의 결과 사용 - {}", oauthProvider);
+            countCoalesced(oauthProvider, "local");
+            long startNanos = System.nanoTime();
+            return await(existing).withTiming("coalesced", System.nanoTime() - startNanos);
+        }
+
+        try {
+            LoginResult result = loginOnce(key, encryptionKey, oauthProvider, authenticator);
+            created.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    private LoginResult loginOnce(
+            String key,
+            byte[] encryptionKey,
+            String oauthProvider,
+            Supplier<Identity> authenticator) {
+        String provider = oauthProvider.toLowerCase(Locale.ROOT);
+
+        // 1. 다른 인스턴스가 이미 처리했거나 처리 중인지 확인하고, 아니면 처리 중으로 표시
+        Boolean acquired;
+        try {
+            acquired = stageMetrics.record("redis.login.claim", provider,
+                    () -> redisTemplate.opsForValue().setIfAbsent(key, PENDING, Duration.ofMillis(pendingTtlMs)));
+        } catch (Exception e) {
+            log.warn("[OAuth 로그인] Redis 중복 확인 실패, 그대로 처리: {}", e.getMessage());
+            return execute(oauthProvider, authenticator);
+        }
+
+        if (!Boolean.TRUE.equals(acquired)) {
+            long startNanos = System.nanoTime();
+            LoginResult shared = awaitRemote(key, encryptionKey, oauthProvider);
+            countCoalesced(oauthProvider, "redis");
+            return shared.withTiming("coalesced", System.nanoTime() - startNanos);
+        }
+
+        // 2. 직접 처리 후 처리 중에 도착한 요청에 결과 공유 (실패하면 표시 제거)
+        LoginResult result;
+        try {
+            result = execute(oauthProvider, authenticator);
+        } catch (RuntimeException e) {
+            deleteQuietly(key);
+            throw e;
+        }
+        try {
+            String encrypted = encrypt(objectMapper.writeValueAsBytes(result), encryptionKey);
+            // 결과를 먼저 저장한 뒤 완료로 표시 (DONE을 본 대기 요청은 결과 키를 읽음)
+            redisTemplate.opsForValue().set(key + RESULT_SUFFIX, encrypted, Duration.ofMillis(resultTtlMs));
+            redisTemplate.opsForValue().set(key, DONE, Duration.ofMillis(usedTtlMs));
+        } catch (Exception e) {
+            log.warn("[OAuth 로그인] 로그인 결과 공유 실패: {}", e.getMessage());
+            deleteQuietly(key);
+        }
+        return result;
+    }
+
+    private LoginResult execute(String oauthProvider, Supplier<Identity> authenticator) {
+        Map<String, Long> timings = new LinkedHashMap<>();
+        long startNanos = System.nanoTime();
+
+        // 1. 제공자 인증 (토큰 교환 + 사용자 정보)
+        Identity identity = authenticator.get();
+        long authenticatedNanos = System.nanoTime();
+        timings.put("provider", authenticatedNanos - startNanos);
+
+        // 2. 사용자 정보를 User Service에 저장 또는 업데이트
+        Map<String, Object> savedUser = userManagementService.saveOrUpdateUser(
+                oauthProvider,
+                identity.oauthId(),
+                identity.email(),
+                identity.nickname(),
+                identity.profileImageUrl());
+
+        Long userId = ((Number) savedUser.get("id")).longValue();
+        long savedNanos = System.nanoTime();
+        timings.put("user", savedNanos - authenticatedNanos);
+
+        // 3. Refresh Token 저장 + 토큰 세대 조회 (Redis 왕복 1회) -> 그 세대로 Access Token 서명
+        //    서명에 세대가 필요하므로 두 작업은 순서대로 실행 (서명은 Redis 왕복에 비해 무시할 수준)
+        RefreshTokenService.IssuedRefreshToken issued = refreshTokenService.issueRefreshToken(userId);
+        String refreshToken = issued.refreshToken();
+        String accessToken;
+        try {
+            accessToken = jwtTokenProvider.generateToken(
+                    userId,
+                    (String) savedUser.get("email"),
+                    (String) savedUser.get("nickname"),
+                    issued.generation());
+        } catch (RuntimeException e) {
+            discardRefreshToken(userId, refreshToken);
+            throw e;
+        }
+        timings.put("tokens", System.nanoTime() - savedNanos);
+
+        return new LoginResult(savedUser, accessToken, refreshToken, timings);
+    }
+
+    // Access Token 발급 실패 시 먼저 저장된 Refresh Token(기기 패밀리)을 삭제 (응답으로 전달되지 않아 아무도 쓸 수 없음)
+    private void discardRefreshToken(Long userId, String refreshToken) {
+        try {
+            refreshTokenService.revokeDevice(userId, refreshToken);
+        } catch (RuntimeException e) {
+            log.warn("[OAuth 로그인] 발급 실패한 로그인의 Refresh Token 정리 실패 - User ID: {}, {}", userId, e.getMessage());
+        }
+    }
+
+    // 다른 인스턴스가 처리 중인 로그인 결과를 wait-ms까지 기다림
+    // 처음 조회했을 때 이미 처리가 끝나 있으면 (처리 중에 도착한 중복 요청이 아니므로) 결과를 재사용하지 않음
+    // 결과를 줄 수 없는 경우는 모두 LoginRetryRequiredException (같은 코드로는 성공할 수 없으므로 새 로그인 필요)
+    private LoginResult awaitRemote(String key, byte[] encryptionKey, String oauthProvider) {
+        long deadline = System.currentTimeMillis() + waitMs;
+        boolean sawPending = false;
+        try {
+            while (System.currentTimeMillis() < deadline) {
+                String value = redisTemplate.opsForValue().get(key);
+                if (value == null) {
+                    // 처리하던 인스턴스가 실패하여 표시가 제거됨 (인가 코드는 이미 사용되었을 수 있음)
+                    throw new LoginRetryRequiredException(oauthProvider + " 로그인 처리 실패 (같은 인가 코드의 다른 요청)");
+                }
+                if (!PENDING.equals(value)) {
+                    if (!sawPending) {
+                        throw new LoginRetryRequiredException(oauthProvider + " 이미 사용된 인가 코드입니다");
+                    }
+                    String encrypted = redisTemplate.opsForValue().get(key + RESULT_SUFFIX);
+                    if (encrypted == null) {
+                        throw new LoginRetryRequiredException(oauthProvider + " 로그인 결과 만료 (같은 인가 코드의 다른 요청)");
+                    }
+                    log.debug("[OAuth 로그인] 다른 인스턴스의 로그인 결과 사용 - {}", oauthProvider);
+                    return objectMapper.readValue(decrypt(encrypted, encryptionKey), LoginResult.class);
+                }
+                sawPending = true;
+                Thread.sleep(POLL_INTERVAL_MS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(oauthProvider + " 로그인 결과 대기 중 인터럽트", e);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(oauthProvider + " 로그인 결과 조회 실패", e);
+        }
+        throw new IllegalStateException(oauthProvider + " 로그인 결과 대기 시간 초과 (같은 인가 코드의 다른 요청 처리 중)");
+    }
+
+    private static LoginResult await(CompletableFuture<LoginResult> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (Exception e) {
+            log.debug("[OAuth 로그인] 처리 중 표시 제거 실패: {}", e.getMessage());
+        }
+    }
+
+    private void countCoalesced(String oauthProvider, String tier) {
+        meterRegistry.counter("oauth.login.coalesced", "provider", oauthProvider.toLowerCase(Locale.ROOT), "tier", tier)
+                .increment();
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    private static String encrypt(byte[] plaintext, byte[] key) throws GeneralSecurityException {
+        byte[] iv = new byte[IV_LENGTH];
+        RANDOM.nextBytes(iv);
+        Cipher cipher = Cipher.getInstance(CIPHER);
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"), new GCMParameterSpec(TAG_BITS, iv));
+        byte[] encrypted = cipher.doFinal(plaintext);
+        return Base64.getEncoder().encodeToString(
+                ByteBuffer.allocate(iv.length + encrypted.length).put(iv).put(encrypted).array());
+    }
+
+    private static byte[] decrypt(String value, byte[] key) throws GeneralSecurityException {
+        byte[] payload = Base64.getDecoder().decode(value);
+        Cipher cipher = Cipher.getInstance(CIPHER);
+        cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(key, "AES"),
+                new GCMParameterSpec(TAG_BITS, payload, 0, IV_LENGTH));
+        return cipher.doFinal(payload, IV_LENGTH, payload.length - IV_LENGTH);
+    }
+
+    /**
+     * 제공자 인증 결과 (User Service 저장에 필요한 값)
+     *
+     * @param oauthId         제공자 사용자 ID
+     * @param email           이메일
+     * @param nickname        닉네임
+     * @param profileImageUrl 프로필 이미지 URL
+     */
+    public record Identity(String oauthId, String email, String nickname, String profileImageUrl) {
+    }
+
+    /**
+     * 로그인 결과
+     *
+     * @param user         저장된 사용자 정보 (id, email, nickname, profileImageUrl 등)
+     * @param accessToken  Access Token
+     * @param refreshToken Refresh Token
+     * @param timings      이 요청의 단계별 소요 시간 (ns, 다른 요청과 공유하지 않으므로 Redis에 저장하지 않음)
+     */
+    public record LoginResult(
+            Map<String, Object> user,
+            String accessToken,
+            String refreshToken,
+            @JsonIgnore Map<String, Long> timings) {
+
+        public Long userId() {
+            return ((Number) user.get("id")).longValue();
+        }
+
+        // 공유받은 결과에 이 요청의 대기 시간만 기록
+        LoginResult withTiming(String stage, long nanos) {
+            return new LoginResult(user, accessToken, refreshToken, Map.of(stage, nanos));
+        }
+
+        /**
+         * Server-Timing 헤더 값 (예: provider;dur=120.4, user;dur=8.1, tokens;dur=2.3)
+         */
+        public String serverTiming() {
+            StringJoiner joiner = new StringJoiner(", ");
+            if (timings != null) {
+                timings.forEach((stage, nanos) -> joiner.add(String.format(Locale.ROOT, "%s;dur=%.1f",
+                        stage, nanos / (double) TimeUnit.MILLISECONDS.toNanos(1))));
+            }
+            return joiner.toString();
+        }
+
+        /**
+         * Server-Timing 응답 헤더 (기록된 소요 시간이 없으면 헤더를 넣지 않음)
+         */
+        public HttpHeaders serverTimingHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            String value = serverTiming();
+            if (!value.isEmpty()) {
+                headers.set(SERVER_TIMING_HEADER, value);
+            }
+            return headers;
+        }
+    }
+}
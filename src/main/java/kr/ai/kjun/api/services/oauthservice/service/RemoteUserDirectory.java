@@ -0,0 +1,145 @@
+package kr.ai.kjun.api.services.oauthservice.service;
+
+import kr.ai.kjun.api.filter.RateLimitFilter;
+import kr.ai.kjun.api.services.oauthservice.config.UserServiceConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * User Service를 HTTP로 호출하는 사용자 저장소
+ * User Service를 별도로 배포한 경우 사용 (user-service.mode=remote)
+ *
+ * 모든 호출이 OAuth Service의 IP에서 나가므로 user-service.internal-token을 X-Internal-Token 헤더로 보내
+ * User Service의 IP 기준 Rate Limit(rate-limit.routes.users)을 받지 않음 (RateLimitFilter)
+ */
+@Component
+@ConditionalOnProperty(prefix = "user-service", name = "mode", havingValue = "remote")
+public class RemoteUserDirectory implements UserDirectory {
+
+    private static final Logger log = LoggerFactory.getLogger(RemoteUserDirectory.class);
+
+    private final RestTemplate restTemplate;
+    private final String userServiceUrl;
+    private final String internalToken;
+
+    public RemoteUserDirectory(
+            @Qualifier("userServiceRestTemplate") RestTemplate restTemplate,
+            UserServiceConfig userServiceConfig) {
+        this.restTemplate = restTemplate;
+        this.userServiceUrl = userServiceConfig.getUrl();
+        this.internalToken = userServiceConfig.getInternalToken();
+    }
+
+    /**
+     * OAuth 로그인 사용자 저장 또는 업데이트
+     * 
+     * @param oauthProvider   OAuth 제공자 (KAKAO, NAVER, GOOGLE)
+     * @param oauthId         OAuth ID
+     * @param email           이메일
+     * @param nickname        닉네임
+     * @param profileImageUrl 프로필 이미지 URL
+     * @return 저장된 사용자 정보 (id, email, nickname 등)
+     */
+    @Override
+    public Map<String, Object> saveOrUpdateUser(
+            String oauthProvider,
+            String oauthId,
+            String email,
+            String nickname,
+            String profileImageUrl) {
+
+        String url = userServiceUrl + "/api/users/oauth";
+
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("provider", oauthProvider);
+        requestBody.put("oauthId", oauthId);
+        requestBody.put("email", email);
+        requestBody.put("nickname", nickname);
+        if (profileImageUrl != null) {
+            requestBody.put("profileImageUrl", profileImageUrl);
+        }
+
+        HttpHeaders headers = createHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
+
+        try {
+            ResponseEntity<Map> response = restTemplate.exchange(
+                    url,
+                    HttpMethod.POST,
+                    request,
+                    Map.class);
+
+            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+                Map<String, Object> responseBody = response.getBody();
+                if (Boolean.TRUE.equals(responseBody.get("success"))) {
+                    @SuppressWarnings("unchecked")
+                    Map<String, Object> user = (Map<String, Object>) responseBody.get("user");
+                    return user;
+                } else {
+                    throw new RuntimeException("User Service 응답 실패: " + responseBody.get("message"));
+                }
+            } else {
+                throw new RuntimeException("User Service 호출 실패: " + response.getStatusCode());
+            }
+        } catch (Exception e) {
+            log.warn("[User Service 호출 실패] {}", e.getMessage());
+            throw new RuntimeException("User Service 호출 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 사용자 ID로 사용자 조회
+     * 
+     * @param userId 사용자 ID
+     * @return 사용자 정보 (id, email, nickname 등)
+     */
+    @Override
+    public Map<String, Object> findById(Long userId) {
+        String url = userServiceUrl + "/api/users/" + userId;
+
+        try {
+            ResponseEntity<Map> response = restTemplate.exchange(
+                    url,
+                    HttpMethod.GET,
+                    new HttpEntity<>(createHeaders()),
+                    Map.class);
+
+            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+                Map<String, Object> responseBody = response.getBody();
+                if (Boolean.TRUE.equals(responseBody.get("success"))) {
+                    @SuppressWarnings("unchecked")
+                    Map<String, Object> user = (Map<String, Object>) responseBody.get("user");
+                    return user;
+                } else {
+                    throw new RuntimeException("User Service 응답 실패: " + responseBody.get("message"));
+                }
+            } else {
+                throw new RuntimeException("User Service 호출 실패: " + response.getStatusCode());
+            }
+        } catch (Exception e) {
+            log.warn("[User Service 호출 실패] {}", e.getMessage());
+            throw new RuntimeException("User Service 호출 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private HttpHeaders createHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        if (internalToken != null && !internalToken.isEmpty()) {
+            headers.set(RateLimitFilter.INTERNAL_TOKEN_HEADER, internalToken);
+        }
+        return headers;
+    }
+}
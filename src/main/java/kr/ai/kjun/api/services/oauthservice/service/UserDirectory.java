@@ -0,0 +1,40 @@
+package kr.ai.kjun.api.services.oauthservice.service;
+
+import java.util.Map;
+
+/**
+ * 사용자 저장소 포트
+ * OAuth 서비스가 User Service에 접근하는 방법을 추상화
+ *
+ * - LocalUserDirectory: 같은 JVM의 UserService를 직접 호출 (user-service.mode=local, 기본값)
+ * - RemoteUserDirectory: User Service를 HTTP로 호출 (user-service.mode=remote)
+ *
+ * 반환 형식은 두 구현 모두 User Service API 응답의 "user" 객체와 같음 (id, email, nickname 등)
+ */
+public interface UserDirectory {
+
+    /**
+     * OAuth 로그인 사용자 저장 또는 업데이트
+     *
+     * @param oauthProvider   OAuth 제공자 (KAKAO, NAVER, GOOGLE)
+     * @param oauthId         OAuth ID
+     * @param email           이메일
+     * @param nickname        닉네임
+     * @param profileImageUrl 프로필 이미지 URL
+     * @return 저장된 사용자 정보
+     */
+    Map<String, Object> saveOrUpdateUser(
+            String oauthProvider,
+            String oauthId,
+            String email,
+            String nickname,
+            String profileImageUrl);
+
+    /**
+     * 사용자 ID로 사용자 조회
+     *
+     * @param userId 사용자 ID
+     * @return 사용자 정보
+     */
+    Map<String, Object> findById(Long userId);
+}
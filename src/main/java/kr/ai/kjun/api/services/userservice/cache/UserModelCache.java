@@ -0,0 +1,236 @@
+package kr.ai.kjun.api.services.userservice.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kr.ai.kjun.api.services.userservice.config.UserCacheConfig;
+import kr.ai.kjun.api.services.userservice.model.UserModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 2단계 캐시 (로컬 Caffeine + Redis 공유 캐시)
+ * Neon DB 조회를 줄이기 위해 UserModel을 ID와 (provider, oauthId) 기준으로 캐시
+ *
+ * - 조회: 로컬 -> Redis -> DB(loader) 순서로 확인하고, 하위 단계에서 찾으면 상위 단계에 채움
+ *   DB에서 읽은 값은 Redis에 키가 없을 때만 채움 (SET NX) - 조회와 저장이 겹쳐 DB에서 읽은 이전 값이
+ *   저장 직후의 최신 값을 덮어써 redis-ttl 동안 남는 것을 방지
+ * - 저장: saveOrUpdateUser 커밋 후 put()으로 두 단계 모두 갱신 (write-through, Redis는 항상 덮어씀)
+ * - Redis의 두 키(ID, OAuth)는 파이프라인으로 왕복 1회에 기록
+ * - 무효화: put() 시 user:cache:evict 채널로 다른 인스턴스의 로컬 캐시 항목을 제거
+ *
+ * Redis Key 네이밍: user:cache:id:{id}, user:cache:oauth:{provider}:{oauthId} (값: UserModel JSON)
+ */
+@Component
+public class UserModelCache implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(UserModelCache.class);
+
+    private static final String ID_KEY_PREFIX = "user:cache:id:";
+    private static final String OAUTH_KEY_PREFIX = "user:cache:oauth:";
+    // 무효화 이벤트 채널 (메시지: {nodeId}|{userId})
+    private static final String EVICT_CHANNEL = "user:cache:evict";
+
+    // 자신이 보낸 무효화 메시지를 구분하기 위한 인스턴스 ID
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final UserCacheConfig config;
+    private final Cache<Long, UserModel> byId;
+    private final Cache<String, Long> idByOAuth;
+
+    public UserModelCache(
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            ObjectMapper objectMapper,
+            UserCacheConfig config) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.config = config;
+
+        Duration localTtl = Duration.ofMillis(config.getLocalTtl());
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(config.getLocalMaxSize())
+                .expireAfterWrite(localTtl)
+                .build();
+        this.idByOAuth = Caffeine.newBuilder()
+                .maximumSize(config.getLocalMaxSize())
+                .expireAfterWrite(localTtl)
+                .build();
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(EVICT_CHANNEL));
+    }
+
+    /**
+     * ID로 사용자 조회 (캐시 미스 시 loader로 DB 조회)
+     *
+     * @param userId 사용자 ID
+     * @param loader DB 조회 함수
+     * @return 사용자 정보
+     */
+    public Optional<UserModel> getById(Long userId, Supplier<Optional<UserModel>> loader) {
+        UserModel local = byId.getIfPresent(userId);
+        if (local != null) {
+            return Optional.of(local);
+        }
+
+        UserModel shared = readRedis(ID_KEY_PREFIX + userId);
+        if (shared != null) {
+            putLocal(shared);
+            return Optional.of(shared);
+        }
+
+        Optional<UserModel> loaded = loader.get();
+        loaded.ifPresent(userModel -> fill(userModel, false));
+        return loaded;
+    }
+
+    /**
+     * OAuth 제공자와 OAuth ID로 사용자 조회 (캐시 미스 시 loader로 DB 조회)
+     *
+     * @param oauthProvider OAuth 제공자 (KAKAO, NAVER, GOOGLE)
+     * @param oauthId       OAuth ID
+     * @param loader        DB 조회 함수
+     * @return 사용자 정보
+     */
+    public Optional<UserModel> getByOAuth(String oauthProvider, String oauthId, Supplier<Optional<UserModel>> loader) {
+        String oauthKey = oauthKey(oauthProvider, oauthId);
+
+        Long userId = idByOAuth.getIfPresent(oauthKey);
+        if (userId != null) {
+            UserModel local = byId.getIfPresent(userId);
+            if (local != null) {
+                return Optional.of(local);
+            }
+        }
+
+        UserModel shared = readRedis(OAUTH_KEY_PREFIX + oauthKey);
+        if (shared != null) {
+            putLocal(shared);
+            return Optional.of(shared);
+        }
+
+        Optional<UserModel> loaded = loader.get();
+        loaded.ifPresent(userModel -> fill(userModel, false));
+        return loaded;
+    }
+
+    /**
+     * 변경된 사용자 정보로 캐시 갱신 (로컬 + Redis) 및 다른 인스턴스의 로컬 캐시 무효화
+     *
+     * @param userModel 최신 사용자 정보
+     */
+    public void put(UserModel userModel) {
+        fill(userModel, true);
+
+        if (!config.isRedisEnabled()) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(EVICT_CHANNEL, nodeId + "|" + userModel.getId());
+        } catch (Exception e) {
+            log.warn("[User Cache] 무효화 전파 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 로컬 캐시에서 제거
+     *
+     * @param userId 사용자 ID
+     */
+    public void evictLocal(Long userId) {
+        UserModel removed = byId.getIfPresent(userId);
+        byId.invalidate(userId);
+        if (removed != null) {
+            idByOAuth.invalidate(oauthKey(removed.getOauthProvider(), removed.getOauthId()));
+        }
+    }
+
+    /**
+     * 다른 인스턴스의 무효화 메시지 수신 (형식: {nodeId}|{userId})
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('|');
+        if (separator <= 0 || body.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+        try {
+            evictLocal(Long.parseLong(body.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("[User Cache] 잘못된 무효화 메시지: {}", body);
+        }
+    }
+
+    // 두 단계 모두 채움 (무효화 전파는 put에서만)
+    // overwrite=false(DB 조회 결과)면 Redis에 이미 있는 값(저장 직후의 최신 값일 수 있음)은 덮어쓰지 않음
+    private void fill(UserModel userModel, boolean overwrite) {
+        if (overwrite) {
+            putLocal(userModel);
+        } else if (byId.asMap().putIfAbsent(userModel.getId(), userModel) == null) {
+            idByOAuth.put(oauthKey(userModel.getOauthProvider(), userModel.getOauthId()), userModel.getId());
+        }
+
+        if (!config.isRedisEnabled()) {
+            return;
+        }
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(userModel);
+            byte[] idKey = (ID_KEY_PREFIX + userModel.getId()).getBytes(StandardCharsets.UTF_8);
+            byte[] oauthKey = (OAUTH_KEY_PREFIX + oauthKey(userModel.getOauthProvider(), userModel.getOauthId()))
+                    .getBytes(StandardCharsets.UTF_8);
+            Expiration ttl = Expiration.milliseconds(config.getRedisTtl());
+            RedisStringCommands.SetOption option = overwrite
+                    ? RedisStringCommands.SetOption.upsert()
+                    : RedisStringCommands.SetOption.ifAbsent();
+
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.stringCommands().set(idKey, json, ttl, option);
+                connection.stringCommands().set(oauthKey, json, ttl, option);
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("[User Cache] Redis 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private void putLocal(UserModel userModel) {
+        byId.put(userModel.getId(), userModel);
+        idByOAuth.put(oauthKey(userModel.getOauthProvider(), userModel.getOauthId()), userModel.getId());
+    }
+
+    private UserModel readRedis(String key) {
+        if (!config.isRedisEnabled()) {
+            return null;
+        }
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            return json != null ? objectMapper.readValue(json, UserModel.class) : null;
+        } catch (Exception e) {
+            // Redis 장애 시 DB 조회로 대체
+            log.warn("[User Cache] Redis 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String oauthKey(String oauthProvider, String oauthId) {
+        return oauthProvider + ":" + oauthId;
+    }
+}
@@ -0,0 +1,55 @@
+package kr.ai.kjun.api.services.userservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 캐시 설정
+ * application.yaml의 user-cache.* 값을 읽어옴
+ */
+@Component
+@ConfigurationProperties(prefix = "user-cache")
+public class UserCacheConfig {
+
+    // 로컬(JVM) 캐시 최대 개수
+    private long localMaxSize = 10_000;
+    // 로컬 캐시 유지 시간 (ms) - 다른 인스턴스의 변경이 전파되지 않았을 때 최대 지연
+    private long localTtl = 60_000;
+    // Redis 공유 캐시 사용 여부
+    private boolean redisEnabled = true;
+    // Redis 캐시 유지 시간 (ms)
+    private long redisTtl = 1_800_000;
+
+    // Getters and Setters
+    public long getLocalMaxSize() {
+        return localMaxSize;
+    }
+
+    public void setLocalMaxSize(long localMaxSize) {
+        this.localMaxSize = localMaxSize;
+    }
+
+    public long getLocalTtl() {
+        return localTtl;
+    }
+
+    public void setLocalTtl(long localTtl) {
+        this.localTtl = localTtl;
+    }
+
+    public boolean isRedisEnabled() {
+        return redisEnabled;
+    }
+
+    public void setRedisEnabled(boolean redisEnabled) {
+        this.redisEnabled = redisEnabled;
+    }
+
+    public long getRedisTtl() {
+        return redisTtl;
+    }
+
+    public void setRedisTtl(long redisTtl) {
+        this.redisTtl = redisTtl;
+    }
+}
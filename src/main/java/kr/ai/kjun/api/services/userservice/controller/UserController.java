@@ -36,12 +36,12 @@ public class UserController {
 
         try {
             User.OAuthProvider oauthProvider = User.OAuthProvider.valueOf(provider.toUpperCase());
-            Optional<User> userOpt = userService.findByOAuthProviderAndOAuthId(oauthProvider, oauthId);
+            Optional<UserModel> userOpt = userService.findModelByOAuth(oauthProvider, oauthId);
 
             if (userOpt.isPresent()) {
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", true);
-                response.put("user", toModel(userOpt.get()));
+                response.put("user", userOpt.get());
                 return ResponseEntity.ok(response);
             } else {
                 Map<String, Object> response = new HashMap<>();
@@ -82,7 +82,7 @@ public class UserController {
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("user", toModel(savedUser));
+            response.put("user", UserModel.from(savedUser));
             return ResponseEntity.ok(response);
         } catch (IllegalArgumentException e) {
             Map<String, Object> response = new HashMap<>();
@@ -103,12 +103,12 @@ public class UserController {
      */
     @GetMapping("/{userId}")
     public ResponseEntity<Map<String, Object>> findById(@PathVariable Long userId) {
-        Optional<User> userOpt = userService.findById(userId);
+        Optional<UserModel> userOpt = userService.findModelById(userId);
 
         if (userOpt.isPresent()) {
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("user", toModel(userOpt.get()));
+            response.put("user", userOpt.get());
             return ResponseEntity.ok(response);
         } else {
             Map<String, Object> response = new HashMap<>();
@@ -117,24 +117,4 @@ public class UserController {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
         }
     }
-
-    /**
-     * User 엔티티를 UserModel로 변환
-     * 
-     * @param user User 엔티티
-     * @return UserModel
-     */
-    private UserModel toModel(User user) {
-        return UserModel.builder()
-                .id(user.getId())
-                .email(user.getEmail())
-                .oauthProvider(user.getOauthProvider().name())
-                .oauthId(user.getOauthId())
-                .nickname(user.getNickname())
-                .profileImageUrl(user.getProfileImageUrl())
-                .role(user.getRole().name())
-                .createdAt(user.getCreatedAt())
-                .updatedAt(user.getUpdatedAt())
-                .build();
-    }
 }
@@ -1,5 +1,6 @@
 package kr.ai.kjun.api.services.userservice.model;
 
+import kr.ai.kjun.api.services.userservice.entity.User;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -27,4 +28,24 @@ public class UserModel {
     private String role; // USER, ADMIN
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    /**
+     * User 엔티티를 UserModel로 변환
+     * 
+     * @param user User 엔티티
+     * @return UserModel
+     */
+    public static UserModel from(User user) {
+        return UserModel.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .oauthProvider(user.getOauthProvider().name())
+                .oauthId(user.getOauthId())
+                .nickname(user.getNickname())
+                .profileImageUrl(user.getProfileImageUrl())
+                .role(user.getRole().name())
+                .createdAt(user.getCreatedAt())
+                .updatedAt(user.getUpdatedAt())
+                .build();
+    }
 }
@@ -26,4 +26,23 @@ public interface UserRepositoryCustom {
      * @return 사용자 정보
      */
     Optional<User> findByEmailCustom(String email);
+
+    /**
+     * OAuth 로그인 사용자 저장 또는 업데이트 (단일 SQL 문)
+     * (oauth_provider, oauth_id)가 이미 있으면 업데이트, 없으면 새로 생성
+     * 이메일/닉네임/프로필 이미지가 바뀌지 않았으면 쓰기를 생략
+     * 
+     * @param oauthProvider   OAuth 제공자
+     * @param oauthId         OAuth ID
+     * @param email           이메일
+     * @param nickname        닉네임
+     * @param profileImageUrl 프로필 이미지 URL (null이면 기존 값 유지)
+     * @return 저장된 사용자 정보
+     */
+    User upsertByOAuth(
+            User.OAuthProvider oauthProvider,
+            String oauthId,
+            String email,
+            String nickname,
+            String profileImageUrl);
 }
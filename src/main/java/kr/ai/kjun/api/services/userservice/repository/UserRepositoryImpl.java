@@ -1,10 +1,12 @@
 package kr.ai.kjun.api.services.userservice.repository;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
 import kr.ai.kjun.api.services.userservice.entity.User;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -17,6 +19,35 @@ import java.util.Optional;
 @Repository
 public class UserRepositoryImpl implements UserRepositoryCustom {
 
+    /**
+     * PostgreSQL upsert (INSERT ... ON CONFLICT ... DO UPDATE ... RETURNING)
+     * - 변경 사항이 없으면 DO UPDATE의 WHERE 조건으로 쓰기를 생략
+     * - 쓰기를 생략한 경우 RETURNING이 비므로, 같은 문장 안에서 기존 행을 SELECT하여 항상 한 행을 반환
+     */
+    private static final String UPSERT_SQL = """
+            WITH upserted AS (
+                INSERT INTO users (email, oauth_provider, oauth_id, nickname, profile_image_url, role, created_at, updated_at)
+                VALUES (CAST(:email AS VARCHAR), CAST(:oauthProvider AS VARCHAR), CAST(:oauthId AS VARCHAR),
+                        CAST(:nickname AS VARCHAR), CAST(:profileImageUrl AS VARCHAR), 'USER', LOCALTIMESTAMP, LOCALTIMESTAMP)
+                ON CONFLICT (oauth_provider, oauth_id) DO UPDATE SET
+                    email = EXCLUDED.email,
+                    nickname = EXCLUDED.nickname,
+                    profile_image_url = COALESCE(EXCLUDED.profile_image_url, users.profile_image_url),
+                    updated_at = EXCLUDED.updated_at
+                WHERE users.email IS DISTINCT FROM EXCLUDED.email
+                   OR users.nickname IS DISTINCT FROM EXCLUDED.nickname
+                   OR (EXCLUDED.profile_image_url IS NOT NULL
+                       AND users.profile_image_url IS DISTINCT FROM EXCLUDED.profile_image_url)
+                RETURNING *
+            )
+            SELECT * FROM upserted
+            UNION ALL
+            SELECT * FROM users
+            WHERE oauth_provider = CAST(:oauthProvider AS VARCHAR)
+              AND oauth_id = CAST(:oauthId AS VARCHAR)
+              AND NOT EXISTS (SELECT 1 FROM upserted)
+            """;
+
     private final EntityManager entityManager;
 
     public UserRepositoryImpl(EntityManager entityManager) {
@@ -64,4 +95,42 @@ public class UserRepositoryImpl implements UserRepositoryCustom {
             return Optional.empty();
         }
     }
+
+    /**
+     * OAuth 로그인 사용자 저장 또는 업데이트 (단일 SQL 문, DB 왕복 1회)
+     * 
+     * @param oauthProvider   OAuth 제공자
+     * @param oauthId         OAuth ID
+     * @param email           이메일
+     * @param nickname        닉네임
+     * @param profileImageUrl 프로필 이미지 URL (null이면 기존 값 유지)
+     * @return 저장된 사용자 정보
+     */
+    @Override
+    public User upsertByOAuth(
+            User.OAuthProvider oauthProvider,
+            String oauthId,
+            String email,
+            String nickname,
+            String profileImageUrl) {
+
+        Query query = entityManager.createNativeQuery(UPSERT_SQL, User.class);
+        query.setParameter("email", email);
+        query.setParameter("oauthProvider", oauthProvider.name());
+        query.setParameter("oauthId", oauthId);
+        query.setParameter("nickname", nickname);
+        query.setParameter("profileImageUrl", profileImageUrl);
+
+        @SuppressWarnings("unchecked")
+        List<User> result = query.getResultList();
+        if (!result.isEmpty()) {
+            return result.get(0);
+        }
+
+        // 동시 첫 로그인에서 다른 트랜잭션이 먼저 INSERT했고 변경 사항이 없던 경우:
+        // 그 행은 이 문장의 스냅샷에 보이지 않으므로 한 번 더 조회
+        return findByOauthProviderAndOauthIdCustom(oauthProvider, oauthId)
+                .orElseThrow(() -> new IllegalStateException(
+                        "사용자 upsert 결과를 찾을 수 없습니다: " + oauthProvider + "/" + oauthId));
+    }
 }
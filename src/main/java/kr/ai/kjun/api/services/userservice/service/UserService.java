@@ -1,6 +1,7 @@
 package kr.ai.kjun.api.services.userservice.service;
 
 import kr.ai.kjun.api.services.userservice.entity.User;
+import kr.ai.kjun.api.services.userservice.model.UserModel;
 
 import java.util.Optional;
 
@@ -44,4 +45,22 @@ public interface UserService {
      * @return 사용자 정보 (없으면 Optional.empty())
      */
     Optional<User> findById(Long userId);
+
+    /**
+     * 사용자 ID로 사용자 조회 (캐시 우선)
+     * 로컬 캐시 -> Redis -> DB 순서로 조회
+     * 
+     * @param userId 사용자 ID
+     * @return 사용자 정보 (없으면 Optional.empty())
+     */
+    Optional<UserModel> findModelById(Long userId);
+
+    /**
+     * OAuth 제공자와 OAuth ID로 사용자 조회 (캐시 우선)
+     * 
+     * @param oauthProvider OAuth 제공자
+     * @param oauthId       OAuth ID
+     * @return 사용자 정보 (없으면 Optional.empty())
+     */
+    Optional<UserModel> findModelByOAuth(User.OAuthProvider oauthProvider, String oauthId);
 }
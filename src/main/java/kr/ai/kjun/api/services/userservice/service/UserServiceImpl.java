@@ -1,11 +1,17 @@
 package kr.ai.kjun.api.services.userservice.service;
 
+import kr.ai.kjun.api.metrics.StageMetrics;
+import kr.ai.kjun.api.services.userservice.cache.UserModelCache;
 import kr.ai.kjun.api.services.userservice.entity.User;
+import kr.ai.kjun.api.services.userservice.model.UserModel;
 import kr.ai.kjun.api.services.userservice.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Locale;
 import java.util.Optional;
 
 /**
@@ -17,6 +23,8 @@ import java.util.Optional;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final UserModelCache userModelCache;
+    private final StageMetrics stageMetrics;
 
     /**
      * OAuth 제공자와 OAuth ID로 사용자 조회
@@ -50,28 +58,23 @@ public class UserServiceImpl implements UserService {
             String nickname,
             String profileImageUrl) {
 
-        Optional<User> existingUser = userRepository.findByOauthProviderAndOauthId(oauthProvider, oauthId);
+        // INSERT ... ON CONFLICT DO UPDATE 한 문장으로 처리 (DB 왕복 1회, 동시 첫 로그인에도 중복 키 오류 없음)
+        User savedUser = stageMetrics.record("db.upsert", oauthProvider.name().toLowerCase(Locale.ROOT),
+                () -> userRepository.upsertByOAuth(oauthProvider, oauthId, email, nickname, profileImageUrl));
 
-        if (existingUser.isPresent()) {
-            // 기존 사용자 업데이트
-            User user = existingUser.get();
-            user.setEmail(email);
-            user.setNickname(nickname);
-            if (profileImageUrl != null) {
-                user.setProfileImageUrl(profileImageUrl);
-            }
-            return userRepository.save(user);
+        // 커밋이 끝난 뒤에 캐시 갱신 (롤백된 값이 캐시에 남지 않도록)
+        UserModel savedModel = UserModel.from(savedUser);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userModelCache.put(savedModel);
+                }
+            });
         } else {
-            // 새 사용자 생성
-            User newUser = new User();
-            newUser.setOauthProvider(oauthProvider);
-            newUser.setOauthId(oauthId);
-            newUser.setEmail(email);
-            newUser.setNickname(nickname);
-            newUser.setProfileImageUrl(profileImageUrl);
-            newUser.setRole(User.UserRole.USER);
-            return userRepository.save(newUser);
+            userModelCache.put(savedModel);
         }
+        return savedUser;
     }
 
     /**
@@ -84,4 +87,28 @@ public class UserServiceImpl implements UserService {
     public Optional<User> findById(Long userId) {
         return userRepository.findById(userId);
     }
+
+    /**
+     * 사용자 ID로 사용자 조회 (캐시 우선)
+     * 
+     * @param userId 사용자 ID
+     * @return 사용자 정보 (없으면 Optional.empty())
+     */
+    @Override
+    public Optional<UserModel> findModelById(Long userId) {
+        return userModelCache.getById(userId, () -> userRepository.findById(userId).map(UserModel::from));
+    }
+
+    /**
+     * OAuth 제공자와 OAuth ID로 사용자 조회 (캐시 우선)
+     * 
+     * @param oauthProvider OAuth 제공자
+     * @param oauthId       OAuth ID
+     * @return 사용자 정보 (없으면 Optional.empty())
+     */
+    @Override
+    public Optional<UserModel> findModelByOAuth(User.OAuthProvider oauthProvider, String oauthId) {
+        return userModelCache.getByOAuth(oauthProvider.name(), oauthId,
+                () -> userRepository.findByOauthProviderAndOauthId(oauthProvider, oauthId).map(UserModel::from));
+    }
 }
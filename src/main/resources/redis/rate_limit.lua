@@ -0,0 +1,33 @@
+-- 토큰 버킷 Rate Limit (여러 개를 한 번에 받아갈 수 있음)
+-- KEYS[1]: rate:{route}:{scope}:{id} (Hash: tokens, ts)
+-- ARGV[1]: 버킷 크기
+-- ARGV[2]: 보충 시간 (ms, 이 시간 동안 버킷 크기만큼 보충)
+-- ARGV[3]: 요청 토큰 수 (lease)
+-- 반환: { 받은 토큰 수, 다음 토큰까지 대기 시간(ms, 받은 토큰이 없을 때만) }
+local capacity = tonumber(ARGV[1])
+local windowMs = tonumber(ARGV[2])
+local requested = tonumber(ARGV[3])
+local rate = capacity / windowMs
+
+-- 인스턴스 간 시계 차이를 피하기 위해 Redis 서버 시각 사용
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(state[1]) or capacity
+local ts = tonumber(state[2]) or now
+if now > ts then
+    tokens = math.min(capacity, tokens + (now - ts) * rate)
+    ts = now
+end
+
+local granted = math.min(requested, math.floor(tokens))
+tokens = tokens - granted
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(ts))
+redis.call('PEXPIRE', KEYS[1], windowMs)
+
+local retryAfter = 0
+if granted == 0 then
+    retryAfter = math.ceil((1 - tokens) / rate)
+end
+return { granted, retryAfter }
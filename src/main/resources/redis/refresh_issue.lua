@@ -0,0 +1,43 @@
+-- Refresh Token 패밀리 발급 (로그인 시 기기 하나 추가)
+-- KEYS[1]: auth:refresh:{userId} (Hash, field: deviceId, value: {현재}|{직전}|{교체 시각}|{만료 시각})
+-- KEYS[2]: auth:gen:{userId} (사용자의 토큰 세대, Access Token 발급에 사용하므로 같은 왕복에서 함께 읽음)
+-- ARGV[1]: deviceId
+-- ARGV[2]: 새 토큰
+-- ARGV[3]: 현재 시각 (ms)
+-- ARGV[4]: TTL (ms)
+-- ARGV[5]: 사용자당 최대 기기 수
+-- 반환: { 기기 수 제한으로 제거된 기기 수, 토큰 세대 (키가 없으면 0) }
+local now = tonumber(ARGV[3])
+local ttl = tonumber(ARGV[4])
+local maxDevices = tonumber(ARGV[5])
+
+-- 이전 형식(단일 문자열 키)은 Hash로 대체
+if redis.call('TYPE', KEYS[1]).ok == 'string' then
+    redis.call('DEL', KEYS[1])
+end
+
+-- 만료된 기기 정리
+local live = {}
+local entries = redis.call('HGETALL', KEYS[1])
+for i = 1, #entries, 2 do
+    local expiresAt = tonumber(string.match(entries[i + 1], '|(%d+)$'))
+    if not expiresAt or expiresAt <= now then
+        redis.call('HDEL', KEYS[1], entries[i])
+    else
+        live[#live + 1] = { entries[i], expiresAt }
+    end
+end
+
+-- 제한을 넘으면 만료가 가장 가까운(가장 오래 갱신되지 않은) 기기부터 제거
+local evicted = 0
+if #live >= maxDevices then
+    table.sort(live, function(a, b) return a[2] < b[2] end)
+    for i = 1, #live - maxDevices + 1 do
+        redis.call('HDEL', KEYS[1], live[i][1])
+        evicted = evicted + 1
+    end
+end
+
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[2] .. '||0|' .. (now + ttl))
+redis.call('PEXPIRE', KEYS[1], ttl)
+return { evicted, tonumber(redis.call('GET', KEYS[2])) or 0 }
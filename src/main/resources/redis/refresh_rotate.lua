@@ -0,0 +1,58 @@
+-- Refresh Token 원자적 교체 (기기별 패밀리)
+-- KEYS[1]: auth:refresh:{userId} (Hash, field: deviceId, value: {현재}|{직전}|{교체 시각}|{만료 시각})
+-- KEYS[2]: auth:gen:{userId} (사용자의 토큰 세대, 교체 성공 시 Access Token 발급에 사용하므로 같은 왕복에서 함께 읽음)
+-- ARGV[1]: deviceId
+-- ARGV[2]: 클라이언트가 제시한 토큰 (이전 형식이면 문자열 키에 저장된 토큰 전체)
+-- ARGV[3]: 새 토큰
+-- ARGV[4]: 현재 시각 (ms)
+-- ARGV[5]: TTL (ms)
+-- ARGV[6]: 직전 토큰 재제시 유예 시간 (ms)
+-- ARGV[7]: 1이면 이전 형식(단일 문자열 키) 토큰 -> 일치 시 Hash로 옮기며 교체
+-- 반환: { 결과, 토큰 세대 (교체 성공 시에만 조회, 그 외 0) }
+--   결과: 1 = 교체 성공, 0 = 없음/만료/불일치, -1 = 재사용 감지(기기 패밀리 폐기), -2 = 동시 교체(유예 시간 내 직전 토큰)
+local now = tonumber(ARGV[4])
+local ttl = tonumber(ARGV[5])
+local newValue = ARGV[3] .. '|' .. ARGV[2] .. '|' .. now .. '|' .. (now + ttl)
+
+local function rotated()
+    return { 1, tonumber(redis.call('GET', KEYS[2])) or 0 }
+end
+
+if ARGV[7] == '1' then
+    if redis.call('TYPE', KEYS[1]).ok ~= 'string' or redis.call('GET', KEYS[1]) ~= ARGV[2] then
+        return { 0, 0 }
+    end
+    redis.call('DEL', KEYS[1])
+    redis.call('HSET', KEYS[1], ARGV[1], newValue)
+    redis.call('PEXPIRE', KEYS[1], ttl)
+    return rotated()
+end
+
+if redis.call('TYPE', KEYS[1]).ok ~= 'hash' then
+    return { 0, 0 }
+end
+local stored = redis.call('HGET', KEYS[1], ARGV[1])
+if not stored then
+    return { 0, 0 }
+end
+
+local current, previous, rotatedAt, expiresAt = string.match(stored, '^([^|]*)|([^|]*)|(%d+)|(%d+)$')
+if not current or tonumber(expiresAt) <= now then
+    redis.call('HDEL', KEYS[1], ARGV[1])
+    return { 0, 0 }
+end
+
+if current == ARGV[2] then
+    redis.call('HSET', KEYS[1], ARGV[1], newValue)
+    -- 방금 갱신한 필드의 만료가 가장 늦으므로 키 TTL도 그에 맞춤
+    redis.call('PEXPIRE', KEYS[1], ttl)
+    return rotated()
+end
+
+if previous == ARGV[2] and now - tonumber(rotatedAt) <= tonumber(ARGV[6]) then
+    return { -2, 0 }
+end
+
+-- 이미 교체된 토큰이 다시 제시됨 -> 탈취 가능성이 있으므로 해당 기기 패밀리 폐기
+redis.call('HDEL', KEYS[1], ARGV[1])
+return { -1, 0 }
@@ -0,0 +1,115 @@
+package kr.ai.kjun.api.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import kr.ai.kjun.api.services.oauthservice.jwt.JwtProperties;
+import kr.ai.kjun.api.services.oauthservice.jwt.TokenBlacklistService;
+import kr.ai.kjun.api.services.oauthservice.jwt.TokenGenerationService;
+import kr.ai.kjun.api.services.oauthservice.jwt.VerifiedTokenCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * JWT 인증 필터 테스트
+ * 보호 경로만 토큰을 검증하고, 그 외 경로는 토큰 관련 작업 없이 통과하는지 확인
+ */
+class JwtAuthenticationFilterTest {
+
+    private VerifiedTokenCache verifiedTokenCache;
+    private TokenBlacklistService tokenBlacklistService;
+    private TokenGenerationService tokenGenerationService;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        verifiedTokenCache = mock(VerifiedTokenCache.class);
+        tokenBlacklistService = mock(TokenBlacklistService.class);
+        tokenGenerationService = mock(TokenGenerationService.class);
+        filter = new JwtAuthenticationFilter(
+                verifiedTokenCache, tokenBlacklistService, tokenGenerationService,
+                new JwtProperties(), new ObjectMapper());
+    }
+
+    @Test
+    void unprotectedPathSkipsTokenWork() throws Exception {
+        MockHttpServletRequest request = request("/oauth/refresh", "Bearer some-token");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+        assertNull(request.getAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE));
+        verifyNoInteractions(verifiedTokenCache, tokenBlacklistService, tokenGenerationService);
+    }
+
+    @Test
+    void protectedPathWithoutTokenIsRejected() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("/oauth/logout", null), response, chain);
+
+        assertEquals(401, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void protectedPathWithRevokedTokenIsRejected() throws Exception {
+        Claims claims = Jwts.claims().add("userId", 7L).build();
+        when(verifiedTokenCache.getOrVerify("revoked")).thenReturn(claims);
+        when(tokenGenerationService.isCurrent(claims)).thenReturn(true);
+        when(tokenBlacklistService.isBlacklisted(claims)).thenReturn(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("/oauth/logout", "Bearer revoked"), response, new MockFilterChain());
+
+        assertEquals(401, response.getStatus());
+    }
+
+    @Test
+    void protectedPathWithoutUserIdClaimIsRejected() throws Exception {
+        Claims claims = Jwts.claims().subject("7").build();
+        when(verifiedTokenCache.getOrVerify("no-user")).thenReturn(claims);
+        when(tokenGenerationService.isCurrent(claims)).thenReturn(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("/oauth/logout", "Bearer no-user"), response, chain);
+
+        assertEquals(401, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void protectedPathWithValidTokenSetsUserId() throws Exception {
+        Claims claims = Jwts.claims().add("userId", 7L).build();
+        when(verifiedTokenCache.getOrVerify("valid")).thenReturn(claims);
+        when(tokenGenerationService.isCurrent(claims)).thenReturn(true);
+        MockHttpServletRequest request = request("/oauth/logout", "Bearer valid");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+        assertEquals(7L, request.getAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE));
+    }
+
+    private static MockHttpServletRequest request(String path, String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,105 @@
+package kr.ai.kjun.api.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ai.kjun.api.metrics.StageMetrics;
+import kr.ai.kjun.api.ratelimit.RateLimitProperties;
+import kr.ai.kjun.api.ratelimit.RateLimiter;
+import kr.ai.kjun.api.support.EmbeddedRedis;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Rate Limit 필터 테스트 (resources/redis/rate_limit.lua를 내장 Redis에서 실행)
+ * remote 모드처럼 한 IP에서 오는 User Service 호출 중 내부 자격 증명을 제시한 요청만 한도에서 제외되는지 확인
+ */
+class RateLimitFilterTest {
+
+    private static final String INTERNAL_TOKEN = "internal-secret";
+    private static final String OAUTH_SERVICE_IP = "10.0.0.10";
+
+    private static EmbeddedRedis redis;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redis = new EmbeddedRedis();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redis.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.flushAll();
+    }
+
+    @Test
+    void internalCallerFromSharedIpIsNotLimited() throws Exception {
+        RateLimitFilter filter = newFilter(INTERNAL_TOKEN);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(200, call(filter, INTERNAL_TOKEN));
+        }
+    }
+
+    @Test
+    void otherCallersFromSameIpAreStillLimited() throws Exception {
+        RateLimitFilter filter = newFilter(INTERNAL_TOKEN);
+        call(filter, INTERNAL_TOKEN);
+
+        assertEquals(200, call(filter, null));
+        assertEquals(200, call(filter, "wrong-secret"));
+        assertEquals(429, call(filter, null));
+    }
+
+    @Test
+    void emptyInternalTokenDisablesExemption() throws Exception {
+        RateLimitFilter filter = newFilter("");
+
+        assertEquals(200, call(filter, ""));
+        assertEquals(200, call(filter, ""));
+        assertEquals(429, call(filter, ""));
+    }
+
+    private static int call(RateLimitFilter filter, String internalToken) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/7");
+        request.setRemoteAddr(OAUTH_SERVICE_IP);
+        if (internalToken != null) {
+            request.addHeader(RateLimitFilter.INTERNAL_TOKEN_HEADER, internalToken);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response.getStatus();
+    }
+
+    private static RateLimitFilter newFilter(String internalToken) {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(2);
+        limit.setWindowMs(60_000);
+
+        RateLimitProperties.Route route = new RateLimitProperties.Route();
+        route.setPatterns(List.of("/api/users/**"));
+        route.setPerIp(limit);
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setInternalToken(internalToken);
+        properties.getRoutes().put("users", route);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RateLimiter rateLimiter = new RateLimiter(
+                redis.redisTemplate(), properties, new StageMetrics(meterRegistry), meterRegistry);
+        return new RateLimitFilter(rateLimiter, new ObjectMapper());
+    }
+}
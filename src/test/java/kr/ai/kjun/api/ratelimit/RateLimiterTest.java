@@ -0,0 +1,162 @@
+package kr.ai.kjun.api.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ai.kjun.api.metrics.StageMetrics;
+import kr.ai.kjun.api.support.EmbeddedRedis;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Redis 토큰 버킷 Rate Limiter 테스트 (resources/redis/rate_limit.lua를 내장 Redis에서 실행)
+ */
+class RateLimiterTest {
+
+    private static final String ROUTE = "test";
+
+    private static EmbeddedRedis redis;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redis = new EmbeddedRedis();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redis.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.flushAll();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void allowsUpToCapacityThenDenies() {
+        RateLimiter rateLimiter = newRateLimiter(redis.redisTemplate(), 3, 60_000, 1);
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(rateLimiter.tryAcquire(ROUTE, RateLimiter.SCOPE_IP, "10.0.0.1").allowed());
+        }
+        RateLimiter.Decision denied = rateLimiter.tryAcquire(ROUTE, RateLimiter.SCOPE_IP, "10.0.0.1");
+
+        assertFalse(denied.allowed());
+        assertTrue(denied.retryAfterMillis() > 0);
+        assertTrue(denied.retryAfterSeconds() >= 1);
+    }
+
+    @Test
+    void keysHaveIndependentBuckets() {
+        RateLimiter rateLimiter = newRateLimiter(redis.redisTemplate(), 1, 60_000, 1);
+
+        assertTrue(rateLimiter.tryAcquire(ROUTE, RateLimiter.SCOPE_USER, "1:device-a").allowed());
+        assertFalse(rateLimiter.tryAcquire(ROUTE, RateLimiter.SCOPE_USER, "1:device-a").allowed());
+
+        assertTrue(rateLimiter.tryAcquire(ROUTE, RateLimiter.SCOPE_USER, "1:device-b").allowed());
+    }
+
+    @Test
+    void leasedTokensAreConsumedLocally() {
+        RateLimiter rateLimiter = newRateLimiter(redis.redisTemplate(), 10, 60_000, 5);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(rateLimiter.tryAcquire(ROUTE, RateLimiter.SCOPE_IP, "10.0.0.2").allowed());
+        }
+
+        // 첫 요청이 5개를 받아가고 나머지 4건은 Redis 없이 처리
+        Object tokens = redis.redisTemplate().opsForHash().get("rate:" + ROUTE + ":ip:10.0.0.2", "tokens");
+        assertEquals(5.0, Double.parseDouble((String) tokens), 0.01);
+    }
+
+    @Test
+    void repeatedDenialIsAnsweredLocally() {
+        RateLimiter rateLimiter = newRateLimiter(redis.redisTemplate(), 1, 60_000, 1);
+        rateLimiter.tryAcquire(ROUTE, RateLimiter.SCOPE_IP, "10.0.0.3");
+
+        assertFalse(rateLimiter.tryAcquire(ROUTE, RateLimiter.SCOPE_IP, "10.0.0.3").allowed());
+        assertFalse(rateLimiter.tryAcquire(ROUTE, RateLimiter.SCOPE_IP, "10.0.0.3").allowed());
+
+        assertEquals(1.0, rejected("redis"));
+        assertEquals(1.0, rejected("local"));
+    }
+
+    @Test
+    void refillsOverWindow() throws InterruptedException {
+        RateLimiter rateLimiter = newRateLimiter(redis.redisTemplate(), 2, 200, 1);
+        rateLimiter.tryAcquire(ROUTE, RateLimiter.SCOPE_IP, "10.0.0.4");
+        rateLimiter.tryAcquire(ROUTE, RateLimiter.SCOPE_IP, "10.0.0.4");
+        RateLimiter.Decision denied = rateLimiter.tryAcquire(ROUTE, RateLimiter.SCOPE_IP, "10.0.0.4");
+        assertFalse(denied.allowed());
+
+        // 200ms에 2개 보충 -> 약 100ms 후 1개
+        Thread.sleep(denied.retryAfterMillis() + 20);
+
+        assertTrue(rateLimiter.tryAcquire(ROUTE, RateLimiter.SCOPE_IP, "10.0.0.4").allowed());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void allowsWhenRedisIsUnavailable() {
+        RedisTemplate<String, String> failing = mock(RedisTemplate.class);
+        when(failing.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        RateLimiter rateLimiter = newRateLimiter(failing, 1, 60_000, 1);
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(rateLimiter.tryAcquire(ROUTE, RateLimiter.SCOPE_IP, "10.0.0.5").allowed());
+        }
+    }
+
+    @Test
+    void unknownRouteOrMissingIdIsAllowed() {
+        RateLimiter rateLimiter = newRateLimiter(redis.redisTemplate(), 1, 60_000, 1);
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(rateLimiter.tryAcquire("unknown", RateLimiter.SCOPE_IP, "10.0.0.6").allowed());
+            assertTrue(rateLimiter.tryAcquire(ROUTE, RateLimiter.SCOPE_USER, null).allowed());
+        }
+    }
+
+    private RateLimiter newRateLimiter(
+            RedisTemplate<String, String> redisTemplate,
+            int capacity,
+            long windowMs,
+            int leaseSize) {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(capacity);
+        limit.setWindowMs(windowMs);
+        limit.setLeaseSize(leaseSize);
+
+        RateLimitProperties.Route route = new RateLimitProperties.Route();
+        route.setPatterns(List.of("/test/**"));
+        route.setPerIp(limit);
+        route.setPerUser(limit);
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getRoutes().put(ROUTE, route);
+        return new RateLimiter(redisTemplate, properties, new StageMetrics(meterRegistry), meterRegistry);
+    }
+
+    private double rejected(String tier) {
+        return meterRegistry.counter("rate.limit.rejected",
+                "route", ROUTE, "scope", RateLimiter.SCOPE_IP, "tier", tier).count();
+    }
+}
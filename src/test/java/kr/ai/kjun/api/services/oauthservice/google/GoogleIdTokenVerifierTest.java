@@ -0,0 +1,170 @@
+package kr.ai.kjun.api.services.oauthservice.google;
+
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ai.kjun.api.metrics.StageMetrics;
+import kr.ai.kjun.api.services.oauthservice.config.GoogleConfig;
+import kr.ai.kjun.api.services.oauthservice.google.dto.GoogleUserInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 구글 id_token 로컬 검증 테스트
+ * 구글 JWKS 대신 로컬 HTTP 서버가 테스트 키를 제공
+ */
+class GoogleIdTokenVerifierTest {
+
+    private static final String CLIENT_ID = "test-client.apps.googleusercontent.com";
+    private static final String ISSUER = "https://accounts.google.com";
+
+    private final KeyPair currentKey = Jwts.SIG.RS256.keyPair().build();
+    private final KeyPair rotatedKey = Jwts.SIG.RS256.keyPair().build();
+    private final AtomicInteger jwksRequests = new AtomicInteger();
+
+    private volatile String jwksJson;
+    private HttpServer server;
+    private GoogleIdTokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        jwksJson = jwks(jwk("key-1", currentKey));
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/certs", exchange -> {
+            jwksRequests.incrementAndGet();
+            byte[] body = jwksJson.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("Cache-Control", "public, max-age=300, must-revalidate");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        GoogleConfig googleConfig = new GoogleConfig();
+        googleConfig.setClientId(CLIENT_ID);
+        googleConfig.getIdToken().setEnabled(true);
+        googleConfig.getIdToken().setJwksUrl("http://localhost:" + server.getAddress().getPort() + "/certs");
+        googleConfig.getIdToken().setMinRefreshInterval(0);
+
+        GoogleJwksProvider jwksProvider = new GoogleJwksProvider(
+                new RestTemplate(), googleConfig, new StageMetrics(new SimpleMeterRegistry()));
+        verifier = new GoogleIdTokenVerifier(googleConfig, jwksProvider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void verifiesIdTokenAndMapsClaims() {
+        GoogleUserInfo userInfo = verifier.verify(idToken("key-1", currentKey, CLIENT_ID, 3600));
+
+        assertEquals("109876543210", userInfo.getId());
+        assertEquals("user@example.com", userInfo.getEmail());
+        assertEquals(Boolean.TRUE, userInfo.getVerifiedEmail());
+        assertEquals("홍길동", userInfo.getName());
+        assertEquals("https://example.com/photo.png", userInfo.getPicture());
+    }
+
+    @Test
+    void cachesJwksWithinMaxAge() {
+        verifier.verify(idToken("key-1", currentKey, CLIENT_ID, 3600));
+        verifier.verify(idToken("key-1", currentKey, CLIENT_ID, 3600));
+
+        assertEquals(1, jwksRequests.get());
+    }
+
+    @Test
+    void refetchesJwksForUnknownKeyId() {
+        verifier.verify(idToken("key-1", currentKey, CLIENT_ID, 3600));
+        jwksJson = jwks(jwk("key-1", currentKey), jwk("key-2", rotatedKey));
+
+        GoogleUserInfo userInfo = verifier.verify(idToken("key-2", rotatedKey, CLIENT_ID, 3600));
+
+        assertEquals("109876543210", userInfo.getId());
+        assertEquals(2, jwksRequests.get());
+    }
+
+    @Test
+    void rejectsTokenForAnotherAudience() {
+        String idToken = idToken("key-1", currentKey, "other-client", 3600);
+
+        JwtException e = assertThrows(JwtException.class, () -> verifier.verify(idToken));
+        assertTrue(e.getMessage().contains("aud"));
+    }
+
+    @Test
+    void rejectsTokenSignedWithUnpublishedKey() {
+        String idToken = idToken("key-1", rotatedKey, CLIENT_ID, 3600);
+
+        assertThrows(JwtException.class, () -> verifier.verify(idToken));
+    }
+
+    @Test
+    void rejectsExpiredToken() {
+        String idToken = idToken("key-1", currentKey, CLIENT_ID, -3600);
+
+        assertThrows(JwtException.class, () -> verifier.verify(idToken));
+    }
+
+    private static String idToken(String keyId, KeyPair keyPair, String audience, long expiresInSeconds) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .header().keyId(keyId).and()
+                .issuer(ISSUER)
+                .audience().add(audience).and()
+                .subject("109876543210")
+                .claim("email", "user@example.com")
+                .claim("email_verified", true)
+                .claim("name", "홍길동")
+                .claim("picture", "https://example.com/photo.png")
+                .issuedAt(Date.from(now.minusSeconds(Math.max(-expiresInSeconds, 0) + 60)))
+                .expiration(Date.from(now.plusSeconds(expiresInSeconds)))
+                .signWith(keyPair.getPrivate(), Jwts.SIG.RS256)
+                .compact();
+    }
+
+    private static String jwks(String... keys) {
+        return "{\"keys\":[" + String.join(",", keys) + "]}";
+    }
+
+    private static String jwk(String keyId, KeyPair keyPair) {
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        return """
+                {"kty":"RSA","alg":"RS256","use":"sig","kid":"%s","n":"%s","e":"%s"}"""
+                .formatted(keyId, base64Url(publicKey.getModulus()), base64Url(publicKey.getPublicExponent()));
+    }
+
+    // JWK의 n, e는 부호 바이트 없는 big-endian Base64URL
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,183 @@
+package kr.ai.kjun.api.services.oauthservice.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ai.kjun.api.metrics.StageMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 블랙리스트 로컬 캐시 테스트
+ * 시작 시 적재, pub/sub 메시지 반영, 준비된 뒤의 로컬 조회,
+ * 준비 상태(구독/재동기화 실패 시 해제)와 크기 제한으로 밀려난 항목의 Redis 재확인
+ */
+class BlacklistNearCacheTest {
+
+    private RedisTemplate<String, String> redisTemplate;
+    private ValueOperations<String, String> valueOps;
+    private RedisMessageListenerContainer listenerContainer;
+    private JwtProperties jwtProperties;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        valueOps = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(mock(Cursor.class));
+        listenerContainer = mock(RedisMessageListenerContainer.class);
+        when(listenerContainer.isListening()).thenReturn(true);
+
+        jwtProperties = new JwtProperties();
+        jwtProperties.setExpiration(3_600_000L);
+        jwtProperties.getBlacklist().setBloomFilterEnabled(false);
+    }
+
+    @Test
+    void readyAfterInitialSync() {
+        BlacklistNearCache nearCache = newNearCache();
+        assertFalse(nearCache.isReady());
+
+        nearCache.warmUp();
+
+        assertTrue(nearCache.isReady());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void initialSyncLoadsRedisEntries() {
+        Cursor<String> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenReturn(true, false);
+        when(cursor.next()).thenReturn(TokenBlacklistService.BLACKLIST_PREFIX + "revoked");
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.<Object>of(60_000L));
+        BlacklistNearCache nearCache = newNearCache();
+
+        nearCache.warmUp();
+
+        assertTrue(nearCache.contains("revoked"));
+    }
+
+    @Test
+    void appliesPublishedEntries() {
+        BlacklistNearCache nearCache = newNearCache();
+        long expiresAt = System.currentTimeMillis() + 60_000;
+
+        nearCache.onMessage(message("revoked|" + expiresAt), null);
+        nearCache.onMessage(message("expired|" + (System.currentTimeMillis() - 1)), null);
+        nearCache.onMessage(message("malformed"), null);
+
+        assertTrue(nearCache.contains("revoked"));
+        assertFalse(nearCache.contains("expired"));
+    }
+
+    @Test
+    void answersLocallyOnceReady() {
+        BlacklistNearCache nearCache = newNearCache();
+        nearCache.warmUp();
+        nearCache.add("revoked", System.currentTimeMillis() + 60_000);
+        TokenBlacklistService blacklistService = newBlacklistService(nearCache);
+
+        assertTrue(blacklistService.isBlacklisted(claims("revoked")));
+        assertFalse(blacklistService.isBlacklisted(claims("active")));
+        verify(valueOps, never()).get(anyString());
+    }
+
+    @Test
+    void usesRedisBeforeInitialSync() {
+        BlacklistNearCache nearCache = newNearCache();
+        when(valueOps.get(anyString())).thenReturn("true");
+        TokenBlacklistService blacklistService = newBlacklistService(nearCache);
+
+        assertTrue(blacklistService.isBlacklisted(claims("revoked")));
+    }
+
+    @Test
+    void failedResyncClearsReady() {
+        BlacklistNearCache nearCache = newNearCache();
+        nearCache.warmUp();
+
+        when(redisTemplate.scan(any(ScanOptions.class))).thenThrow(new RedisConnectionFailureException("down"));
+        nearCache.resync();
+
+        assertFalse(nearCache.isReady());
+    }
+
+    @Test
+    void lostSubscriptionClearsReadyUntilRecovered() {
+        BlacklistNearCache nearCache = newNearCache();
+        nearCache.warmUp();
+
+        when(listenerContainer.isListening()).thenReturn(false);
+        nearCache.checkSubscription();
+        assertFalse(nearCache.isReady());
+
+        when(listenerContainer.isListening()).thenReturn(true);
+        nearCache.checkSubscription();
+        assertTrue(nearCache.isReady());
+    }
+
+    @Test
+    void fallsBackToRedisAfterSizeEviction() throws InterruptedException {
+        jwtProperties.getBlacklist().setNearCacheMaxSize(10);
+        BlacklistNearCache nearCache = newNearCache();
+        nearCache.warmUp();
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        for (int i = 0; i < 100; i++) {
+            nearCache.add("jti-" + i, expiresAt);
+        }
+        // Caffeine은 크기 제한 정리를 비동기로 수행
+        for (int i = 0; i < 100 && nearCache.isComplete(); i++) {
+            Thread.sleep(20);
+        }
+        assertFalse(nearCache.isComplete());
+
+        when(valueOps.get(anyString())).thenReturn("true");
+        TokenBlacklistService blacklistService = newBlacklistService(nearCache);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(blacklistService.isBlacklisted(claims("jti-" + i)));
+        }
+    }
+
+    private BlacklistNearCache newNearCache() {
+        return new BlacklistNearCache(redisTemplate, listenerContainer, jwtProperties,
+                new RevokedTokenBloomFilter(jwtProperties, new SimpleMeterRegistry()));
+    }
+
+    private TokenBlacklistService newBlacklistService(BlacklistNearCache nearCache) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        return new TokenBlacklistService(redisTemplate, jwtProperties, mock(JwtTokenCodec.class), nearCache,
+                new StageMetrics(meterRegistry), meterRegistry);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(TokenBlacklistService.BLACKLIST_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Claims claims(String jti) {
+        return Jwts.claims().id(jti).subject("1").build();
+    }
+}
@@ -0,0 +1,185 @@
+package kr.ai.kjun.api.services.oauthservice.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ai.kjun.api.metrics.StageMetrics;
+import kr.ai.kjun.api.support.EmbeddedRedis;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 기기별 Refresh Token 패밀리 테스트
+ * (resources/redis/refresh_issue.lua, refresh_rotate.lua와 일괄 삭제 파이프라인을 내장 Redis에서 실행)
+ */
+class RefreshTokenServiceTest {
+
+    private static final Long USER_ID = 7L;
+    private static final String KEY = "auth:refresh:" + USER_ID;
+
+    private static EmbeddedRedis redis;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redis = new EmbeddedRedis();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redis.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.flushAll();
+    }
+
+    @Test
+    void rotatesIssuedTokenOnce() {
+        RefreshTokenService service = newService(5, 10_000);
+        String issued = service.generateAndSaveRefreshToken(USER_ID);
+
+        String rotated = service.rotateRefreshToken(USER_ID, issued);
+
+        assertNotNull(rotated);
+        assertEquals(deviceId(issued), deviceId(rotated));
+        assertTrue(service.validateRefreshToken(USER_ID, rotated));
+        assertFalse(service.validateRefreshToken(USER_ID, issued));
+    }
+
+    @Test
+    void previousTokenWithinGraceIsRejectedWithoutDroppingFamily() {
+        RefreshTokenService service = newService(5, 10_000);
+        String issued = service.generateAndSaveRefreshToken(USER_ID);
+        String rotated = service.rotateRefreshToken(USER_ID, issued);
+
+        // 동시 요청으로 보고 거절만 함
+        assertNull(service.rotateRefreshToken(USER_ID, issued));
+        assertTrue(service.validateRefreshToken(USER_ID, rotated));
+    }
+
+    @Test
+    void reusedTokenAfterGraceDropsFamily() throws InterruptedException {
+        RefreshTokenService service = newService(5, 0);
+        String other = service.generateAndSaveRefreshToken(USER_ID);
+        String issued = service.generateAndSaveRefreshToken(USER_ID);
+        String rotated = service.rotateRefreshToken(USER_ID, issued);
+        Thread.sleep(5);
+
+        assertNull(service.rotateRefreshToken(USER_ID, issued));
+
+        // 재사용된 기기 패밀리만 폐기되고 다른 기기는 유지
+        assertFalse(service.validateRefreshToken(USER_ID, rotated));
+        assertNull(service.rotateRefreshToken(USER_ID, rotated));
+        assertTrue(service.validateRefreshToken(USER_ID, other));
+    }
+
+    @Test
+    void unknownSecretIsRejected() {
+        RefreshTokenService service = newService(5, 10_000);
+        String issued = service.generateAndSaveRefreshToken(USER_ID);
+        String forged = deviceId(issued) + ".not-the-secret";
+
+        assertNull(service.rotateRefreshToken(USER_ID, forged));
+        assertNull(service.rotateRefreshToken(USER_ID, "missing-device.secret"));
+    }
+
+    @Test
+    void evictsOldestDeviceOverLimit() throws InterruptedException {
+        RefreshTokenService service = newService(2, 10_000);
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            tokens.add(service.generateAndSaveRefreshToken(USER_ID));
+            // 만료 시각으로 오래된 기기를 고르므로 발급 시각을 구분
+            Thread.sleep(2);
+        }
+
+        assertEquals(2L, redis.redisTemplate().opsForHash().size(KEY));
+        assertFalse(service.validateRefreshToken(USER_ID, tokens.get(0)));
+        assertTrue(service.validateRefreshToken(USER_ID, tokens.get(1)));
+        assertTrue(service.validateRefreshToken(USER_ID, tokens.get(2)));
+    }
+
+    @Test
+    void revokeDeviceRemovesOnlyThatDevice() {
+        RefreshTokenService service = newService(5, 10_000);
+        String phone = service.generateAndSaveRefreshToken(USER_ID);
+        String laptop = service.generateAndSaveRefreshToken(USER_ID);
+
+        service.revokeDevice(USER_ID, phone);
+
+        assertFalse(service.validateRefreshToken(USER_ID, phone));
+        assertTrue(service.validateRefreshToken(USER_ID, laptop));
+
+        service.deleteRefreshToken(USER_ID);
+
+        assertFalse(service.validateRefreshToken(USER_ID, laptop));
+        assertFalse(redis.redisTemplate().hasKey(KEY));
+    }
+
+    @Test
+    void legacyTokenMigratesToDeviceFamily() {
+        RefreshTokenService service = newService(5, 10_000);
+        redis.redisTemplate().opsForValue().set(KEY, "legacy-token");
+
+        String rotated = service.rotateRefreshToken(USER_ID, "legacy-token");
+
+        assertNotNull(rotated);
+        assertTrue(rotated.indexOf('.') > 0);
+        assertTrue(service.validateRefreshToken(USER_ID, rotated));
+        // 옮긴 뒤에는 이전 형식 토큰으로 다시 교체할 수 없음
+        assertNull(service.rotateRefreshToken(USER_ID, "legacy-token"));
+    }
+
+    @Test
+    void issueAndRotateReadCurrentGeneration() {
+        RefreshTokenService service = newService(5, 10_000);
+        RefreshTokenService.IssuedRefreshToken issued = service.issueRefreshToken(USER_ID);
+        assertEquals(0L, issued.generation());
+
+        redis.redisTemplate().opsForValue().set(TokenGenerationService.GENERATION_PREFIX + USER_ID, "3");
+        RefreshTokenService.IssuedRefreshToken rotated = service.rotate(USER_ID, issued.refreshToken());
+
+        assertEquals(3L, rotated.generation());
+        assertTrue(service.validateRefreshToken(USER_ID, rotated.refreshToken()));
+        assertNull(service.rotate(USER_ID, issued.refreshToken()));
+    }
+
+    @Test
+    void deletesRefreshTokensInBatches() {
+        RefreshTokenService service = newService(5, 10_000);
+        service.generateAndSaveRefreshToken(1L);
+        service.generateAndSaveRefreshToken(3L);
+
+        Map<Long, Boolean> results = service.deleteRefreshTokens(List.of(1L, 2L, 3L, 1L));
+
+        assertEquals(Map.of(1L, true, 2L, false, 3L, true), results);
+        assertEquals(List.of(1L, 2L, 3L), new ArrayList<>(results.keySet()));
+        assertFalse(redis.redisTemplate().hasKey("auth:refresh:1"));
+        assertFalse(redis.redisTemplate().hasKey("auth:refresh:3"));
+    }
+
+    // 토큰 형식: {deviceId}.{secret}
+    private static String deviceId(String refreshToken) {
+        return refreshToken.substring(0, refreshToken.indexOf('.'));
+    }
+
+    private static RefreshTokenService newService(int maxDevices, long reuseGraceMs) {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.getRefreshFamily().setMaxDevices(maxDevices);
+        jwtProperties.getRefreshFamily().setReuseGraceMs(reuseGraceMs);
+        return new RefreshTokenService(
+                redis.redisTemplate(), jwtProperties, new StageMetrics(new SimpleMeterRegistry()));
+    }
+}
@@ -0,0 +1,49 @@
+package kr.ai.kjun.api.services.oauthservice.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 블랙리스트 Bloom 필터 테스트
+ */
+class RevokedTokenBloomFilterTest {
+
+    private final RevokedTokenBloomFilter bloomFilter = new RevokedTokenBloomFilter(
+            jwtProperties(), new SimpleMeterRegistry());
+
+    @Test
+    void containsEveryAddedJti() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        for (int i = 0; i < 1000; i++) {
+            bloomFilter.put("jti-" + i, expiresAt);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(bloomFilter.mightContain("jti-" + i));
+        }
+    }
+
+    @Test
+    void rejectsJtiThatWasNeverAdded() {
+        bloomFilter.put("revoked", System.currentTimeMillis() + 60_000);
+
+        assertFalse(bloomFilter.mightContain("active"));
+    }
+
+    @Test
+    void ignoresAlreadyExpiredToken() {
+        bloomFilter.put("expired", System.currentTimeMillis() - 1);
+
+        assertFalse(bloomFilter.mightContain("expired"));
+    }
+
+    private static JwtProperties jwtProperties() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setExpiration(3_600_000L);
+        jwtProperties.getBlacklist().setBloomExpectedInsertions(10_000);
+        return jwtProperties;
+    }
+}
@@ -0,0 +1,147 @@
+package kr.ai.kjun.api.services.oauthservice.jwt;
+
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ai.kjun.api.metrics.StageMetrics;
+import kr.ai.kjun.api.support.EmbeddedRedis;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 블랙리스트 일괄 추가 테스트 (파이프라인 SET + PUBLISH를 내장 Redis에서 실행)
+ */
+class TokenBlacklistServiceTest {
+
+    private static final String SECRET = "test-secret-key-for-token-blacklist-service-test";
+
+    private static EmbeddedRedis redis;
+
+    private final JwtTokenCodec jwtTokenCodec = newCodec(SECRET);
+    private JwtProperties jwtProperties;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redis = new EmbeddedRedis();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redis.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.flushAll();
+        jwtProperties = new JwtProperties();
+        jwtProperties.setExpiration(3_600_000L);
+    }
+
+    @Test
+    void reportsResultPerTokenInInputOrder() {
+        BlacklistNearCache nearCache = newNearCache();
+        TokenBlacklistService service = newService(redis.redisTemplate(), nearCache);
+        List<String> tokens = List.of(
+                token(jwtTokenCodec, "jti-1", 3_600_000L),
+                token(jwtTokenCodec, "jti-expired", -60_000L),
+                "not-a-jwt",
+                token(newCodec(SECRET + "-other"), "jti-forged", 3_600_000L),
+                token(jwtTokenCodec, "jti-2", 3_600_000L));
+
+        List<RevocationResult> results = service.addAllToBlacklist(tokens);
+
+        assertEquals(List.of(
+                RevocationResult.REVOKED,
+                RevocationResult.EXPIRED,
+                RevocationResult.INVALID,
+                RevocationResult.INVALID,
+                RevocationResult.REVOKED), results);
+        assertEquals("true", redis.redisTemplate().opsForValue().get(TokenBlacklistService.BLACKLIST_PREFIX + "jti-1"));
+        assertTrue(redis.redisTemplate().getExpire(TokenBlacklistService.BLACKLIST_PREFIX + "jti-2") > 0);
+        assertTrue(nearCache.contains("jti-1"));
+        assertTrue(nearCache.contains("jti-2"));
+        assertEquals(2, redis.redisTemplate().keys(TokenBlacklistService.BLACKLIST_PREFIX + "*").size());
+    }
+
+    @Test
+    void revokesAcrossMultipleBatches() {
+        TokenBlacklistService service = newService(redis.redisTemplate(), newNearCache());
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 1_001; i++) {
+            tokens.add(token(jwtTokenCodec, "jti-" + i, 3_600_000L));
+        }
+
+        List<RevocationResult> results = service.addAllToBlacklist(tokens);
+
+        assertTrue(results.stream().allMatch(result -> result == RevocationResult.REVOKED));
+        assertEquals(1_001, redis.redisTemplate().keys(TokenBlacklistService.BLACKLIST_PREFIX + "*").size());
+    }
+
+    @Test
+    void publishesBatchToOtherInstances() throws InterruptedException {
+        TokenBlacklistService service = newService(redis.redisTemplate(), newNearCache());
+        BlacklistNearCache otherInstance = newNearCache();
+        Thread.sleep(100); // 구독 등록 대기
+
+        service.addAllToBlacklist(List.of(token(jwtTokenCodec, "jti-shared", 3_600_000L)));
+
+        for (int i = 0; i < 100 && !otherInstance.contains("jti-shared"); i++) {
+            Thread.sleep(20);
+        }
+        assertTrue(otherInstance.contains("jti-shared"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void redisFailureMarksValidTokensAsError() {
+        RedisTemplate<String, String> failingTemplate = mock(RedisTemplate.class);
+        when(failingTemplate.executePipelined(any(RedisCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+        TokenBlacklistService service = newService(failingTemplate, newNearCache());
+
+        List<RevocationResult> results = service.addAllToBlacklist(List.of(
+                token(jwtTokenCodec, "jti-1", 3_600_000L),
+                "not-a-jwt"));
+
+        assertEquals(List.of(RevocationResult.ERROR, RevocationResult.INVALID), results);
+    }
+
+    private BlacklistNearCache newNearCache() {
+        return new BlacklistNearCache(redis.redisTemplate(), redis.listenerContainer(), jwtProperties,
+                new RevokedTokenBloomFilter(jwtProperties, new SimpleMeterRegistry()));
+    }
+
+    private TokenBlacklistService newService(RedisTemplate<String, String> redisTemplate, BlacklistNearCache nearCache) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        return new TokenBlacklistService(redisTemplate, jwtProperties, jwtTokenCodec, nearCache,
+                new StageMetrics(meterRegistry), meterRegistry);
+    }
+
+    private static JwtTokenCodec newCodec(String secret) {
+        return new JwtTokenCodec(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)),
+                new StageMetrics(new SimpleMeterRegistry()));
+    }
+
+    private static String token(JwtTokenCodec codec, String jti, long expiresInMillis) {
+        long now = System.currentTimeMillis();
+        return codec.issue(Map.of("userId", 1L), jti, "1",
+                new Date(now - 120_000L), new Date(now + expiresInMillis));
+    }
+}
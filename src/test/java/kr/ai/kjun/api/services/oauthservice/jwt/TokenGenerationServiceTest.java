@@ -0,0 +1,131 @@
+package kr.ai.kjun.api.services.oauthservice.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ClaimsBuilder;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ai.kjun.api.metrics.StageMetrics;
+import kr.ai.kjun.api.support.EmbeddedRedis;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 사용자별 토큰 세대 테스트 (내장 Redis)
+ */
+class TokenGenerationServiceTest {
+
+    private static EmbeddedRedis redis;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redis = new EmbeddedRedis();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redis.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.flushAll();
+    }
+
+    @Test
+    void tokensWithoutGenerationAreCurrentUntilBump() {
+        TokenGenerationService service = newService();
+
+        assertEquals(0, service.issuingGeneration(1L));
+        assertTrue(service.isCurrent(claims(1L, null)));
+        assertTrue(service.isCurrent(claims(1L, 0L)));
+    }
+
+    @Test
+    void bumpInvalidatesEarlierGenerations() {
+        TokenGenerationService service = newService();
+
+        assertEquals(1, service.bump(1L));
+
+        assertFalse(service.isCurrent(claims(1L, 0L)));
+        assertFalse(service.isCurrent(claims(1L, null)));
+        assertTrue(service.isCurrent(claims(1L, 1L)));
+        // 다른 사용자에는 영향 없음
+        assertTrue(service.isCurrent(claims(2L, 0L)));
+    }
+
+    @Test
+    void issuanceReadsRedisEvenIfBumpMessageWasMissed() {
+        TokenGenerationService service = newService();
+        service.isCurrent(claims(1L, 0L)); // 0세대를 로컬 캐시에 적재
+
+        // 다른 인스턴스가 세대를 올렸지만 이 인스턴스는 메시지를 받지 못한 상황
+        redis.redisTemplate().opsForValue().increment(TokenGenerationService.GENERATION_PREFIX + 1);
+
+        assertEquals(1, service.issuingGeneration(1L));
+        // 발급 시 읽은 세대로 로컬 캐시도 갱신되어 이전 세대 토큰을 거부
+        assertFalse(service.isCurrent(claims(1L, 0L)));
+    }
+
+    @Test
+    void storedGenerationFromRefreshScriptUpdatesLocalCache() {
+        TokenGenerationService service = newService();
+        service.isCurrent(claims(1L, 0L)); // 0세대를 로컬 캐시에 적재
+
+        // Refresh Token 스크립트에서 함께 읽은 세대 사용 (Redis 조회 없음)
+        assertEquals(2, service.issuingGeneration(1L, 2L));
+        assertFalse(service.isCurrent(claims(1L, 1L)));
+
+        // 로컬에 이미 더 큰 세대가 반영되어 있으면 그 값을 사용
+        assertEquals(2, service.issuingGeneration(1L, 1L));
+    }
+
+    @Test
+    void bumpIsPropagatedToOtherInstances() throws InterruptedException {
+        TokenGenerationService first = newService();
+        TokenGenerationService second = newService();
+        assertTrue(second.isCurrent(claims(1L, 0L)));
+
+        first.bump(1L);
+
+        for (int i = 0; i < 100 && second.isCurrent(claims(1L, 0L)); i++) {
+            Thread.sleep(20);
+        }
+        assertFalse(second.isCurrent(claims(1L, 0L)));
+    }
+
+    @Test
+    void bumpAllIncrementsEveryUser() {
+        TokenGenerationService service = newService();
+        service.bump(1L);
+
+        Map<Long, Long> generations = service.bumpAll(List.of(1L, 2L, 3L));
+
+        assertEquals(Map.of(1L, 2L, 2L, 1L, 3L, 1L), generations);
+        assertFalse(service.isCurrent(claims(1L, 1L)));
+        assertFalse(service.isCurrent(claims(3L, 0L)));
+    }
+
+    private static TokenGenerationService newService() {
+        JwtProperties jwtProperties = new JwtProperties();
+        return new TokenGenerationService(redis.redisTemplate(), redis.listenerContainer(), jwtProperties,
+                new StageMetrics(new SimpleMeterRegistry()));
+    }
+
+    private static Claims claims(Long userId, Long generation) {
+        ClaimsBuilder builder = Jwts.claims().subject(String.valueOf(userId)).add("userId", userId);
+        if (generation != null) {
+            builder.add(TokenGenerationService.GENERATION_CLAIM, generation);
+        }
+        return builder.build();
+    }
+}
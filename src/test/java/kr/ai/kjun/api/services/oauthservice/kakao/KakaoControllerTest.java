@@ -0,0 +1,57 @@
+package kr.ai.kjun.api.services.oauthservice.kakao;
+
+import kr.ai.kjun.api.services.oauthservice.service.LoginRetryRequiredException;
+import kr.ai.kjun.api.services.oauthservice.service.OAuthLoginService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 카카오 콜백 테스트
+ * 같은 인가 코드의 중복 콜백은 실패 메시지 대신 login_retry 에러로 리다이렉트하는지 확인
+ */
+class KakaoControllerTest {
+
+    private static final String FRONTEND_URL = "https://front.example.com";
+
+    private OAuthLoginService oauthLoginService;
+    private KakaoController controller;
+
+    @BeforeEach
+    void setUp() {
+        oauthLoginService = mock(OAuthLoginService.class);
+        controller = new KakaoController(mock(KakaoService.class), oauthLoginService);
+        ReflectionTestUtils.setField(controller, "frontendLoginCallbackUrl", FRONTEND_URL);
+    }
+
+    @Test
+    void duplicateCallbackRedirectsToRetry() {
+        when(oauthLoginService.login(eq("KAKAO"), eq("used-code"), isNull(), any()))
+                .thenThrow(new LoginRetryRequiredException("KAKAO 이미 사용된 인가 코드입니다"));
+
+        ResponseEntity<?> response = controller.kakaoCallback("used-code", null);
+
+        assertEquals(302, response.getStatusCode().value());
+        assertEquals(FRONTEND_URL + "/auth/kakao/error?error=" + LoginRetryRequiredException.ERROR_CODE,
+                response.getHeaders().getFirst("Location"));
+    }
+
+    @Test
+    void otherFailuresKeepErrorMessage() {
+        when(oauthLoginService.login(eq("KAKAO"), eq("bad-code"), isNull(), any()))
+                .thenThrow(new IllegalStateException("invalid_grant"));
+
+        ResponseEntity<?> response = controller.kakaoCallback("bad-code", null);
+
+        assertEquals(FRONTEND_URL + "/auth/kakao/error?error=invalid_grant",
+                response.getHeaders().getFirst("Location"));
+    }
+}
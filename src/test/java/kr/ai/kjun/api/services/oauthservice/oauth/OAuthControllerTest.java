@@ -0,0 +1,154 @@
+package kr.ai.kjun.api.services.oauthservice.oauth;
+
+import kr.ai.kjun.api.ratelimit.RateLimiter;
+import kr.ai.kjun.api.services.oauthservice.jwt.JwtTokenProvider;
+import kr.ai.kjun.api.services.oauthservice.jwt.RefreshTokenService;
+import kr.ai.kjun.api.services.oauthservice.jwt.TokenBlacklistService;
+import kr.ai.kjun.api.services.oauthservice.jwt.TokenGenerationService;
+import kr.ai.kjun.api.services.oauthservice.service.UserManagementService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * OAuth 컨트롤러 테스트
+ * 토큰 갱신은 Refresh Token 교체를 먼저 하고 실패 응답으로 사용자 존재 여부를 드러내지 않는지,
+ * 로그아웃은 Access Token의 사용자 본인만 가능한지 확인
+ */
+class OAuthControllerTest {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private RefreshTokenService refreshTokenService;
+    private TokenBlacklistService tokenBlacklistService;
+    private UserManagementService userManagementService;
+    private OAuthController controller;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = mock(JwtTokenProvider.class);
+        refreshTokenService = mock(RefreshTokenService.class);
+        tokenBlacklistService = mock(TokenBlacklistService.class);
+        userManagementService = mock(UserManagementService.class);
+        RateLimiter rateLimiter = mock(RateLimiter.class);
+        when(rateLimiter.tryAcquire(anyString(), anyString(), anyString()))
+                .thenReturn(new RateLimiter.Decision(true, 0));
+        controller = new OAuthController(
+                jwtTokenProvider,
+                refreshTokenService,
+                tokenBlacklistService,
+                mock(TokenGenerationService.class),
+                userManagementService,
+                rateLimiter);
+    }
+
+    @Test
+    void refreshReturnsRotatedTokens() {
+        when(refreshTokenService.rotate(7L, "device.old")).thenReturn(rotated("device.new"));
+        when(userManagementService.findById(7L)).thenReturn(Map.of("email", "a@b.c", "nickname", "kim"));
+        when(jwtTokenProvider.generateToken(7L, "a@b.c", "kim", 2L)).thenReturn("access");
+
+        ResponseEntity<Map<String, Object>> response = controller.refreshToken(Map.of(
+                "userId", 7,
+                "refreshToken", "device.old"));
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals("access", response.getBody().get("token"));
+        assertEquals("device.new", response.getBody().get("refreshToken"));
+    }
+
+    @Test
+    void invalidRefreshTokenIsRejectedBeforeUserLookup() {
+        when(refreshTokenService.rotate(7L, "device.wrong")).thenReturn(null);
+
+        ResponseEntity<Map<String, Object>> response = controller.refreshToken(Map.of(
+                "userId", 7,
+                "refreshToken", "device.wrong"));
+
+        assertEquals(401, response.getStatusCode().value());
+        verifyNoInteractions(userManagementService, jwtTokenProvider);
+    }
+
+    @Test
+    void unknownUserGetsSameResponseAndDiscardsRotatedToken() {
+        when(refreshTokenService.rotate(7L, "device.wrong")).thenReturn(null);
+        Map<String, Object> invalidToken = controller.refreshToken(Map.of(
+                "userId", 7,
+                "refreshToken", "device.wrong")).getBody();
+
+        when(refreshTokenService.rotate(7L, "device.old")).thenReturn(rotated("device.new"));
+        when(userManagementService.findById(7L)).thenThrow(new IllegalStateException("not found"));
+        ResponseEntity<Map<String, Object>> response = controller.refreshToken(Map.of(
+                "userId", 7,
+                "refreshToken", "device.old"));
+
+        assertEquals(401, response.getStatusCode().value());
+        assertEquals(invalidToken, response.getBody());
+        verify(refreshTokenService).revokeDevice(7L, "device.new");
+        verifyNoInteractions(jwtTokenProvider);
+    }
+
+    @Test
+    void failedAccessTokenDiscardsRotatedToken() {
+        when(refreshTokenService.rotate(7L, "device.old")).thenReturn(rotated("device.new"));
+        when(userManagementService.findById(7L)).thenReturn(Map.of("email", "a@b.c", "nickname", "kim"));
+        when(jwtTokenProvider.generateToken(7L, "a@b.c", "kim", 2L)).thenThrow(new IllegalStateException("redis down"));
+
+        assertThrows(IllegalStateException.class, () -> controller.refreshToken(Map.of(
+                "userId", 7,
+                "refreshToken", "device.old")));
+
+        verify(refreshTokenService).revokeDevice(7L, "device.new");
+    }
+
+    @Test
+    void refreshSignsWithGenerationReadDuringRotation() {
+        when(refreshTokenService.rotate(7L, "device.old")).thenReturn(rotated("device.new"));
+        when(userManagementService.findById(7L)).thenReturn(Map.of("email", "a@b.c", "nickname", "kim"));
+
+        controller.refreshToken(Map.of(
+                "userId", 7,
+                "refreshToken", "device.old"));
+
+        verify(jwtTokenProvider).generateToken(7L, "a@b.c", "kim", 2L);
+        verify(jwtTokenProvider, never()).generateToken(anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    void logoutRevokesDeviceOfAuthenticatedUser() {
+        ResponseEntity<Map<String, Object>> response = controller.logout(7L, Map.of(
+                "userId", 7,
+                "accessToken", "access",
+                "refreshToken", "device.secret"));
+
+        assertEquals(200, response.getStatusCode().value());
+        verify(refreshTokenService).revokeDevice(7L, "device.secret");
+        verify(tokenBlacklistService).addToBlacklist("access");
+    }
+
+    @Test
+    void logoutForAnotherUserIsForbidden() {
+        ResponseEntity<Map<String, Object>> response = controller.logout(7L, Map.of(
+                "userId", 8,
+                "refreshToken", "device.secret"));
+
+        assertEquals(403, response.getStatusCode().value());
+        verify(refreshTokenService, never()).deleteRefreshToken(anyLong());
+        verifyNoInteractions(tokenBlacklistService);
+    }
+
+    private static RefreshTokenService.IssuedRefreshToken rotated(String refreshToken) {
+        return new RefreshTokenService.IssuedRefreshToken(refreshToken, 2L);
+    }
+}
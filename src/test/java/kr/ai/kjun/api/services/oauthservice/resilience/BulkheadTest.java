@@ -0,0 +1,108 @@
+package kr.ai.kjun.api.services.oauthservice.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ai.kjun.api.services.oauthservice.config.BulkheadProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 제공자별 동시 호출 제한 테스트 (허용 수, 대기열, 대기 시간 초과)
+ */
+class BulkheadTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BulkheadProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new BulkheadProperties();
+        properties.setMaxConcurrentCalls(2);
+        properties.setMaxQueue(1);
+        properties.setMaxWait(50);
+    }
+
+    @Test
+    void rejectsAfterMaxWaitWhenPermitsAreTaken() {
+        Bulkhead bulkhead = new Bulkhead("kakao", properties, meterRegistry);
+        bulkhead.acquire();
+        bulkhead.acquire();
+
+        long startNanos = System.nanoTime();
+        assertThrows(BulkheadFullException.class, bulkhead::acquire);
+
+        assertTrue(System.nanoTime() - startNanos >= TimeUnit.MILLISECONDS.toNanos(40));
+        assertEquals(2.0, gauge("provider.bulkhead.in_flight"));
+        assertEquals(1.0, rejected());
+    }
+
+    @Test
+    void queuedCallProceedsWhenPermitIsReleased() throws Exception {
+        properties.setMaxConcurrentCalls(1);
+        properties.setMaxWait(5_000);
+        Bulkhead bulkhead = new Bulkhead("kakao", properties, meterRegistry);
+        bulkhead.acquire();
+
+        CompletableFuture<Void> waiting = CompletableFuture.runAsync(bulkhead::acquire);
+        for (int i = 0; i < 100 && gauge("provider.bulkhead.queued") < 1; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(1.0, gauge("provider.bulkhead.queued"));
+        bulkhead.release();
+
+        waiting.get(5, TimeUnit.SECONDS);
+        assertEquals(0.0, gauge("provider.bulkhead.queued"));
+        assertEquals(1.0, gauge("provider.bulkhead.in_flight"));
+        assertEquals(0.0, rejected());
+    }
+
+    @Test
+    void rejectsImmediatelyWhenQueueIsFull() throws Exception {
+        properties.setMaxConcurrentCalls(1);
+        properties.setMaxWait(5_000);
+        Bulkhead bulkhead = new Bulkhead("kakao", properties, meterRegistry);
+        bulkhead.acquire();
+        CompletableFuture<Void> waiting = CompletableFuture.runAsync(bulkhead::acquire);
+        for (int i = 0; i < 100 && gauge("provider.bulkhead.queued") < 1; i++) {
+            Thread.sleep(10);
+        }
+
+        // 대기열(1)이 가득 찼으므로 max-wait를 기다리지 않고 거부
+        long startNanos = System.nanoTime();
+        assertThrows(BulkheadFullException.class, bulkhead::acquire);
+        assertTrue(System.nanoTime() - startNanos < TimeUnit.SECONDS.toNanos(1));
+        assertEquals(1.0, rejected());
+
+        bulkhead.release();
+        waiting.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void releaseReturnsPermit() {
+        Bulkhead bulkhead = new Bulkhead("kakao", properties, meterRegistry);
+        for (int i = 0; i < 10; i++) {
+            bulkhead.acquire();
+            bulkhead.release();
+        }
+
+        bulkhead.acquire();
+        bulkhead.acquire();
+        assertEquals(2.0, gauge("provider.bulkhead.in_flight"));
+        assertEquals(0.0, rejected());
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).tag("provider", "kakao").gauge().value();
+    }
+
+    private double rejected() {
+        return meterRegistry.get("provider.bulkhead.rejected").tag("provider", "kakao").counter().count();
+    }
+}
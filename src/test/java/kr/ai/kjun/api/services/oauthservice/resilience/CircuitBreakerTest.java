@@ -0,0 +1,159 @@
+package kr.ai.kjun.api.services.oauthservice.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ai.kjun.api.services.oauthservice.config.ProviderResilienceConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 제공자 Circuit Breaker 상태 전이 테스트
+ */
+class CircuitBreakerTest {
+
+    private static final long OPEN_DURATION_MS = 100;
+
+    private ProviderResilienceConfig.CircuitBreaker config;
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        config = new ProviderResilienceConfig.CircuitBreaker();
+        config.setWindowSize(10);
+        config.setMinimumCalls(4);
+        config.setFailureRateThreshold(50);
+        config.setOpenDuration(OPEN_DURATION_MS);
+        config.setHalfOpenCalls(2);
+        breaker = new CircuitBreaker("kakao", "token", config, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void staysClosedBelowMinimumCalls() {
+        for (int i = 0; i < 3; i++) {
+            fail();
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void opensWhenFailureRateReachesThreshold() {
+        succeed();
+        succeed();
+        fail();
+        fail();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertThrows(CircuitOpenException.class, this::succeed);
+    }
+
+    @Test
+    void clientErrorsCountAsSuccessExceptTooManyRequests() {
+        for (int i = 0; i < 4; i++) {
+            assertThrows(HttpClientErrorException.class,
+                    () -> breaker.execute(() -> {
+                        throw HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "bad", null, null, null);
+                    }));
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(HttpClientErrorException.class,
+                    () -> breaker.execute(() -> {
+                        throw HttpClientErrorException.create(
+                                HttpStatus.TOO_MANY_REQUESTS, "slow down", null, null, null);
+                    }));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void halfOpensAfterOpenDurationAndClosesOnSuccessfulTrials() throws InterruptedException {
+        open();
+        Thread.sleep(OPEN_DURATION_MS + 20);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        succeed();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        succeed();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void reopensWhenTrialCallFails() throws InterruptedException {
+        open();
+        Thread.sleep(OPEN_DURATION_MS + 20);
+
+        fail();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertThrows(CircuitOpenException.class, this::succeed);
+    }
+
+    @Test
+    void halfOpenAllowsOnlyConfiguredTrialCalls() throws InterruptedException {
+        open();
+        Thread.sleep(OPEN_DURATION_MS + 20);
+
+        // 시험 호출 2건이 끝나기 전에 들어온 3번째 호출은 거부
+        breaker.execute(() -> {
+            breaker.execute(() -> {
+                assertThrows(CircuitOpenException.class, this::succeed);
+                return null;
+            });
+            return null;
+        });
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void bulkheadRejectionReturnsTrialPermit() throws InterruptedException {
+        open();
+        Thread.sleep(OPEN_DURATION_MS + 20);
+
+        // 호출하지 못한 시험 호출은 허용 수를 돌려주고 집계하지 않음
+        for (int i = 0; i < 3; i++) {
+            assertThrows(BulkheadFullException.class, () -> breaker.execute(() -> {
+                throw new BulkheadFullException("kakao");
+            }));
+        }
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        succeed();
+        succeed();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void disabledBreakerNeverOpens() {
+        config.setEnabled(false);
+        for (int i = 0; i < 10; i++) {
+            fail();
+        }
+
+        succeed();
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            fail();
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    private void succeed() {
+        breaker.execute(() -> "ok");
+    }
+
+    private void fail() {
+        assertThrows(IllegalStateException.class, () -> breaker.execute(() -> {
+            throw new IllegalStateException("provider down");
+        }));
+    }
+}
@@ -0,0 +1,144 @@
+package kr.ai.kjun.api.services.oauthservice.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ai.kjun.api.services.oauthservice.config.ProviderResilienceConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 제공자 호출 실행기의 hedged 요청 테스트
+ * 기준 지연(최근 응답 시간 분위수)을 넘을 때만 두 번째 요청을 보내고 먼저 성공한 응답을 사용하는지 확인
+ */
+class ProviderCallExecutorTest {
+
+    private static final String PROVIDER = "kakao";
+    private static final String ENDPOINT = "userinfo";
+    private static final int MIN_SAMPLES = 5;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProviderCallExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        ProviderResilienceConfig config = new ProviderResilienceConfig();
+        config.getHedge().setPercentile(0.5);
+        config.getHedge().setMinDelay(20);
+        config.getHedge().setMaxDelay(50);
+        config.getHedge().setSampleSize(16);
+        config.getHedge().setMinSamples(MIN_SAMPLES);
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new ProviderCallExecutor(config, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void doesNotHedgeUntilEnoughSamples() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = executor.callHedged(PROVIDER, ENDPOINT, () -> {
+            attempts.incrementAndGet();
+            sleep(100);
+            return "primary";
+        });
+
+        assertEquals("primary", result);
+        assertEquals(1, attempts.get());
+        assertEquals(0.0, hedges("launched"));
+    }
+
+    @Test
+    void doesNotHedgeWhenPrimaryAnswersInTime() {
+        warmUp();
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = executor.callHedged(PROVIDER, ENDPOINT, () -> {
+            attempts.incrementAndGet();
+            return "primary";
+        });
+
+        assertEquals("primary", result);
+        assertEquals(1, attempts.get());
+        assertEquals(0.0, hedges("launched"));
+    }
+
+    @Test
+    void slowPrimaryLaunchesHedgeAndFasterResponseWins() {
+        warmUp();
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = executor.callHedged(PROVIDER, ENDPOINT, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                sleep(1000);
+                return "primary";
+            }
+            return "hedged";
+        });
+
+        assertEquals("hedged", result);
+        assertEquals(2, attempts.get());
+        assertEquals(1.0, hedges("launched"));
+        assertEquals(1.0, hedges("won"));
+    }
+
+    @Test
+    void failedHedgeFallsBackToSlowPrimary() {
+        warmUp();
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = executor.callHedged(PROVIDER, ENDPOINT, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                sleep(150);
+                return "primary";
+            }
+            throw new IllegalStateException("hedged failed");
+        });
+
+        assertEquals("primary", result);
+        assertEquals(1.0, hedges("launched"));
+        assertEquals(0.0, hedges("won"));
+    }
+
+    @Test
+    void propagatesOriginalErrorWhenBothRequestsFail() {
+        warmUp();
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> executor.callHedged(PROVIDER, ENDPOINT, () -> {
+                    sleep(100);
+                    throw new IllegalStateException("provider down");
+                }));
+
+        assertEquals("provider down", e.getMessage());
+        assertEquals(1.0, hedges("launched"));
+    }
+
+    // 분위수 계산에 필요한 응답 시간 기록 (모두 즉시 응답)
+    private void warmUp() {
+        for (int i = 0; i < MIN_SAMPLES; i++) {
+            executor.callHedged(PROVIDER, ENDPOINT, () -> "warm-up");
+        }
+    }
+
+    private double hedges(String outcome) {
+        return meterRegistry.counter("provider.hedge",
+                "provider", PROVIDER, "endpoint", ENDPOINT, "outcome", outcome).count();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package kr.ai.kjun.api.services.oauthservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ai.kjun.api.metrics.StageMetrics;
+import kr.ai.kjun.api.services.oauthservice.jwt.JwtTokenProvider;
+import kr.ai.kjun.api.services.oauthservice.jwt.RefreshTokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * OAuth 로그인 중복 요청 공유(single-flight) 테스트
+ * Redis 대신 메모리 Map을 공유하는 두 인스턴스로 인스턴스 간 공유와 재전송 차단을 확인
+ * (Map에는 만료가 없으므로 결과 만료는 결과 키를 직접 지워서 재현)
+ */
+class OAuthLoginServiceTest {
+
+    private final Map<String, String> redisStore = new ConcurrentHashMap<>();
+    private final AtomicInteger issued = new AtomicInteger();
+
+    private JwtTokenProvider jwtTokenProvider;
+    private RefreshTokenService refreshTokenService;
+    private OAuthLoginService instanceA;
+    private OAuthLoginService instanceB;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, String> valueOps = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        when(valueOps.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenAnswer(inv -> redisStore.putIfAbsent(inv.getArgument(0), inv.getArgument(1)) == null);
+        doAnswer(inv -> redisStore.put(inv.getArgument(0), inv.getArgument(1)))
+                .when(valueOps).set(anyString(), anyString(), any(Duration.class));
+        when(valueOps.get(anyString())).thenAnswer(inv -> redisStore.get(inv.getArgument(0)));
+        when(redisTemplate.delete(anyString())).thenAnswer(inv -> redisStore.remove(inv.getArgument(0)) != null);
+
+        UserManagementService userManagementService = mock(UserManagementService.class);
+        when(userManagementService.saveOrUpdateUser(anyString(), anyString(), any(), any(), any()))
+                .thenReturn(Map.of("id", 7L, "email", "user@example.com", "nickname", "홍길동"));
+        jwtTokenProvider = mock(JwtTokenProvider.class);
+        when(jwtTokenProvider.generateToken(anyLong(), any(), any(), anyLong()))
+                .thenAnswer(inv -> "access-" + issued.incrementAndGet());
+        refreshTokenService = mock(RefreshTokenService.class);
+        when(refreshTokenService.issueRefreshToken(anyLong()))
+                .thenReturn(new RefreshTokenService.IssuedRefreshToken("refresh-token", 0L));
+
+        instanceA = newService(userManagementService, jwtTokenProvider, refreshTokenService, redisTemplate);
+        instanceB = newService(userManagementService, jwtTokenProvider, refreshTokenService, redisTemplate);
+    }
+
+    @Test
+    void concurrentRequestsOnSameInstanceShareOneLogin() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger authentications = new AtomicInteger();
+        Supplier<OAuthLoginService.Identity> authenticator = () -> {
+            authentications.incrementAndGet();
+            entered.countDown();
+            await(release);
+            return identity();
+        };
+
+        CompletableFuture<OAuthLoginService.LoginResult> first = CompletableFuture.supplyAsync(
+                () -> instanceA.login("KAKAO", "code-1", null, authenticator));
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        CompletableFuture<OAuthLoginService.LoginResult> second = CompletableFuture.supplyAsync(
+                () -> instanceA.login("KAKAO", "code-1", null, authenticator));
+        release.countDown();
+
+        assertEquals(first.get(5, TimeUnit.SECONDS).accessToken(), second.get(5, TimeUnit.SECONDS).accessToken());
+        assertEquals(1, authentications.get());
+    }
+
+    @Test
+    void requestOnAnotherInstanceWaitsForInFlightLogin() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<OAuthLoginService.LoginResult> first = CompletableFuture.supplyAsync(
+                () -> instanceA.login("NAVER", "code-2", "state-2", () -> {
+                    entered.countDown();
+                    await(release);
+                    return identity();
+                }));
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<OAuthLoginService.LoginResult> second = CompletableFuture.supplyAsync(
+                () -> instanceB.login("NAVER", "code-2", "state-2", () -> {
+                    throw new AssertionError("처리 중인 로그인이 있으면 다시 인증하지 않음");
+                }));
+        Thread.sleep(100);
+        release.countDown();
+
+        OAuthLoginService.LoginResult shared = second.get(5, TimeUnit.SECONDS);
+        assertEquals(first.get(5, TimeUnit.SECONDS).accessToken(), shared.accessToken());
+        assertEquals(7L, shared.userId());
+    }
+
+    @Test
+    void storedResultIsEncrypted() {
+        OAuthLoginService.LoginResult result = instanceA.login("KAKAO", "code-3", null, this::identity);
+
+        // 처리 완료 표시 + 결과
+        assertEquals(2, redisStore.size());
+        String stored = redisStore.entrySet().stream()
+                .filter(entry -> entry.getKey().endsWith(":result"))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElseThrow();
+        assertFalse(stored.contains(result.accessToken()));
+        assertFalse(stored.contains(result.refreshToken()));
+    }
+
+    @Test
+    void completedLoginIsNotReplayedForReusedCode() {
+        instanceA.login("KAKAO", "code-4", null, this::identity);
+
+        IllegalStateException e = assertThrows(LoginRetryRequiredException.class,
+                () -> instanceB.login("KAKAO", "code-4", null, this::identity));
+        assertTrue(e.getMessage().contains("이미 사용된"));
+    }
+
+    @Test
+    void lateDuplicateAfterResultExpiryAsksForRetryWithoutProviderCall() {
+        instanceA.login("KAKAO", "code-8", null, this::identity);
+        // result-ttl-ms 경과 (완료 표시는 used-ttl-ms 동안 남음)
+        redisStore.keySet().removeIf(key -> key.endsWith(":result"));
+
+        assertThrows(LoginRetryRequiredException.class,
+                () -> instanceB.login("KAKAO", "code-8", null, () -> {
+                    throw new AssertionError("처리가 끝난 인가 코드로 제공자를 다시 호출하지 않음");
+                }));
+    }
+
+    @Test
+    void waitingDuplicateAsksForRetryWhenLoginFails() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<OAuthLoginService.LoginResult> first = CompletableFuture.supplyAsync(
+                () -> instanceA.login("GOOGLE", "code-9", null, () -> {
+                    entered.countDown();
+                    await(release);
+                    throw new IllegalStateException("invalid_grant");
+                }));
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        CompletableFuture<OAuthLoginService.LoginResult> second = CompletableFuture.supplyAsync(
+                () -> instanceB.login("GOOGLE", "code-9", null, this::identity));
+        Thread.sleep(100);
+        release.countDown();
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(LoginRetryRequiredException.class, e.getCause());
+        assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void differentStateDoesNotShareResult() {
+        OAuthLoginService.LoginResult first = instanceA.login("NAVER", "code-5", "state-a", this::identity);
+        OAuthLoginService.LoginResult second = instanceB.login("NAVER", "code-5", "state-b", this::identity);
+
+        assertFalse(first.accessToken().equals(second.accessToken()));
+        assertEquals(4, redisStore.size());
+    }
+
+    @Test
+    void refreshTokenIsRevokedWhenAccessTokenFails() {
+        when(jwtTokenProvider.generateToken(anyLong(), any(), any(), anyLong()))
+                .thenThrow(new IllegalStateException("서명 실패"));
+
+        assertThrows(IllegalStateException.class,
+                () -> instanceA.login("KAKAO", "code-6", null, this::identity));
+        verify(refreshTokenService).revokeDevice(7L, "refresh-token");
+    }
+
+    @Test
+    void serverTimingHeaderIsOmittedWithoutTimings() {
+        OAuthLoginService.LoginResult withTimings = instanceA.login("KAKAO", "code-7", null, this::identity);
+        OAuthLoginService.LoginResult withoutTimings = new OAuthLoginService.LoginResult(
+                withTimings.user(), withTimings.accessToken(), withTimings.refreshToken(), null);
+
+        assertTrue(withTimings.serverTimingHeaders().containsKey(OAuthLoginService.SERVER_TIMING_HEADER));
+        assertTrue(withoutTimings.serverTimingHeaders().isEmpty());
+    }
+
+    private static OAuthLoginService newService(
+            UserManagementService userManagementService,
+            JwtTokenProvider jwtTokenProvider,
+            RefreshTokenService refreshTokenService,
+            RedisTemplate<String, String> redisTemplate) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        return new OAuthLoginService(
+                userManagementService,
+                jwtTokenProvider,
+                refreshTokenService,
+                redisTemplate,
+                new ObjectMapper(),
+                new StageMetrics(meterRegistry),
+                meterRegistry,
+                5000,
+                15000,
+                600000,
+                5000);
+    }
+
+    private OAuthLoginService.Identity identity() {
+        return new OAuthLoginService.Identity("12345", "user@example.com", "홍길동", null);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package kr.ai.kjun.api.services.oauthservice.service;
+
+import kr.ai.kjun.api.filter.RateLimitFilter;
+import kr.ai.kjun.api.services.oauthservice.config.UserServiceConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * remote 모드 User Service 호출 테스트
+ * 모든 호출에 내부 자격 증명 헤더를 실어 User Service의 IP 기준 한도를 받지 않는지 확인
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+class RemoteUserDirectoryTest {
+
+    private RestTemplate restTemplate;
+    private UserServiceConfig userServiceConfig;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = mock(RestTemplate.class);
+        Map body = Map.of("success", true, "user", Map.of("id", 7));
+        when(restTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), eq(Map.class)))
+                .thenReturn(new ResponseEntity<>(body, HttpStatus.OK));
+        userServiceConfig = new UserServiceConfig();
+        userServiceConfig.setMode("remote");
+        userServiceConfig.setUrl("http://user-service");
+    }
+
+    @Test
+    void sendsInternalTokenOnEveryCall() {
+        userServiceConfig.setInternalToken("internal-secret");
+        RemoteUserDirectory directory = new RemoteUserDirectory(restTemplate, userServiceConfig);
+
+        directory.saveOrUpdateUser("KAKAO", "123", "a@b.c", "kim", null);
+        directory.findById(7L);
+
+        ArgumentCaptor<HttpEntity> request = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(restTemplate, times(2)).exchange(anyString(), any(HttpMethod.class), request.capture(), eq(Map.class));
+        for (HttpEntity entity : request.getAllValues()) {
+            assertEquals(List.of("internal-secret"),
+                    entity.getHeaders().get(RateLimitFilter.INTERNAL_TOKEN_HEADER));
+        }
+    }
+
+    @Test
+    void omitsHeaderWhenTokenIsNotConfigured() {
+        RemoteUserDirectory directory = new RemoteUserDirectory(restTemplate, userServiceConfig);
+
+        directory.findById(7L);
+
+        ArgumentCaptor<HttpEntity> request = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(restTemplate).exchange(anyString(), eq(HttpMethod.GET), request.capture(), eq(Map.class));
+        assertFalse(request.getValue().getHeaders().containsKey(RateLimitFilter.INTERNAL_TOKEN_HEADER));
+    }
+}
@@ -0,0 +1,123 @@
+package kr.ai.kjun.api.services.userservice.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.ai.kjun.api.services.userservice.config.UserCacheConfig;
+import kr.ai.kjun.api.services.userservice.model.UserModel;
+import kr.ai.kjun.api.support.EmbeddedRedis;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 사용자 2단계 캐시 테스트 (내장 Redis)
+ * DB 조회 결과로 채울 때 저장 직후의 최신 값을 덮어쓰지 않는지 확인
+ */
+class UserModelCacheTest {
+
+    private static EmbeddedRedis redis;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redis = new EmbeddedRedis();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redis.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.flushAll();
+    }
+
+    @Test
+    void missLoadsOnceAndFillsBothKeys() {
+        UserModelCache cache = newCache();
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.getById(1L, () -> {
+            loads.incrementAndGet();
+            return Optional.of(user(1L, "v1"));
+        });
+        Optional<UserModel> cached = cache.getByOAuth("KAKAO", "oauth-1", () -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+
+        assertEquals(1, loads.get());
+        assertEquals("v1", cached.orElseThrow().getNickname());
+        assertNotNull(redis.redisTemplate().opsForValue().get("user:cache:id:1"));
+        assertNotNull(redis.redisTemplate().opsForValue().get("user:cache:oauth:KAKAO:oauth-1"));
+    }
+
+    @Test
+    void staleLoadDoesNotOverwriteConcurrentPut() throws IOException {
+        UserModelCache reader = newCache();
+        UserModelCache writer = newCache();
+
+        // 조회가 DB에서 v1을 읽은 뒤 채우기 전에 다른 인스턴스가 v2를 저장
+        reader.getById(1L, () -> {
+            writer.put(user(1L, "v2"));
+            return Optional.of(user(1L, "v1"));
+        });
+
+        assertEquals("v2", redisNickname("user:cache:id:1"));
+        assertEquals("v2", redisNickname("user:cache:oauth:KAKAO:oauth-1"));
+        // 조회한 인스턴스도 로컬에 최신 값을 덮어쓰지 않음 (이후 조회는 Redis 값)
+        assertEquals("v2", newCache().getById(1L, Optional::empty).orElseThrow().getNickname());
+    }
+
+    @Test
+    void putOverwritesCachedValue() throws IOException {
+        UserModelCache cache = newCache();
+        cache.getById(1L, () -> Optional.of(user(1L, "v1")));
+
+        cache.put(user(1L, "v2"));
+
+        assertEquals("v2", redisNickname("user:cache:id:1"));
+        assertEquals("v2", cache.getById(1L, Optional::empty).orElseThrow().getNickname());
+    }
+
+    @Test
+    void redisTtlIsApplied() {
+        UserModelCache cache = newCache();
+        cache.getById(1L, () -> Optional.of(user(1L, "v1")));
+
+        Long ttl = redis.redisTemplate().getExpire("user:cache:id:1");
+        assertTrue(ttl != null && ttl > 0 && ttl <= 60);
+    }
+
+    private UserModelCache newCache() {
+        UserCacheConfig config = new UserCacheConfig();
+        config.setRedisTtl(60_000);
+        return new UserModelCache(redis.redisTemplate(), redis.listenerContainer(), objectMapper, config);
+    }
+
+    private String redisNickname(String key) throws IOException {
+        String json = redis.redisTemplate().opsForValue().get(key);
+        return objectMapper.readValue(json, UserModel.class).getNickname();
+    }
+
+    private static UserModel user(Long id, String nickname) {
+        return UserModel.builder()
+                .id(id)
+                .email("user@example.com")
+                .oauthProvider("KAKAO")
+                .oauthId("oauth-1")
+                .nickname(nickname)
+                .role("USER")
+                .build();
+    }
+}